@@ -84,6 +84,35 @@ tasks.test {
     useJUnitPlatform()
 }
 
+val jmh: SourceSet = sourceSets.create("jmh") {
+    compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+    runtimeClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhImplementation"("org.mockito:mockito-core:5.14.2")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the navigator JMH benchmarks. Pass -PjmhInclude=<regex> to select benchmarks."
+    dependsOn(jmh.classesTaskName)
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+    args(
+        (project.findProperty("jmhInclude") as String?) ?: "com.pathmind.execution.*",
+        "-prof", "gc",
+        "-rf", "json",
+        "-rff", resultFile.get().asFile.absolutePath
+    )
+}
+
 tasks.matching { it.name == "runClient" || it.name == "runServer" }.configureEach {
     enabled = false
     description = "Disabled for the common project; use :fabric:$name, :neoforge:$name, or the root runFabric*/runNeoForge* tasks."
@@ -0,0 +1,131 @@
+package com.pathmind.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NavigatorPlannerBenchmark {
+    @Param({"FLAT", "CAVE_MAZE", "FOREST_CANOPY", "WATER_CROSSING", "VILLAGE"})
+    public TerrainScenario scenario;
+
+    private ClientLevel level;
+    private NavigatorWorldSnapshot snapshot;
+    private PathmindPathPlanner planner;
+    private NavigatorPlanningCache warmCache;
+    private BlockPos[] samples;
+    private int sampleCursor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SearchCounters {
+        public long expansions;
+        public long movementEvaluations;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void reset() {
+            expansions = 0L;
+            movementEvaluations = 0L;
+        }
+    }
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        SyntheticLevels.bootstrap();
+        level = SyntheticLevels.levelOf(SyntheticTerrain.generate(scenario));
+        snapshot = SyntheticLevels.capture(level);
+        PathmindNavigator navigator = PathmindNavigator.getInstance();
+        navigator.reset();
+        navigator.setBlockBreakingAllowed(false);
+        navigator.setBlockPlacingAllowed(false);
+        planner = PathmindNavigator.pathPlannerForTests();
+
+        warmCache = newCache();
+        PathComputation warmPath = planner.withPlanningCache(warmCache, () -> planner.findPathCached(level, scenario.start, scenario.target));
+        List<BlockPos> sampleList = new ArrayList<>(warmPath.path());
+        if (sampleList.isEmpty()) {
+            sampleList.add(scenario.start);
+        }
+        samples = sampleList.toArray(BlockPos[]::new);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Object findPathThroughput(SearchCounters counters) {
+        NavigatorPlanningCache cache = newCache();
+        PathComputation result = planner.withPlanningCache(cache, () -> planner.findPathCached(level, scenario.start, scenario.target));
+        counters.expansions += cache.expandedNodes;
+        counters.movementEvaluations += cache.movementEvaluations;
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object findPathLatency() {
+        return planner.findPath(level, snapshot, List.of(), scenario.start, scenario.target);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object coarsePass(SearchCounters counters) {
+        NavigatorPlanningCache cache = newCache();
+        List<BlockPos> result = planner.withPlanningCache(cache, () -> planner.findCoarsePath(level, scenario.start, scenario.target));
+        counters.expansions += cache.expandedNodes;
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object neighborGeneration() {
+        BlockPos current = nextSample();
+        return planner.withPlanningCache(warmCache, () -> planner.getNeighbors(level, current, scenario.start, scenario.target));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void cacheLookups(Blackhole blackhole) {
+        BlockPos current = nextSample();
+        planner.withPlanningCache(warmCache, () -> {
+            blackhole.consume(planner.cachedBlockState(level, current));
+            blackhole.consume(planner.cachedBlockState(level, current.below()));
+            blackhole.consume(planner.isNavigableNode(level, current));
+            blackhole.consume(planner.isStandable(level, current));
+            return null;
+        });
+    }
+
+    private NavigatorPlanningCache newCache() {
+        NavigatorPlanningCache cache = new NavigatorPlanningCache(level, new NavigatorVoxelStore(), snapshot);
+        cache.regionPath = List.of();
+        return cache;
+    }
+
+    private BlockPos nextSample() {
+        BlockPos sample = samples[sampleCursor];
+        sampleCursor = (sampleCursor + 1) % samples.length;
+        return sample;
+    }
+}
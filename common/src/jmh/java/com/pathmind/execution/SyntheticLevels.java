@@ -0,0 +1,156 @@
+package com.pathmind.execution;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import net.minecraft.SharedConstants;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.IdMap;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.mockito.MockMakers;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+final class SyntheticLevels {
+    private static boolean bootstrapped;
+
+    private SyntheticLevels() {
+    }
+
+    static synchronized void bootstrap() {
+        if (bootstrapped) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+
+    /**
+     * Returns a mocked {@link ClientLevel} serving the terrain's chunks. The level only answers the calls that
+     * {@link NavigatorWorldSnapshot#capture} makes; after capture the planner reads blocks from the snapshot and uses
+     * the level as its cache key.
+     */
+    static ClientLevel levelOf(SyntheticTerrain terrain) {
+        int minChunk = SyntheticTerrain.MIN_XZ >> 4;
+        int chunksPerAxis = ((SyntheticTerrain.MIN_XZ + SyntheticTerrain.SIZE_XZ - 1) >> 4) - minChunk + 1;
+        LevelChunk[] chunks = new LevelChunk[chunksPerAxis * chunksPerAxis];
+        for (int chunkX = 0; chunkX < chunksPerAxis; chunkX++) {
+            for (int chunkZ = 0; chunkZ < chunksPerAxis; chunkZ++) {
+                chunks[chunkX * chunksPerAxis + chunkZ] = chunkOf(terrain, minChunk + chunkX, minChunk + chunkZ);
+            }
+        }
+
+        ClientLevel level = mock(ClientLevel.class, withSettings().mockMaker(MockMakers.SUBCLASS));
+        when(level.getMinSectionY()).thenReturn(SyntheticTerrain.MIN_SECTION_Y);
+        when(level.getMaxSectionY()).thenReturn(SyntheticTerrain.MAX_SECTION_Y);
+        when(level.hasChunk(anyInt(), anyInt())).thenAnswer(invocation ->
+            terrain.hasChunk(invocation.getArgument(0), invocation.getArgument(1)));
+        when(level.getChunk(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int chunkX = invocation.<Integer>getArgument(0);
+            int chunkZ = invocation.<Integer>getArgument(1);
+            return terrain.hasChunk(chunkX, chunkZ) ? chunks[(chunkX - minChunk) * chunksPerAxis + (chunkZ - minChunk)] : null;
+        });
+        return level;
+    }
+
+    /** Captures the whole terrain the same way the navigator captures the live world before async planning. */
+    static NavigatorWorldSnapshot capture(ClientLevel level) {
+        return NavigatorWorldSnapshot.capture(
+            level,
+            BlockPos.ZERO,
+            SyntheticTerrain.SIZE_XZ / 2,
+            SyntheticTerrain.MIN_SECTION_Y << 4,
+            (SyntheticTerrain.MAX_SECTION_Y << 4) + 15
+        );
+    }
+
+    private static LevelChunk chunkOf(SyntheticTerrain terrain, int chunkX, int chunkZ) {
+        LevelChunkSection[] sections = new LevelChunkSection[SyntheticTerrain.MAX_SECTION_Y - SyntheticTerrain.MIN_SECTION_Y + 1];
+        for (int sectionY = SyntheticTerrain.MIN_SECTION_Y; sectionY <= SyntheticTerrain.MAX_SECTION_Y; sectionY++) {
+            PalettedContainer<BlockState> states = newStateContainer();
+            boolean onlyAir = true;
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localY = 0; localY < 16; localY++) {
+                    for (int localZ = 0; localZ < 16; localZ++) {
+                        BlockState state = terrain.blockState((chunkX << 4) + localX, (sectionY << 4) + localY, (chunkZ << 4) + localZ);
+                        if (!state.isAir()) {
+                            states.set(localX, localY, localZ, state);
+                            onlyAir = false;
+                        }
+                    }
+                }
+            }
+            if (onlyAir) {
+                continue;
+            }
+            LevelChunkSection section = mock(LevelChunkSection.class, withSettings().mockMaker(MockMakers.SUBCLASS));
+            when(section.getStates()).thenReturn(states);
+            sections[sectionY - SyntheticTerrain.MIN_SECTION_Y] = section;
+        }
+        LevelChunk chunk = mock(LevelChunk.class, withSettings().mockMaker(MockMakers.SUBCLASS));
+        when(chunk.getSections()).thenReturn(sections);
+        return chunk;
+    }
+
+    /**
+     * Creates an empty block-state container. Its constructor takes a {@code SECTION_STATES} strategy constant before
+     * 1.21.9 and a {@code createForBlockStates} strategy afterwards, so the public constructors are matched by shape.
+     */
+    @SuppressWarnings("unchecked")
+    private static PalettedContainer<BlockState> newStateContainer() {
+        for (Constructor<?> constructor : PalettedContainer.class.getConstructors()) {
+            Object[] arguments = blockStateArguments(constructor.getParameterTypes());
+            if (arguments == null) {
+                continue;
+            }
+            try {
+                return (PalettedContainer<BlockState>) constructor.newInstance(arguments);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Unable to create a block-state container", e);
+            }
+        }
+        throw new IllegalStateException("No supported PalettedContainer constructor");
+    }
+
+    private static Object[] blockStateArguments(Class<?>[] parameterTypes) {
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (type == IdMap.class) {
+                arguments[i] = Block.BLOCK_STATE_REGISTRY;
+            } else if (type == Object.class) {
+                arguments[i] = Blocks.AIR.defaultBlockState();
+            } else if ("Strategy".equals(type.getSimpleName())) {
+                arguments[i] = blockStateStrategy(type);
+                if (arguments[i] == null) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return arguments;
+    }
+
+    private static Object blockStateStrategy(Class<?> strategyType) {
+        try {
+            return strategyType.getField("SECTION_STATES").get(null);
+        } catch (NoSuchFieldException | IllegalAccessException ignored) {
+        }
+        try {
+            return strategyType.getMethod("createForBlockStates", IdMap.class).invoke(null, Block.BLOCK_STATE_REGISTRY);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
+            return null;
+        }
+    }
+}
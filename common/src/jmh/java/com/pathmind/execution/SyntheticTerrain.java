@@ -0,0 +1,235 @@
+package com.pathmind.execution;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.DoorBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+
+/**
+ * Synthetic world used by the navigator benchmarks. {@link SyntheticLevels} exposes it as a level that the planner
+ * captures into a {@link NavigatorWorldSnapshot}, the same way it captures the live client world.
+ */
+final class SyntheticTerrain {
+    static final int MIN_XZ = -96;
+    static final int SIZE_XZ = 192;
+    static final int MIN_Y = 48;
+    static final int HEIGHT = 64;
+    static final int GROUND_Y = 64;
+    static final int MIN_SECTION_Y = -4;
+    static final int MAX_SECTION_Y = 19;
+
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    private static final BlockState STONE = Blocks.STONE.defaultBlockState();
+    private static final BlockState DIRT = Blocks.DIRT.defaultBlockState();
+    private static final BlockState GRASS = Blocks.GRASS_BLOCK.defaultBlockState();
+    private static final BlockState WATER = Blocks.WATER.defaultBlockState();
+    private static final BlockState SAND = Blocks.SAND.defaultBlockState();
+    private static final BlockState LOG = Blocks.OAK_LOG.defaultBlockState();
+    private static final BlockState LEAVES = Blocks.OAK_LEAVES.defaultBlockState();
+    private static final BlockState PLANKS = Blocks.OAK_PLANKS.defaultBlockState();
+    private static final BlockState COBBLESTONE = Blocks.COBBLESTONE.defaultBlockState();
+    private static final BlockState GRAVEL = Blocks.GRAVEL.defaultBlockState();
+    private static final BlockState FENCE = Blocks.OAK_FENCE.defaultBlockState();
+    private static final BlockState FARMLAND = Blocks.FARMLAND.defaultBlockState();
+    private static final BlockState DOOR_LOWER = Blocks.OAK_DOOR.defaultBlockState().setValue(DoorBlock.HALF, DoubleBlockHalf.LOWER);
+    private static final BlockState DOOR_UPPER = Blocks.OAK_DOOR.defaultBlockState().setValue(DoorBlock.HALF, DoubleBlockHalf.UPPER);
+
+    private final BlockState[] states = new BlockState[SIZE_XZ * HEIGHT * SIZE_XZ];
+
+    private SyntheticTerrain() {
+    }
+
+    static SyntheticTerrain generate(TerrainScenario scenario) {
+        SyntheticTerrain terrain = new SyntheticTerrain();
+        Random random = new Random(0x5EEDL + scenario.ordinal());
+        switch (scenario) {
+            case FLAT -> terrain.fillGround();
+            case CAVE_MAZE -> terrain.carveCaveMaze(random);
+            case FOREST_CANOPY -> terrain.plantForest(random);
+            case WATER_CROSSING -> terrain.cutRiver();
+            case VILLAGE -> terrain.buildVillage(random);
+        }
+        return terrain;
+    }
+
+    boolean hasChunk(int chunkX, int chunkZ) {
+        return chunkX >= MIN_XZ >> 4
+            && chunkX <= (MIN_XZ + SIZE_XZ - 1) >> 4
+            && chunkZ >= MIN_XZ >> 4
+            && chunkZ <= (MIN_XZ + SIZE_XZ - 1) >> 4;
+    }
+
+    /** Block at a position inside a loaded chunk: stone below the generated band, air above it. */
+    BlockState blockState(int x, int y, int z) {
+        int localY = y - MIN_Y;
+        if (localY < 0) {
+            return STONE;
+        }
+        if (localY >= HEIGHT) {
+            return AIR;
+        }
+        BlockState state = states[index(x - MIN_XZ, localY, z - MIN_XZ)];
+        return state == null ? AIR : state;
+    }
+
+    private void set(int x, int y, int z, BlockState state) {
+        int localX = x - MIN_XZ;
+        int localY = y - MIN_Y;
+        int localZ = z - MIN_XZ;
+        if (localX < 0 || localX >= SIZE_XZ || localY < 0 || localY >= HEIGHT || localZ < 0 || localZ >= SIZE_XZ) {
+            return;
+        }
+        states[index(localX, localY, localZ)] = state;
+    }
+
+    private void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, BlockState state) {
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    set(x, y, z, state);
+                }
+            }
+        }
+    }
+
+    private void fillGround() {
+        int max = MIN_XZ + SIZE_XZ - 1;
+        fill(MIN_XZ, MIN_Y, MIN_XZ, max, GROUND_Y - 4, max, STONE);
+        fill(MIN_XZ, GROUND_Y - 3, MIN_XZ, max, GROUND_Y - 2, max, DIRT);
+        fill(MIN_XZ, GROUND_Y - 1, MIN_XZ, max, GROUND_Y - 1, max, GRASS);
+    }
+
+    private void carveCaveMaze(Random random) {
+        int max = MIN_XZ + SIZE_XZ - 1;
+        fill(MIN_XZ, MIN_Y, MIN_XZ, max, GROUND_Y + 8, max, STONE);
+        int cells = SIZE_XZ / 4 - 1;
+        boolean[] visited = new boolean[cells * cells];
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{0, 0});
+        visited[0] = true;
+        carveCell(0, 0);
+        int[][] directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!stack.isEmpty()) {
+            int[] cell = stack.peek();
+            int start = random.nextInt(directions.length);
+            boolean advanced = false;
+            for (int i = 0; i < directions.length; i++) {
+                int[] direction = directions[(start + i) % directions.length];
+                int nextX = cell[0] + direction[0];
+                int nextZ = cell[1] + direction[1];
+                if (nextX < 0 || nextX >= cells || nextZ < 0 || nextZ >= cells || visited[nextX * cells + nextZ]) {
+                    continue;
+                }
+                visited[nextX * cells + nextZ] = true;
+                carveCell(nextX, nextZ);
+                carvePassage(cell[0], cell[1], direction[0], direction[1]);
+                stack.push(new int[]{nextX, nextZ});
+                advanced = true;
+                break;
+            }
+            if (!advanced) {
+                stack.pop();
+            }
+        }
+    }
+
+    private void carveCell(int cellX, int cellZ) {
+        int x = MIN_XZ + 2 + cellX * 4;
+        int z = MIN_XZ + 2 + cellZ * 4;
+        int floor = GROUND_Y + ((cellX + cellZ) % 3 == 0 ? 1 : 0);
+        fill(x, floor, z, x + 1, floor + 2, z + 1, AIR);
+    }
+
+    private void carvePassage(int cellX, int cellZ, int dx, int dz) {
+        int x = MIN_XZ + 2 + cellX * 4 + (dx > 0 ? 2 : dx < 0 ? -2 : 0);
+        int z = MIN_XZ + 2 + cellZ * 4 + (dz > 0 ? 2 : dz < 0 ? -2 : 0);
+        fill(x, GROUND_Y, z, x + 1, GROUND_Y + 2, z + 1, AIR);
+        fill(x, GROUND_Y + 3, z, x + 1, GROUND_Y + 3, z + 1, AIR);
+    }
+
+    private void plantForest(Random random) {
+        fillGround();
+        for (int x = MIN_XZ + 3; x < MIN_XZ + SIZE_XZ - 3; x += 5) {
+            for (int z = MIN_XZ + 3; z < MIN_XZ + SIZE_XZ - 3; z += 5) {
+                int trunkX = x + random.nextInt(3) - 1;
+                int trunkZ = z + random.nextInt(3) - 1;
+                if (Math.abs(trunkX) <= 2 && Math.abs(trunkZ) <= 2) {
+                    continue;
+                }
+                int trunkHeight = 4 + random.nextInt(3);
+                int top = GROUND_Y + trunkHeight;
+                fill(trunkX - 2, top - 2, trunkZ - 2, trunkX + 2, top, trunkZ + 2, LEAVES);
+                fill(trunkX - 1, top + 1, trunkZ - 1, trunkX + 1, top + 1, trunkZ + 1, LEAVES);
+                fill(trunkX, GROUND_Y, trunkZ, trunkX, top, trunkZ, LOG);
+            }
+        }
+    }
+
+    private void cutRiver() {
+        fillGround();
+        int max = MIN_XZ + SIZE_XZ - 1;
+        for (int x = 12; x <= 34; x++) {
+            int depth = x <= 14 || x >= 32 ? 1 : 3;
+            fill(x, GROUND_Y - 1 - depth, MIN_XZ, x, GROUND_Y - 1 - depth, max, SAND);
+            fill(x, GROUND_Y - depth, MIN_XZ, x, GROUND_Y - 1, max, WATER);
+        }
+        fill(-30, GROUND_Y - 3, -40, -10, GROUND_Y - 3, -20, SAND);
+        fill(-30, GROUND_Y - 2, -40, -10, GROUND_Y - 1, -20, WATER);
+    }
+
+    private void buildVillage(Random random) {
+        fillGround();
+        int max = MIN_XZ + SIZE_XZ - 1;
+        for (int road = MIN_XZ + 8; road < max; road += 16) {
+            fill(road, GROUND_Y - 1, MIN_XZ, road + 2, GROUND_Y - 1, max, GRAVEL);
+            fill(MIN_XZ, GROUND_Y - 1, road, max, GROUND_Y - 1, road + 2, GRAVEL);
+        }
+        for (int blockX = MIN_XZ + 11; blockX + 12 < max; blockX += 16) {
+            for (int blockZ = MIN_XZ + 11; blockZ + 12 < max; blockZ += 16) {
+                if (random.nextInt(4) == 0) {
+                    buildField(blockX, blockZ);
+                } else {
+                    buildHouse(blockX + 1 + random.nextInt(3), blockZ + 1 + random.nextInt(3), random.nextInt(4));
+                }
+            }
+        }
+    }
+
+    private void buildHouse(int minX, int minZ, int doorSide) {
+        int maxX = minX + 6;
+        int maxZ = minZ + 6;
+        fill(minX, GROUND_Y - 1, minZ, maxX, GROUND_Y - 1, maxZ, COBBLESTONE);
+        fill(minX, GROUND_Y, minZ, maxX, GROUND_Y + 2, maxZ, PLANKS);
+        fill(minX + 1, GROUND_Y, minZ + 1, maxX - 1, GROUND_Y + 2, maxZ - 1, AIR);
+        fill(minX, GROUND_Y + 3, minZ, maxX, GROUND_Y + 3, maxZ, PLANKS);
+        int doorX = switch (doorSide) {
+            case 0 -> minX;
+            case 1 -> maxX;
+            default -> minX + 3;
+        };
+        int doorZ = switch (doorSide) {
+            case 2 -> minZ;
+            case 3 -> maxZ;
+            default -> minZ + 3;
+        };
+        set(doorX, GROUND_Y, doorZ, DOOR_LOWER);
+        set(doorX, GROUND_Y + 1, doorZ, DOOR_UPPER);
+    }
+
+    private void buildField(int minX, int minZ) {
+        int maxX = minX + 11;
+        int maxZ = minZ + 11;
+        fill(minX + 1, GROUND_Y - 1, minZ + 1, maxX - 1, GROUND_Y - 1, maxZ - 1, FARMLAND);
+        fill(minX, GROUND_Y, minZ, maxX, GROUND_Y, minZ, FENCE);
+        fill(minX, GROUND_Y, maxZ, maxX, GROUND_Y, maxZ, FENCE);
+        fill(minX, GROUND_Y, minZ, minX, GROUND_Y, maxZ, FENCE);
+        fill(maxX, GROUND_Y, minZ, maxX, GROUND_Y, maxZ, FENCE);
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y * SIZE_XZ + z) * SIZE_XZ + x;
+    }
+}
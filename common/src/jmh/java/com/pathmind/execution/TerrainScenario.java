@@ -0,0 +1,19 @@
+package com.pathmind.execution;
+
+import net.minecraft.core.BlockPos;
+
+public enum TerrainScenario {
+    FLAT(new BlockPos(0, 64, 0), new BlockPos(40, 64, 28)),
+    CAVE_MAZE(new BlockPos(-94, 65, -94), new BlockPos(-54, 64, -54)),
+    FOREST_CANOPY(new BlockPos(0, 64, 0), new BlockPos(45, 64, 30)),
+    WATER_CROSSING(new BlockPos(0, 64, 0), new BlockPos(48, 64, 10)),
+    VILLAGE(new BlockPos(9, 64, 9), new BlockPos(57, 64, -39));
+
+    final BlockPos start;
+    final BlockPos target;
+
+    TerrainScenario(BlockPos start, BlockPos target) {
+        this.start = start;
+        this.target = target;
+    }
+}
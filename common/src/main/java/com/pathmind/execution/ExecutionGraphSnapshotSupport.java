@@ -13,8 +13,11 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -450,22 +453,120 @@ final class ExecutionGraphSnapshotSupport {
         final List<Node> branchNodes;
         final List<NodeConnection> branchConnections;
         final Node rootNode;
+        private final HandlerInstance instance;
 
         EventHandlerLaunchData(BranchLaunchData launchData) {
+            this(launchData, null);
+        }
+
+        EventHandlerLaunchData(HandlerInstance instance) {
+            this(instance.launchData, instance);
+        }
+
+        private EventHandlerLaunchData(BranchLaunchData launchData, HandlerInstance instance) {
             this.branchNodes = launchData.branchData.nodes;
             this.branchConnections = launchData.branchData.connections;
             this.rootNode = launchData.rootNode;
+            this.instance = instance;
+        }
+
+        /**
+         * Hands a pooled handler branch back to its template once the invocation has fully finished. A failed or
+         * cancelled run may still have command threads writing into the branch, so only clean runs are reused.
+         */
+        void finish(Throwable failure, boolean cancelled) {
+            if (instance != null && failure == null && !cancelled) {
+                instance.template.release(instance);
+            }
         }
     }
 
+    /**
+     * Compiled handler branch for one Event Function. Invocations borrow an instantiated copy from a small idle pool
+     * and only fall back to deserializing the snapshot when every copy is in use.
+     */
     static final class HandlerTemplate {
+        private static final int MAX_IDLE_INSTANCES = 4;
+
         final NodeGraphData graphSnapshot;
         final String rootNodeId;
+        private final ConcurrentLinkedQueue<HandlerInstance> idleInstances = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleInstanceCount = new AtomicInteger();
 
         HandlerTemplate(NodeGraphData graphSnapshot, String rootNodeId) {
             this.graphSnapshot = graphSnapshot;
             this.rootNodeId = rootNodeId;
         }
+
+        HandlerInstance acquire() {
+            HandlerInstance instance = idleInstances.poll();
+            if (instance != null) {
+                idleInstanceCount.decrementAndGet();
+                return instance;
+            }
+            BranchLaunchData launchData = createBranchLaunchData(graphSnapshot, rootNodeId);
+            return launchData != null ? new HandlerInstance(this, launchData) : null;
+        }
+
+        void release(HandlerInstance instance) {
+            if (instance == null || instance.template != this || !instance.reset()) {
+                return;
+            }
+            if (idleInstanceCount.incrementAndGet() > MAX_IDLE_INSTANCES) {
+                idleInstanceCount.decrementAndGet();
+                return;
+            }
+            idleInstances.offer(instance);
+        }
+    }
+
+    /**
+     * One instantiated copy of a handler branch. Execution writes resolved values back into node parameters, so the
+     * values the copy was cloned with are kept and restored, together with the node runtime state, before reuse.
+     */
+    static final class HandlerInstance {
+        final HandlerTemplate template;
+        final BranchLaunchData launchData;
+        private final String[][] pristineParameterValues;
+
+        HandlerInstance(HandlerTemplate template, BranchLaunchData launchData) {
+            this.template = template;
+            this.launchData = launchData;
+            List<Node> nodes = launchData.branchData.nodes;
+            this.pristineParameterValues = new String[nodes.size()][];
+            for (int i = 0; i < nodes.size(); i++) {
+                List<NodeParameter> parameters = nodes.get(i).getParameters();
+                String[] values = new String[parameters.size()];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = parameters.get(j).getStringValue();
+                }
+                pristineParameterValues[i] = values;
+            }
+        }
+
+        boolean reset() {
+            List<Node> nodes = launchData.branchData.nodes;
+            if (nodes.size() != pristineParameterValues.length) {
+                return false;
+            }
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                List<NodeParameter> parameters = node.getParameters();
+                String[] values = pristineParameterValues[i];
+                if (parameters.size() != values.length) {
+                    return false;
+                }
+                for (int j = 0; j < values.length; j++) {
+                    NodeParameter parameter = parameters.get(j);
+                    if (!Objects.equals(parameter.getStringValue(), values[j])) {
+                        parameter.setStringValue(values[j]);
+                    }
+                }
+                node.resetRuntimeState();
+            }
+            assignRuntimeNodeIds(nodes);
+            return true;
+        }
     }
 
     static NodeGraphData createGraphSnapshot(List<Node> nodes, List<NodeConnection> connections) {
@@ -3,6 +3,7 @@ package com.pathmind.execution;
 import static com.pathmind.execution.ExecutionGraphSnapshotSupport.*;
 
 import com.pathmind.nodes.Node;
+import com.pathmind.nodes.NodeCategory;
 import com.pathmind.nodes.NodeConnection;
 import com.pathmind.nodes.NodeParameter;
 import com.pathmind.nodes.NodeType;
@@ -53,6 +54,7 @@ public class ExecutionManager {
     private static final int MAX_CHAIN_EXECUTIONS_PER_START = 128;
     private static final int MAX_FUNCTION_CALL_DEPTH = 32;
     private static final int MAX_ROUTINE_CALL_DEPTH = 32;
+    private static final int MAX_SYNCHRONOUS_CHAIN_STEPS = 512;
     public static final String CHAT_MESSAGE_EVENT_NAME = "chat_message";
     public static final String CHAT_SENDER_VARIABLE_NAME = "chat_sender";
     public static final String CHAT_MESSAGE_VARIABLE_NAME = "chat_message";
@@ -93,6 +95,7 @@ public class ExecutionManager {
         final Map<Integer, Integer> executionFunctionDepths;
         final List<Node> graphNodes;
         final List<NodeConnection> graphConnections;
+        volatile ExecutionPlan plan;
         final List<Node> functionSourceNodes;
         final List<NodeConnection> functionSourceConnections;
         final AtomicInteger branchBudgetWarnings;
@@ -120,6 +123,7 @@ public class ExecutionManager {
             this.executionFunctionDepths.put(rootExecutionId, 0);
             this.graphNodes = Collections.synchronizedList(new ArrayList<>(graphNodes == null ? List.of() : graphNodes));
             this.graphConnections = Collections.synchronizedList(new ArrayList<>(graphConnections == null ? List.of() : graphConnections));
+            this.plan = ExecutionPlan.compile(this.graphNodes, this.graphConnections);
             this.functionSourceNodes = Collections.synchronizedList(new ArrayList<>(graphNodes == null ? List.of() : graphNodes));
             this.functionSourceConnections = Collections.synchronizedList(new ArrayList<>(graphConnections == null ? List.of() : graphConnections));
             this.runtimeValueScope = new ExecutionRuntimeValueStore.Scope(
@@ -132,6 +136,19 @@ public class ExecutionManager {
         }
     }
 
+    /** Mutable successor slot used by the synchronous trampoline in {@link #runChain}. */
+    private static final class ChainHop {
+        static final CompletableFuture<Void> PENDING = CompletableFuture.completedFuture(null);
+
+        Node node;
+        int inputSocket;
+
+        ChainHop(Node node, int inputSocket) {
+            this.node = node;
+            this.inputSocket = inputSocket;
+        }
+    }
+
     private final class RuntimeValueHost implements ExecutionRuntimeValueStore.Host {
         @Override
         public ExecutionRuntimeValueStore.Scope findScopeForStart(Node startNode) {
@@ -170,10 +187,11 @@ public class ExecutionManager {
     public static final class RuntimeVariable {
         private final NodeType type;
         private final Map<String, String> values;
+        private volatile RuntimeValueCells cells;
 
         public RuntimeVariable(NodeType type, Map<String, String> values) {
             this.type = type;
-            this.values = values == null ? Collections.emptyMap() : new HashMap<>(values);
+            this.values = values == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(values));
         }
 
         public NodeType getType() {
@@ -181,63 +199,77 @@ public class ExecutionManager {
         }
 
         public Map<String, String> getValues() {
-            return Collections.unmodifiableMap(values);
+            return values;
+        }
+
+        /** Typed view of the values, decoded on first use; the variable is immutable, so it never goes stale. */
+        public RuntimeValueCells getCells() {
+            RuntimeValueCells decoded = cells;
+            if (decoded == null) {
+                decoded = new RuntimeValueCells(values);
+                cells = decoded;
+            }
+            return decoded;
         }
     }
 
     public static final class RuntimeList {
         private final NodeType elementType;
-        private final List<String> entries;
+        private final RuntimeEntryBuffer entries;
 
         public RuntimeList(NodeType elementType, List<String> entries) {
             this.elementType = elementType;
-            this.entries = entries == null ? Collections.emptyList() : new ArrayList<>(entries);
+            this.entries = new RuntimeEntryBuffer(entries);
         }
 
         public NodeType getElementType() {
             return elementType;
         }
 
-        public synchronized List<String> getEntries() {
-            return Collections.unmodifiableList(new ArrayList<>(entries));
+        /** Unmodifiable snapshot of the entries; later changes to the list never show up in it. */
+        public List<String> getEntries() {
+            return entries.snapshot();
         }
 
-        public synchronized int size() {
-            return entries.size();
+        public int size() {
+            return entries.snapshot().size();
         }
 
-        public synchronized boolean isEmpty() {
-            return entries.isEmpty();
+        public boolean isEmpty() {
+            return entries.snapshot().isEmpty();
         }
 
-        public synchronized String getEntry(int index) {
-            if (index < 0 || index >= entries.size()) {
+        public String getEntry(int index) {
+            List<String> snapshot = entries.snapshot();
+            if (index < 0 || index >= snapshot.size()) {
                 return null;
             }
-            return entries.get(index);
+            return snapshot.get(index);
         }
 
-        public synchronized void addEntry(String entry) {
+        public void addEntry(String entry) {
             if (entry == null || entry.trim().isEmpty()) {
                 return;
             }
-            entries.add(entry.trim());
+            entries.append(entry.trim());
         }
 
-        public synchronized String removeFirstEntry() {
-            return entries.isEmpty() ? null : entries.remove(0);
+        public String removeFirstEntry() {
+            return entries.removeFirst();
         }
 
-        public synchronized String removeLastEntry() {
-            return entries.isEmpty() ? null : entries.remove(entries.size() - 1);
+        public String removeLastEntry() {
+            return entries.removeLast();
         }
 
-        public synchronized String removeEntry(int index) {
-            if (index < 0 || index >= entries.size()) {
-                return null;
-            }
+        public String removeEntry(int index) {
             return entries.remove(index);
         }
+
+        /** Removes every entry whose text is in {@code values} in one pass; returns the number removed. */
+        public int removeEntries(Set<String> values) {
+            return entries.removeAll(values);
+        }
     }
 
     public static final class RuntimeVariableEntry {
@@ -566,7 +598,13 @@ public class ExecutionManager {
             return;
         }
 
-        runChain(actionNode, controller, executionId, guard).whenComplete((ignored, throwable) -> {
+        CompletableFuture<Void> iteration = runChain(actionNode, controller, executionId, guard);
+        if (iteration.isDone() && !iteration.isCompletedExceptionally()) {
+            // A body that finished synchronously still pays one node delay per pass, which keeps pure logic
+            // loops paced and stops the next iteration from recursing on this stack.
+            iteration = iteration.thenComposeAsync(ignored -> scheduleNodeStartDelay(), CHAIN_COMPLETION_BOUNDARY_EXECUTOR);
+        }
+        iteration.whenComplete((ignored, throwable) -> {
             if (throwable != null) {
                 loopDone.completeExceptionally(throwable);
                 return;
@@ -1007,10 +1045,7 @@ public class ExecutionManager {
     }
 
     private String normalizeRuntimeValueKey(String key) {
-        if (key == null) {
-            return "";
-        }
-        return key.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        return NodeParameter.createDefaultId(key);
     }
     
     /**
@@ -1340,28 +1375,7 @@ public class ExecutionManager {
         if (variable == null || key == null || key.isEmpty()) {
             return "";
         }
-        Map<String, String> values = variable.getValues();
-        if (values == null || values.isEmpty()) {
-            return "";
-        }
-        String direct = values.get(key);
-        if (direct != null && !direct.isBlank()) {
-            return direct.trim();
-        }
-        String normalized = normalizeRuntimeValueKey(key);
-        for (Map.Entry<String, String> entry : values.entrySet()) {
-            if (entry == null || entry.getKey() == null) {
-                continue;
-            }
-            if (!normalizeRuntimeValueKey(entry.getKey()).equals(normalized)) {
-                continue;
-            }
-            String candidate = entry.getValue();
-            if (candidate != null && !candidate.isBlank()) {
-                return candidate.trim();
-            }
-        }
-        return "";
+        return variable.getCells().text(key);
     }
 
     private boolean isStartNumberActive(int startNodeNumber) {
@@ -1454,8 +1468,68 @@ public class ExecutionManager {
         return runChain(currentNode, controller, executionId, repeatUntilGuard, -1);
     }
 
+    /**
+     * Runs a chain from {@code currentNode}. Control and data nodes skip the node start delay and, while their
+     * futures complete synchronously, are stepped in a loop on the calling thread. The staged async pipeline is only
+     * entered for paced nodes, once a node suspends, while execution is paused, or when the step budget runs out.
+     *
+     * <p>Threads: unpaced nodes run on whichever thread called this method or completed the previous node's future,
+     * which may be the client thread. Paced nodes run on the common pool once their node delay elapses, or inline
+     * when the delay is zero. Exhausting {@link #MAX_SYNCHRONOUS_CHAIN_STEPS} and finishing a synchronous
+     * loop body both resume on {@link #CHAIN_COMPLETION_BOUNDARY_EXECUTOR} after one node delay.
+     */
     private CompletableFuture<Void> runChain(Node currentNode, ChainController controller, int executionId,
                                              Node repeatUntilGuard, int arrivalInputSocket) {
+        ChainHop hop = new ChainHop(currentNode, arrivalInputSocket);
+        for (int steps = 0; ; steps++) {
+            Node node = hop.node;
+            int arrival = hop.inputSocket;
+            if (cancelRequested || controller == null || controller.cancelRequested) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (shouldExitRepeatUntilGuard(node, controller, repeatUntilGuard)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (steps >= MAX_SYNCHRONOUS_CHAIN_STEPS) {
+                // Pay one node delay and leave the thread so a synchronous cycle cannot monopolise its caller.
+                return scheduleNodeStartDelay()
+                    .thenComposeAsync(ignored -> runChain(node, controller, executionId, repeatUntilGuard, arrival),
+                        CHAIN_COMPLETION_BOUNDARY_EXECUTOR);
+            }
+            if (sessionState.isExecutionPaused() || !isUnpacedNode(node)) {
+                return runChainAsync(node, controller, executionId, repeatUntilGuard, arrival);
+            }
+
+            node.setOwningStartNode(controller.startNode);
+            node.setActiveRepeatUntilGuard(repeatUntilGuard);
+            setActiveNode(node, executionId);
+            if (cancelRequested || controller.cancelRequested) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            CompletableFuture<Void> nodeFuture = executeNodeWithRepeatUntilGuard(node, controller, executionId, repeatUntilGuard);
+            if (!nodeFuture.isDone() || nodeFuture.isCompletedExceptionally()) {
+                return nodeFuture.thenCompose(ignored -> finishNode(node, controller, executionId, repeatUntilGuard, arrival));
+            }
+            if (sessionState.isExecutionPaused()) {
+                return waitForExecutionResume()
+                    .thenCompose(ignored -> continueFromNode(node, controller, executionId, repeatUntilGuard, arrival, null));
+            }
+
+            CompletableFuture<Void> continuation = continueFromNode(node, controller, executionId, repeatUntilGuard, arrival, hop);
+            if (continuation != ChainHop.PENDING) {
+                return continuation;
+            }
+        }
+    }
+
+    private static boolean isUnpacedNode(Node node) {
+        NodeCategory category = node.getType().getCategory();
+        return category == NodeCategory.CONTROL || category == NodeCategory.DATA;
+    }
+
+    private CompletableFuture<Void> runChainAsync(Node currentNode, ChainController controller, int executionId,
+                                                  Node repeatUntilGuard, int arrivalInputSocket) {
         if (cancelRequested || controller == null || controller.cancelRequested) {
             return CompletableFuture.completedFuture(null);
         }
@@ -1491,18 +1565,23 @@ public class ExecutionManager {
                     })
                     .thenCompose(pausedIgnored -> executeNodeWithRepeatUntilGuard(
                         currentNode, controller, executionId, repeatUntilGuard))
-                    .thenCompose(ignoredFuture -> handleRoutineCallIfNeeded(currentNode, controller, executionId, repeatUntilGuard))
-                    .thenCompose(ignoredFuture -> {
-                        if (cancelRequested || controller.cancelRequested) {
-                            return CompletableFuture.completedFuture(null);
-                        }
-                        return handleEventCallIfNeeded(currentNode, controller, executionId, repeatUntilGuard);
-                    })
-                    .thenCompose(ignoredFuture -> waitForExecutionResume())
-                    .thenCompose(ignoredFuture -> continueFromNode(currentNode, controller, executionId, repeatUntilGuard, arrivalInputSocket));
+                    .thenCompose(ignoredFuture -> finishNode(currentNode, controller, executionId, repeatUntilGuard, arrivalInputSocket));
             });
     }
 
+    private CompletableFuture<Void> finishNode(Node currentNode, ChainController controller, int executionId,
+                                               Node repeatUntilGuard, int arrivalInputSocket) {
+        return handleRoutineCallIfNeeded(currentNode, controller, executionId, repeatUntilGuard)
+            .thenCompose(ignoredFuture -> {
+                if (cancelRequested || controller.cancelRequested) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                return handleEventCallIfNeeded(currentNode, controller, executionId, repeatUntilGuard);
+            })
+            .thenCompose(ignoredFuture -> waitForExecutionResume())
+            .thenCompose(ignoredFuture -> continueFromNode(currentNode, controller, executionId, repeatUntilGuard, arrivalInputSocket, null));
+    }
+
     private CompletableFuture<Void> handleRoutineCallIfNeeded(Node invocation, ChainController controller,
                                                                int parentExecutionId, Node repeatUntilGuard) {
         if (cancelRequested || controller == null || controller.cancelRequested
@@ -1537,6 +1616,7 @@ public class ExecutionManager {
             return CompletableFuture.failedFuture(new IllegalStateException(
                 "Routine " + definition.getName() + " has no definition entry."));
         }
+        // Each call deserializes fresh nodes, so a compiled plan could not be reused; the entry is a single scan.
         Node entry = routineBranch.nodes.stream()
             .filter(node -> node != null && node.getType() == NodeType.ROUTINE_ENTRY)
             .findFirst().orElse(null);
@@ -1758,12 +1838,12 @@ public class ExecutionManager {
             }
             List<EventHandlerLaunchData> handlers = new ArrayList<>();
             for (HandlerTemplate template : templates) {
-                BranchLaunchData launchData = createBranchLaunchData(template.graphSnapshot, template.rootNodeId);
-                if (launchData == null) {
+                HandlerInstance instance = template.acquire();
+                if (instance == null) {
                     LOGGER.debug("Skipping function handler clone for {}", eventName);
                     continue;
                 }
-                handlers.add(new EventHandlerLaunchData(launchData));
+                handlers.add(new EventHandlerLaunchData(instance));
             }
             return handlers;
         }
@@ -1852,20 +1932,20 @@ public class ExecutionManager {
     }
 
     private CompletableFuture<Void> continueFromNode(Node currentNode, ChainController controller, int executionId,
-                                                     Node repeatUntilGuard, int arrivalInputSocket) {
+                                                     Node repeatUntilGuard, int arrivalInputSocket, ChainHop hop) {
         if (cancelRequested || controller == null || controller.cancelRequested) {
             return CompletableFuture.completedFuture(null);
         }
 
         NodeType currentType = currentNode.getType();
         if (currentType == NodeType.CONTROL_JOIN_ANY) {
-            return continueFromOutputSocket(currentNode, controller, executionId, repeatUntilGuard, 0);
+            return continueFromOutputSocket(currentNode, controller, executionId, repeatUntilGuard, 0, hop);
         }
         if (currentType == NodeType.CONTROL_JOIN_ALL) {
             if (!markJoinAllArrival(currentNode, controller, arrivalInputSocket)) {
                 return CompletableFuture.completedFuture(null);
             }
-            return continueFromOutputSocket(currentNode, controller, executionId, repeatUntilGuard, 0);
+            return continueFromOutputSocket(currentNode, controller, executionId, repeatUntilGuard, 0, hop);
         }
 
         int nextSocket = currentNode.consumeNextOutputSocket();
@@ -1947,7 +2027,8 @@ public class ExecutionManager {
                 controller,
                 executionId,
                 repeatUntilGuard,
-                getRepeatUntilExitOutputSocket(currentNode)
+                getRepeatUntilExitOutputSocket(currentNode),
+                hop
             );
         }
 
@@ -1955,30 +2036,40 @@ public class ExecutionManager {
             return continueFork(currentNode, controller, executionId, repeatUntilGuard);
         }
 
-        return continueFromOutputSocket(currentNode, controller, executionId, repeatUntilGuard, nextSocket);
+        return continueFromOutputSocket(currentNode, controller, executionId, repeatUntilGuard, nextSocket, hop);
     }
 
     private CompletableFuture<Void> continueFromOutputSocket(Node currentNode, ChainController controller, int executionId,
                                                              Node repeatUntilGuard, int outputSocket) {
-        List<NodeConnection> graphConnections = controller != null
-            && controller.graphConnections != null
-            && !controller.graphConnections.isEmpty()
-            ? snapshotList(controller.graphConnections)
-            : activeConnections;
-        NodeConnection nextConnection = getNextConnectedConnection(currentNode, graphConnections, outputSocket);
+        return continueFromOutputSocket(currentNode, controller, executionId, repeatUntilGuard, outputSocket, null);
+    }
+
+    /**
+     * Follows {@code outputSocket} to the next node. With a {@code hop} the successor is handed back to the
+     * trampoline in {@link #runChain} instead of being entered recursively.
+     */
+    private CompletableFuture<Void> continueFromOutputSocket(Node currentNode, ChainController controller, int executionId,
+                                                             Node repeatUntilGuard, int outputSocket, ChainHop hop) {
+        ExecutionPlan plan = controller != null ? controller.plan : null;
+        NodeConnection nextConnection = plan != null && !plan.isEmpty()
+            ? plan.next(currentNode, outputSocket)
+            : getNextConnectedConnection(currentNode, activeConnections, outputSocket);
         if (nextConnection == null) {
             return CompletableFuture.completedFuture(null);
         }
+        if (hop != null) {
+            hop.node = nextConnection.getInputNode();
+            hop.inputSocket = nextConnection.getInputSocket();
+            return ChainHop.PENDING;
+        }
         return runChain(nextConnection.getInputNode(), controller, executionId, repeatUntilGuard, nextConnection.getInputSocket());
     }
 
     private CompletableFuture<Void> continueFork(Node currentNode, ChainController controller, int executionId, Node repeatUntilGuard) {
-        List<NodeConnection> graphConnections = controller != null
-            && controller.graphConnections != null
-            && !controller.graphConnections.isEmpty()
-            ? snapshotList(controller.graphConnections)
-            : activeConnections;
-        List<NodeConnection> branchConnections = getOutgoingConnections(currentNode, graphConnections);
+        ExecutionPlan plan = controller != null ? controller.plan : null;
+        List<NodeConnection> branchConnections = plan != null && !plan.isEmpty()
+            ? plan.outgoing(currentNode)
+            : getOutgoingConnections(currentNode, activeConnections);
         if (branchConnections.isEmpty()) {
             return CompletableFuture.completedFuture(null);
         }
@@ -2018,7 +2109,8 @@ public class ExecutionManager {
         synchronized (controller.joinBarrierInputs) {
             Set<Integer> arrivedInputs = controller.joinBarrierInputs.computeIfAbsent(node, ignored -> new HashSet<>());
             arrivedInputs.add(arrivalInputSocket);
-            if (arrivedInputs.size() < node.getInputSocketCount()) {
+            ExecutionPlan plan = controller.plan;
+            if (arrivedInputs.size() < (plan != null ? plan.joinArity(node) : node.getInputSocketCount())) {
                 return false;
             }
             controller.joinBarrierInputs.remove(node);
@@ -2045,6 +2137,7 @@ public class ExecutionManager {
             .whenComplete((ignored, throwable) -> {
                 setEventFunctionActive(handler, false);
                 removeControllerGraph(controller, handlerData.branchNodes, handlerData.branchConnections);
+                handlerData.finish(throwable, cancelRequested || controller.cancelRequested);
             });
     }
 
@@ -2401,6 +2494,7 @@ public class ExecutionManager {
                 controller.graphConnections.addAll(mergedConnections);
             }
         }
+        recompileControllerPlan(controller);
     }
 
     private void removeControllerGraph(ChainController controller, List<Node> branchNodes, List<NodeConnection> branchConnections) {
@@ -2417,6 +2511,14 @@ public class ExecutionManager {
                 controller.graphNodes.removeAll(branchNodes);
             }
         }
+        recompileControllerPlan(controller);
+    }
+
+    private void recompileControllerPlan(ChainController controller) {
+        // Compile under the connection lock so concurrent merges publish plans in mutation order.
+        synchronized (controller.graphConnections) {
+            controller.plan = ExecutionPlan.compile(snapshotList(controller.graphNodes), controller.graphConnections);
+        }
     }
 
 
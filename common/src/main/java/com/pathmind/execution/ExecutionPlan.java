@@ -0,0 +1,148 @@
+package com.pathmind.execution;
+
+import com.pathmind.nodes.Node;
+import com.pathmind.nodes.NodeConnection;
+import com.pathmind.nodes.NodeType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable routing table compiled from a chain's nodes and connections. Node transitions resolve through
+ * array-indexed adjacency instead of scanning the connection list, so a step costs the same on a 500-node graph as
+ * on a 5-node one. Nodes are keyed by identity, matching the branch-local traversal rules of the interpreter.
+ */
+final class ExecutionPlan {
+    static final ExecutionPlan EMPTY = new ExecutionPlan(new IdentityHashMap<>(), new NodeConnection[0][], List.of(), new int[0], false);
+
+    private final Map<Node, Integer> nodeIndices;
+    private final NodeConnection[][] routes;
+    private final List<List<NodeConnection>> outgoing;
+    private final int[] joinArity;
+    private final boolean hasConnections;
+
+    private ExecutionPlan(Map<Node, Integer> nodeIndices, NodeConnection[][] routes, List<List<NodeConnection>> outgoing,
+                          int[] joinArity, boolean hasConnections) {
+        this.nodeIndices = nodeIndices;
+        this.routes = routes;
+        this.outgoing = outgoing;
+        this.joinArity = joinArity;
+        this.hasConnections = hasConnections;
+    }
+
+    static ExecutionPlan compile(List<Node> nodes, List<NodeConnection> connections) {
+        if ((nodes == null || nodes.isEmpty()) && (connections == null || connections.isEmpty())) {
+            return EMPTY;
+        }
+
+        Map<Node, Integer> nodeIndices = new IdentityHashMap<>();
+        List<Node> indexedNodes = new ArrayList<>();
+        if (nodes != null) {
+            for (Node node : nodes) {
+                if (node == null || nodeIndices.containsKey(node)) {
+                    continue;
+                }
+                nodeIndices.put(node, indexedNodes.size());
+                indexedNodes.add(node);
+            }
+        }
+
+        boolean hasConnections = false;
+        List<List<NodeConnection>> outgoingByNode = new ArrayList<>();
+        for (int i = 0; i < indexedNodes.size(); i++) {
+            outgoingByNode.add(null);
+        }
+        if (connections != null) {
+            for (NodeConnection connection : connections) {
+                if (connection == null || connection.getOutputNode() == null) {
+                    continue;
+                }
+                Node output = connection.getOutputNode();
+                Integer index = nodeIndices.get(output);
+                if (index == null) {
+                    index = indexedNodes.size();
+                    nodeIndices.put(output, index);
+                    indexedNodes.add(output);
+                    outgoingByNode.add(null);
+                }
+                List<NodeConnection> nodeOutgoing = outgoingByNode.get(index);
+                if (nodeOutgoing == null) {
+                    nodeOutgoing = new ArrayList<>(2);
+                    outgoingByNode.set(index, nodeOutgoing);
+                }
+                nodeOutgoing.add(connection);
+                hasConnections = true;
+            }
+        }
+
+        int nodeCount = indexedNodes.size();
+        NodeConnection[][] routes = new NodeConnection[nodeCount][];
+        List<List<NodeConnection>> outgoing = new ArrayList<>(nodeCount);
+        int[] joinArity = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = indexedNodes.get(i);
+            joinArity[i] = node.getType() == NodeType.CONTROL_JOIN_ALL ? node.getInputSocketCount() : 0;
+
+            List<NodeConnection> nodeOutgoing = outgoingByNode.get(i);
+            if (nodeOutgoing == null) {
+                outgoing.add(List.of());
+                continue;
+            }
+            int socketCount = 0;
+            for (NodeConnection connection : nodeOutgoing) {
+                socketCount = Math.max(socketCount, connection.getOutputSocket() + 1);
+            }
+            NodeConnection[] socketRoutes = new NodeConnection[socketCount];
+            for (NodeConnection connection : nodeOutgoing) {
+                int socket = connection.getOutputSocket();
+                // First connection in list order wins, as it did for the linear scan.
+                if (socket >= 0 && socketRoutes[socket] == null) {
+                    socketRoutes[socket] = connection;
+                }
+            }
+            routes[i] = socketRoutes;
+
+            NodeConnection[] sorted = nodeOutgoing.toArray(new NodeConnection[0]);
+            Arrays.sort(sorted, (left, right) -> Integer.compare(left.getOutputSocket(), right.getOutputSocket()));
+            outgoing.add(List.of(sorted));
+        }
+
+        return new ExecutionPlan(nodeIndices, routes, outgoing, joinArity, hasConnections);
+    }
+
+    /** True when the plan routes nothing; callers fall back to the workspace-wide connection list. */
+    boolean isEmpty() {
+        return !hasConnections;
+    }
+
+    boolean contains(Node node) {
+        return node != null && nodeIndices.containsKey(node);
+    }
+
+    NodeConnection next(Node node, int outputSocket) {
+        Integer index = node != null ? nodeIndices.get(node) : null;
+        if (index == null || outputSocket < 0) {
+            return null;
+        }
+        NodeConnection[] socketRoutes = routes[index];
+        if (socketRoutes == null || outputSocket >= socketRoutes.length) {
+            return null;
+        }
+        return socketRoutes[outputSocket];
+    }
+
+    List<NodeConnection> outgoing(Node node) {
+        Integer index = node != null ? nodeIndices.get(node) : null;
+        return index != null ? outgoing.get(index) : List.of();
+    }
+
+    int joinArity(Node node) {
+        Integer index = node != null ? nodeIndices.get(node) : null;
+        if (index == null || joinArity[index] <= 0) {
+            return node != null ? node.getInputSocketCount() : 0;
+        }
+        return joinArity[index];
+    }
+}
@@ -23,7 +23,7 @@ final class NavigatorFailureMemory {
         }
     }
 
-    void clear() {
+    synchronized void clear() {
         failedEdges.clear();
         failedNodes.clear();
         for (Map<Edge, Long> failures : failedActions.values()) {
@@ -31,7 +31,7 @@ final class NavigatorFailureMemory {
         }
     }
 
-    void rememberMove(BlockPos from, BlockPos to, long now, long duration, boolean protectedGoal) {
+    synchronized void rememberMove(BlockPos from, BlockPos to, long now, long duration, boolean protectedGoal) {
         if (to != null && !protectedGoal) {
             failedNodes.put(to.immutable(), now + duration);
         }
@@ -40,13 +40,13 @@ final class NavigatorFailureMemory {
         }
     }
 
-    void rememberAction(Action action, BlockPos from, BlockPos to, long now, long duration) {
+    synchronized void rememberAction(Action action, BlockPos from, BlockPos to, long now, long duration) {
         if (action != null && from != null && to != null) {
             failedActions.get(action).put(new Edge(from.immutable(), to.immutable()), now + duration);
         }
     }
 
-    void prune(long now) {
+    synchronized void prune(long now) {
         failedNodes.entrySet().removeIf(entry -> entry.getValue() <= now);
         failedEdges.entrySet().removeIf(entry -> entry.getValue() <= now);
         for (Map<Edge, Long> failures : failedActions.values()) {
@@ -54,15 +54,15 @@ final class NavigatorFailureMemory {
         }
     }
 
-    boolean isFailedNode(BlockPos pos, long now) {
+    synchronized boolean isFailedNode(BlockPos pos, long now) {
         return pos != null && isActive(failedNodes.get(pos), now);
     }
 
-    boolean isFailedEdge(BlockPos from, BlockPos to, long now) {
+    synchronized boolean isFailedEdge(BlockPos from, BlockPos to, long now) {
         return from != null && to != null && isActive(failedEdges.get(new Edge(from, to)), now);
     }
 
-    boolean isFailedAction(Action action, BlockPos from, BlockPos to, long now) {
+    synchronized boolean isFailedAction(Action action, BlockPos from, BlockPos to, long now) {
         return action != null
             && from != null
             && to != null
@@ -0,0 +1,129 @@
+package com.pathmind.execution;
+
+import java.util.Arrays;
+
+final class NavigatorNodeHeap {
+    private static final int ABSENT = -1;
+
+    private int[] heap;
+    private int[] heapIndex;
+    private double[] priorities;
+    private int size;
+
+    NavigatorNodeHeap(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        heap = new int[capacity];
+        heapIndex = new int[capacity];
+        priorities = new double[capacity];
+        Arrays.fill(heapIndex, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int node) {
+        return node >= 0 && node < heapIndex.length && heapIndex[node] != ABSENT;
+    }
+
+    double priority(int node) {
+        return priorities[node];
+    }
+
+    void insertOrDecrease(int node, double priority) {
+        ensureNodeCapacity(node + 1);
+        int index = heapIndex[node];
+        if (index == ABSENT) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length << 1);
+            }
+            priorities[node] = priority;
+            heap[size] = node;
+            heapIndex[node] = size;
+            siftUp(size++);
+            return;
+        }
+        if (priority < priorities[node]) {
+            priorities[node] = priority;
+            siftUp(index);
+        }
+    }
+
+    int poll() {
+        if (size == 0) {
+            return ABSENT;
+        }
+        int top = heap[0];
+        heapIndex[top] = ABSENT;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            heapIndex[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            heapIndex[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        int node = heap[index];
+        double priority = priorities[node];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = heap[parentIndex];
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            heap[index] = parent;
+            heapIndex[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = node;
+        heapIndex[node] = index;
+    }
+
+    private void siftDown(int index) {
+        int node = heap[index];
+        double priority = priorities[node];
+        int half = size >>> 1;
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            int child = heap[childIndex];
+            int rightIndex = childIndex + 1;
+            if (rightIndex < size && priorities[heap[rightIndex]] < priorities[child]) {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            heap[index] = child;
+            heapIndex[child] = index;
+            index = childIndex;
+        }
+        heap[index] = node;
+        heapIndex[node] = index;
+    }
+
+    private void ensureNodeCapacity(int capacity) {
+        if (capacity <= heapIndex.length) {
+            return;
+        }
+        int grown = Math.max(capacity, heapIndex.length << 1);
+        int previousLength = heapIndex.length;
+        heapIndex = Arrays.copyOf(heapIndex, grown);
+        Arrays.fill(heapIndex, previousLength, grown, ABSENT);
+        priorities = Arrays.copyOf(priorities, grown);
+    }
+}
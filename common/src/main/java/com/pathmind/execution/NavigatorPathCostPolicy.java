@@ -64,17 +64,25 @@ final class NavigatorPathCostPolicy {
     static double heuristic(BlockPos pos, List<BlockPos> goals, double weight) {
         double best = Double.POSITIVE_INFINITY;
         for (BlockPos goal : goals) {
-            double dx = Math.abs(pos.getX() - goal.getX());
-            double dz = Math.abs(pos.getZ() - goal.getZ());
-            double min = Math.min(dx, dz);
-            double max = Math.max(dx, dz);
-            double octile = min * Math.sqrt(2.0D) + (max - min);
-            double verticalPenalty = Math.abs(pos.getY() - goal.getY()) * 1.15D;
-            best = Math.min(best, octile + verticalPenalty);
+            best = Math.min(best, unweightedHeuristic(pos, goal));
         }
         return best == Double.POSITIVE_INFINITY ? 0.0D : best * weight;
     }
 
+    static double heuristic(BlockPos pos, BlockPos goal, double weight) {
+        return goal == null ? 0.0D : unweightedHeuristic(pos, goal) * weight;
+    }
+
+    private static double unweightedHeuristic(BlockPos pos, BlockPos goal) {
+        double dx = Math.abs(pos.getX() - goal.getX());
+        double dz = Math.abs(pos.getZ() - goal.getZ());
+        double min = Math.min(dx, dz);
+        double max = Math.max(dx, dz);
+        double octile = min * Math.sqrt(2.0D) + (max - min);
+        double verticalPenalty = Math.abs(pos.getY() - goal.getY()) * 1.15D;
+        return octile + verticalPenalty;
+    }
+
     static double elevationPenalty(BlockPos from, BlockPos to) {
         int delta = to.getY() - from.getY();
         if (delta > 0) {
@@ -8,12 +8,6 @@ enum GoalMode {
     NEAREST_STANDABLE
 }
 
-record SearchNode(BlockPos pos, double fScore, double gScore) {
-}
-
-record CoarseSearchNode(BlockPos pos, double fScore, double gScore) {
-}
-
 record Neighbor(BlockPos pos, double cost, PlannedPrimitive primitive) {
 }
 
@@ -190,6 +184,9 @@ record PathComputation(
 record GoalSearchOutcome(List<ScoredPath> scoredPaths, FailureReason failureReason, String failureDetail) {
 }
 
+record GoalCandidateOutcome(ScoredPath scoredPath, FailureReason failureReason, String failureDetail) {
+}
+
 record PathSearchResult(
     List<BlockPos> path,
     List<PlannedPrimitive> plannedPrimitives,
@@ -206,6 +203,12 @@ record ScoredPath(List<BlockPos> path, List<PlannedPrimitive> plannedPrimitives,
 record ReconstructedPath(List<BlockPos> path, List<PlannedPrimitive> plannedPrimitives) {
 }
 
+record RouteRepair(List<BlockPos> path, List<PlannedPrimitive> plannedPrimitives, int repairedFrom, int repairedTo) {
+    boolean changed() {
+        return repairedFrom >= 0;
+    }
+}
+
 enum FailureReason {
     CLIENT_UNAVAILABLE("Pathmind Nav failed: client or world unavailable."),
     NO_START_SPACE("Pathmind Nav failed: no valid space to start pathfinding from your position."),
@@ -3,30 +3,15 @@ package com.pathmind.execution;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicBoolean;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.shapes.VoxelShape;
 
 final class NavigatorPlanningCache {
     final Level world;
-    final Map<BlockPos, BlockState> blockStates = new HashMap<>();
-    final Map<BlockPos, FluidState> fluidStates = new HashMap<>();
-    final Map<BlockPos, VoxelShape> collisionShapes = new HashMap<>();
-    final Map<BlockPos, OptionalDouble> supportSurfaces = new HashMap<>();
-    final Map<BlockPos, Boolean> navigableNodes = new HashMap<>();
-    final Map<BlockPos, Boolean> standableNodes = new HashMap<>();
-    final Map<BlockPos, Boolean> waterNodes = new HashMap<>();
-    final Map<BlockPos, Boolean> hardDanger = new HashMap<>();
-    final Map<BlockPos, Boolean> nearDanger = new HashMap<>();
-    final Map<BlockPos, Boolean> treeCanopyNodes = new HashMap<>();
-    final Map<BlockPos, Boolean> hasCollision = new HashMap<>();
-    final Map<BlockPos, Boolean> occupiable = new HashMap<>();
-    final Map<NavigatorNodeFitKey, Boolean> nodeFit = new HashMap<>();
-    final Map<NavigatorNodeFitKey, Boolean> supportPlacement = new HashMap<>();
+    final NavigatorVoxelStore voxels;
+    final NavigatorWorldSnapshot snapshot;
     final Map<NavigatorBodyKey, Boolean> bodyCollisions = new HashMap<>();
     final Map<Long, Boolean> loadedChunks = new HashMap<>();
     final Map<NavigatorMovementQueryKey, NavigatorBreakTargetCacheEntry> breakTargets = new HashMap<>();
@@ -36,19 +21,37 @@ final class NavigatorPlanningCache {
     final Map<NavigatorMovementQueryKey, Boolean> jumpAttempts = new HashMap<>();
     final Map<NavigatorMovementQueryKey, Boolean> safeDrops = new HashMap<>();
     int blockStateHits;
+    int blockStateMisses;
     int collisionShapeHits;
+    int collisionShapeMisses;
     int expandedNodes;
     int movementEvaluations;
     int cleanSearches;
     int modifiedSearches;
     boolean allowWorldModification = true;
+    List<BlockPos> regionPath;
+    AtomicBoolean cancellation;
 
-    NavigatorPlanningCache(Level world) {
+    NavigatorPlanningCache(Level world, NavigatorVoxelStore voxels) {
+        this(world, voxels, null);
+    }
+
+    NavigatorPlanningCache(Level world, NavigatorVoxelStore voxels, NavigatorWorldSnapshot snapshot) {
         this.world = world;
+        this.voxels = voxels;
+        this.snapshot = snapshot;
     }
-}
 
-record NavigatorNodeFitKey(BlockPos pos, boolean requireSupport) {
+    void absorbCounters(NavigatorPlanningCache other) {
+        blockStateHits += other.blockStateHits;
+        blockStateMisses += other.blockStateMisses;
+        collisionShapeHits += other.collisionShapeHits;
+        collisionShapeMisses += other.collisionShapeMisses;
+        expandedNodes += other.expandedNodes;
+        movementEvaluations += other.movementEvaluations;
+        cleanSearches += other.cleanSearches;
+        modifiedSearches += other.modifiedSearches;
+    }
 }
 
 record NavigatorBodyKey(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
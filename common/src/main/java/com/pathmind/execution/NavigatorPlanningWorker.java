@@ -0,0 +1,51 @@
+package com.pathmind.execution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import net.minecraft.core.BlockPos;
+
+final class NavigatorPlanningWorker {
+    private static final ExecutorService PLANNER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Pathmind-Path-Planner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    record Result(BlockPos start, BlockPos target, long submittedAtMs, PathComputation computation) {
+    }
+
+    private CompletableFuture<Result> pending;
+
+    synchronized boolean isPending() {
+        return pending != null;
+    }
+
+    synchronized boolean submit(BlockPos start, BlockPos target, long now, Supplier<PathComputation> search) {
+        if (pending != null) {
+            return false;
+        }
+        pending = CompletableFuture.supplyAsync(() -> new Result(start, target, now, search.get()), PLANNER_EXECUTOR);
+        return true;
+    }
+
+    synchronized Result poll() {
+        if (pending == null || !pending.isDone()) {
+            return null;
+        }
+        CompletableFuture<Result> completed = pending;
+        pending = null;
+        if (completed.isCompletedExceptionally()) {
+            return null;
+        }
+        return completed.join();
+    }
+
+    synchronized void cancel() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+}
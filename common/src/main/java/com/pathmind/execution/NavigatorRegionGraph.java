@@ -0,0 +1,561 @@
+package com.pathmind.execution;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+
+final class NavigatorRegionGraph {
+    static final int PASSABLE = 1;
+    static final int FLOOR = 1 << 1;
+    static final int DANGER = 1 << 2;
+    static final int CLIMBABLE = 1 << 3;
+    static final int WATER = 1 << 4;
+
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+    private static final int MAX_SECTIONS = 6144;
+    private static final int MAX_PENDING_CHANGES = 4096;
+    private static final int MAX_EXPANSIONS = 24000;
+    private static final int MAX_DROP = 3;
+    private static final int GOAL_SNAP_RADIUS = 2;
+    private static final int[][] HORIZONTAL = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+
+    interface Terrain {
+        boolean isChunkLoaded(int chunkX, int chunkZ);
+
+        BlockState blockState(BlockPos pos);
+
+        int classify(BlockState state);
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, SectionRegions> sections = new HashMap<>();
+    private final Map<BlockState, Integer> stateClasses = new IdentityHashMap<>();
+    // Pending changes are only drained while navigating, so they are deduplicated and bounded: past the limit the
+    // whole graph is dropped instead, which is cheaper than replaying the backlog.
+    private final Set<Long> invalidatedSections = ConcurrentHashMap.newKeySet();
+    private final Set<Long> invalidatedColumns = ConcurrentHashMap.newKeySet();
+    private final Set<Long> loadedColumns = ConcurrentHashMap.newKeySet();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private Map<Long, SectionRegions> scratch;
+    private boolean persistBuilds = true;
+    private int version;
+    private int useStamp;
+    private volatile boolean clearRequested;
+    int builtSections;
+
+    void onBlockChanged(int x, int y, int z) {
+        for (int sectionY = (y - 2) >> 4; sectionY <= (y + 1) >> 4; sectionY++) {
+            invalidatedSections.add(SectionPos.asLong(x >> 4, sectionY, z >> 4));
+        }
+        if (invalidatedSections.size() > MAX_PENDING_CHANGES) {
+            clear();
+        }
+    }
+
+    void onChunkChanged(int chunkX, int chunkZ) {
+        long column = columnKey(chunkX, chunkZ);
+        invalidatedColumns.add(column);
+        if (loadedColumns.size() < MAX_PENDING_CHANGES) {
+            loadedColumns.add(column);
+        }
+        if (invalidatedColumns.size() > MAX_PENDING_CHANGES) {
+            clear();
+        }
+    }
+
+    void clear() {
+        clearRequested = true;
+        invalidatedSections.clear();
+        invalidatedColumns.clear();
+    }
+
+    int pendingChangeCount() {
+        return invalidatedSections.size() + invalidatedColumns.size() + loadedColumns.size();
+    }
+
+    List<BlockPos> findPath(Terrain terrain, BlockPos start, BlockPos goal, long deadlineMs, boolean persist) {
+        if (!lock.tryLock()) {
+            return List.of();
+        }
+        try {
+            begin(persist);
+            Region startRegion = snapToRegion(terrain, start);
+            Region goalRegion = snapToRegion(terrain, goal);
+            if (startRegion == null || goalRegion == null) {
+                return List.of();
+            }
+            if (startRegion == goalRegion) {
+                return List.of(start.immutable(), goal.immutable());
+            }
+            return search(terrain, start, goal, startRegion, goalRegion, deadlineMs);
+        } finally {
+            end();
+            lock.unlock();
+        }
+    }
+
+    void prebuild(Terrain terrain, int centerSectionY, int sectionRadius, long budgetNanos) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            begin(true);
+            long deadline = System.nanoTime() + budgetNanos;
+            Iterator<Long> pending = loadedColumns.iterator();
+            while (System.nanoTime() < deadline && pending.hasNext()) {
+                long column = pending.next();
+                pending.remove();
+                int chunkX = (int) (column >> 32);
+                int chunkZ = (int) (long) column;
+                if (!terrain.isChunkLoaded(chunkX, chunkZ)) {
+                    continue;
+                }
+                for (int sectionY = centerSectionY - sectionRadius; sectionY <= centerSectionY + sectionRadius; sectionY++) {
+                    section(terrain, chunkX, sectionY, chunkZ);
+                }
+            }
+        } finally {
+            end();
+            lock.unlock();
+        }
+    }
+
+    int sectionCount() {
+        return sections.size();
+    }
+
+    private void begin(boolean persist) {
+        if (clearRequested) {
+            clearRequested = false;
+            sections.clear();
+            stateClasses.clear();
+            invalidatedSections.clear();
+            invalidatedColumns.clear();
+            version++;
+        }
+        applyInvalidations();
+        persistBuilds = persist;
+        scratch = persist ? null : new HashMap<>();
+        useStamp++;
+        builtSections = 0;
+    }
+
+    private void end() {
+        if (scratch != null && !scratch.isEmpty()) {
+            version++;
+        }
+        scratch = null;
+        persistBuilds = true;
+        evictIfNeeded();
+    }
+
+    private void applyInvalidations() {
+        boolean changed = false;
+        for (Iterator<Long> pending = invalidatedSections.iterator(); pending.hasNext(); ) {
+            changed |= sections.remove(pending.next()) != null;
+            pending.remove();
+        }
+        if (!invalidatedColumns.isEmpty()) {
+            Set<Long> columns = new HashSet<>();
+            for (Iterator<Long> pending = invalidatedColumns.iterator(); pending.hasNext(); ) {
+                columns.add(pending.next());
+                pending.remove();
+            }
+            changed |= sections.values().removeIf(section -> columns.contains(columnKey(SectionPos.x(section.key), SectionPos.z(section.key))));
+        }
+        if (changed) {
+            version++;
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (sections.size() <= MAX_SECTIONS) {
+            return;
+        }
+        int[] stamps = new int[sections.size()];
+        int i = 0;
+        for (SectionRegions section : sections.values()) {
+            stamps[i++] = section.lastUsed;
+        }
+        Arrays.sort(stamps);
+        int keepFrom = stamps[stamps.length - MAX_SECTIONS / 2];
+        sections.values().removeIf(section -> section.lastUsed < keepFrom);
+        version++;
+    }
+
+    private List<BlockPos> search(Terrain terrain, BlockPos start, BlockPos goal, Region startRegion, Region goalRegion, long deadlineMs) {
+        List<Region> nodes = new ArrayList<>();
+        try (NavigatorSearchArena arena = NavigatorSearchArena.acquire()) {
+            int startNode = nodeFor(arena, nodes, startRegion);
+            arena.link(startNode, NavigatorSearchArena.NO_NODE, null, 0.0D);
+            arena.open(startNode, distance(startRegion.representative, goal));
+            int expansions = 0;
+            while (arena.hasOpen() && expansions < MAX_EXPANSIONS) {
+                if ((expansions & 31) == 0 && System.currentTimeMillis() >= deadlineMs) {
+                    return List.of();
+                }
+                int current = arena.pollOpen();
+                Region region = nodes.get(current);
+                if (region == goalRegion) {
+                    return reconstruct(arena, nodes, current, start, goal);
+                }
+                arena.markClosed(current);
+                expansions++;
+                edges(terrain, region);
+                double currentG = arena.gScore(current);
+                for (int i = 0; i < region.neighbors.length; i++) {
+                    Region neighbor = region.neighbors[i];
+                    int neighborNode = nodeFor(arena, nodes, neighbor);
+                    if (arena.isClosed(neighborNode)) {
+                        continue;
+                    }
+                    double tentativeG = currentG + region.costs[i];
+                    if (tentativeG >= arena.gScore(neighborNode)) {
+                        continue;
+                    }
+                    arena.link(neighborNode, current, null, tentativeG);
+                    arena.open(neighborNode, tentativeG + distance(neighbor.representative, goal));
+                }
+            }
+            return List.of();
+        }
+    }
+
+    private int nodeFor(NavigatorSearchArena arena, List<Region> nodes, Region region) {
+        int node = arena.node(region.representative);
+        if (node == nodes.size()) {
+            nodes.add(region);
+        }
+        return node;
+    }
+
+    private List<BlockPos> reconstruct(NavigatorSearchArena arena, List<Region> nodes, int end, BlockPos start, BlockPos goal) {
+        List<BlockPos> path = new ArrayList<>();
+        path.add(goal.immutable());
+        for (int cursorNode = arena.parent(end); cursorNode != NavigatorSearchArena.NO_NODE; cursorNode = arena.parent(cursorNode)) {
+            if (arena.parent(cursorNode) != NavigatorSearchArena.NO_NODE) {
+                path.add(nodes.get(cursorNode).representative);
+            }
+        }
+        path.add(start.immutable());
+        Collections.reverse(path);
+        return List.copyOf(path);
+    }
+
+    private Region snapToRegion(Terrain terrain, BlockPos pos) {
+        Region direct = regionAt(terrain, pos.getX(), pos.getY(), pos.getZ());
+        if (direct != null) {
+            return direct;
+        }
+        Region best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int dx = -GOAL_SNAP_RADIUS; dx <= GOAL_SNAP_RADIUS; dx++) {
+            for (int dz = -GOAL_SNAP_RADIUS; dz <= GOAL_SNAP_RADIUS; dz++) {
+                for (int dy = -GOAL_SNAP_RADIUS; dy <= GOAL_SNAP_RADIUS; dy++) {
+                    int manhattan = Math.abs(dx) + Math.abs(dy) + Math.abs(dz);
+                    if (manhattan >= bestDistance) {
+                        continue;
+                    }
+                    Region region = regionAt(terrain, pos.getX() + dx, pos.getY() + dy, pos.getZ() + dz);
+                    if (region != null) {
+                        best = region;
+                        bestDistance = manhattan;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private Region regionAt(Terrain terrain, int x, int y, int z) {
+        SectionRegions section = section(terrain, x >> 4, y >> 4, z >> 4);
+        if (section == null) {
+            return null;
+        }
+        int id = section.regionOf[localIndex(x & 15, y & 15, z & 15)];
+        return id == 0 ? null : section.regions[id - 1];
+    }
+
+    private SectionRegions section(Terrain terrain, int sectionX, int sectionY, int sectionZ) {
+        long key = SectionPos.asLong(sectionX, sectionY, sectionZ);
+        SectionRegions section = sections.get(key);
+        if (section == null && scratch != null) {
+            section = scratch.get(key);
+        }
+        if (section != null) {
+            section.lastUsed = useStamp;
+            return section;
+        }
+        if (!terrain.isChunkLoaded(sectionX, sectionZ)) {
+            return null;
+        }
+        section = build(terrain, key, sectionX, sectionY, sectionZ);
+        section.lastUsed = useStamp;
+        builtSections++;
+        if (persistBuilds) {
+            sections.put(key, section);
+        } else {
+            scratch.put(key, section);
+        }
+        return section;
+    }
+
+    private SectionRegions build(Terrain terrain, long key, int sectionX, int sectionY, int sectionZ) {
+        int baseX = sectionX << 4;
+        int baseY = sectionY << 4;
+        int baseZ = sectionZ << 4;
+        int[] classes = new int[19 * 256];
+        for (int layer = 0; layer < 19; layer++) {
+            for (int localZ = 0; localZ < 16; localZ++) {
+                for (int localX = 0; localX < 16; localX++) {
+                    classes[(layer << 8) | (localZ << 4) | localX] = classAt(terrain, baseX + localX, baseY + layer - 1, baseZ + localZ);
+                }
+            }
+        }
+
+        boolean[] standable = new boolean[SECTION_VOLUME];
+        for (int localY = 0; localY < 16; localY++) {
+            for (int localZ = 0; localZ < 16; localZ++) {
+                for (int localX = 0; localX < 16; localX++) {
+                    int column = (localZ << 4) | localX;
+                    int below = classes[(localY << 8) | column];
+                    int feet = classes[((localY + 1) << 8) | column];
+                    int head = classes[((localY + 2) << 8) | column];
+                    standable[localIndex(localX, localY, localZ)] = isStandable(below, feet, head);
+                }
+            }
+        }
+
+        short[] regionOf = new short[SECTION_VOLUME];
+        List<Region> regions = new ArrayList<>();
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        List<Integer> members = new ArrayList<>();
+        for (int seed = 0; seed < SECTION_VOLUME; seed++) {
+            if (!standable[seed] || regionOf[seed] != 0) {
+                continue;
+            }
+            short id = (short) (regions.size() + 1);
+            regionOf[seed] = id;
+            queue.add(seed);
+            members.clear();
+            long sumX = 0L;
+            long sumY = 0L;
+            long sumZ = 0L;
+            while (!queue.isEmpty()) {
+                int index = queue.poll();
+                members.add(index);
+                int localX = index & 15;
+                int localZ = (index >> 4) & 15;
+                int localY = index >> 8;
+                sumX += localX;
+                sumY += localY;
+                sumZ += localZ;
+                for (int[] direction : HORIZONTAL) {
+                    int nextX = localX + direction[0];
+                    int nextZ = localZ + direction[1];
+                    if (nextX < 0 || nextX > 15 || nextZ < 0 || nextZ > 15) {
+                        continue;
+                    }
+                    for (int dy = -1; dy <= 1; dy++) {
+                        int nextY = localY + dy;
+                        if (nextY < 0 || nextY > 15) {
+                            continue;
+                        }
+                        int next = localIndex(nextX, nextY, nextZ);
+                        if (!standable[next] || regionOf[next] != 0) {
+                            continue;
+                        }
+                        if (dy == 1 && !isPassable(classes[((localY + 3) << 8) | (localZ << 4) | localX])) {
+                            continue;
+                        }
+                        if (dy == -1 && !isPassable(classes[((localY + 2) << 8) | (nextZ << 4) | nextX])) {
+                            continue;
+                        }
+                        regionOf[next] = id;
+                        queue.add(next);
+                    }
+                }
+                for (int dy = -1; dy <= 1; dy += 2) {
+                    int nextY = localY + dy;
+                    if (nextY < 0 || nextY > 15) {
+                        continue;
+                    }
+                    int next = localIndex(localX, nextY, localZ);
+                    int lower = Math.min(localY, nextY);
+                    if (!standable[next] || regionOf[next] != 0
+                        || !isVerticalConnector(classes[((lower + 1) << 8) | (localZ << 4) | localX])) {
+                        continue;
+                    }
+                    regionOf[next] = id;
+                    queue.add(next);
+                }
+            }
+            int[] voxels = new int[members.size()];
+            double centerX = (double) sumX / members.size();
+            double centerY = (double) sumY / members.size();
+            double centerZ = (double) sumZ / members.size();
+            int representative = members.get(0);
+            double bestDistanceSq = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < voxels.length; i++) {
+                int index = members.get(i);
+                voxels[i] = index;
+                double offsetX = (index & 15) - centerX;
+                double offsetY = (index >> 8) - centerY;
+                double offsetZ = ((index >> 4) & 15) - centerZ;
+                double distanceSq = offsetX * offsetX + offsetY * offsetY + offsetZ * offsetZ;
+                if (distanceSq < bestDistanceSq) {
+                    bestDistanceSq = distanceSq;
+                    representative = index;
+                }
+            }
+            BlockPos representativePos = new BlockPos(
+                baseX + (representative & 15),
+                baseY + (representative >> 8),
+                baseZ + ((representative >> 4) & 15)
+            );
+            regions.add(new Region(key, representativePos, voxels));
+        }
+        return new SectionRegions(key, regionOf, regions.toArray(new Region[0]));
+    }
+
+    private void edges(Terrain terrain, Region region) {
+        if (region.edgesVersion == version && region.neighbors != null) {
+            return;
+        }
+        int baseX = SectionPos.x(region.sectionKey) << 4;
+        int baseY = SectionPos.y(region.sectionKey) << 4;
+        int baseZ = SectionPos.z(region.sectionKey) << 4;
+        Map<Region, Double> found = new IdentityHashMap<>();
+        for (int index : region.voxels) {
+            int x = baseX + (index & 15);
+            int y = baseY + (index >> 8);
+            int z = baseZ + ((index >> 4) & 15);
+            for (int[] direction : HORIZONTAL) {
+                int nextX = x + direction[0];
+                int nextZ = z + direction[1];
+                for (int dy = 1; dy >= -MAX_DROP; dy--) {
+                    Region target = regionAt(terrain, nextX, y + dy, nextZ);
+                    if (target == null) {
+                        continue;
+                    }
+                    if (target != region && canMove(terrain, x, y, z, nextX, y + dy, nextZ)) {
+                        found.putIfAbsent(target, Math.max(1.0D, distance(region.representative, target.representative)));
+                    }
+                    break;
+                }
+            }
+            for (int dy = -1; dy <= 1; dy += 2) {
+                Region target = regionAt(terrain, x, y + dy, z);
+                if (target != null && target != region && isVerticalConnector(classAt(terrain, x, Math.min(y, y + dy), z))) {
+                    found.putIfAbsent(target, Math.max(1.0D, distance(region.representative, target.representative)));
+                }
+            }
+        }
+        Region[] neighbors = new Region[found.size()];
+        double[] costs = new double[found.size()];
+        int i = 0;
+        for (Map.Entry<Region, Double> entry : found.entrySet()) {
+            neighbors[i] = entry.getKey();
+            costs[i++] = entry.getValue();
+        }
+        region.neighbors = neighbors;
+        region.costs = costs;
+        region.edgesVersion = version;
+    }
+
+    private boolean canMove(Terrain terrain, int x, int y, int z, int nextX, int nextY, int nextZ) {
+        if (nextY == y + 1) {
+            return isPassable(classAt(terrain, x, y + 2, z));
+        }
+        for (int columnY = nextY + 2; columnY <= y + 1; columnY++) {
+            if (!isPassable(classAt(terrain, nextX, columnY, nextZ))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int classAt(Terrain terrain, int x, int y, int z) {
+        BlockState state = terrain.blockState(cursor.set(x, y, z));
+        if (state == null) {
+            return 0;
+        }
+        Integer cached = stateClasses.get(state);
+        if (cached == null) {
+            cached = terrain.classify(state);
+            stateClasses.put(state, cached);
+        }
+        return cached;
+    }
+
+    private static boolean isStandable(int below, int feet, int head) {
+        if (!isPassable(feet) || !isPassable(head) || (below & DANGER) != 0) {
+            return false;
+        }
+        return (below & FLOOR) != 0 || (feet & (WATER | CLIMBABLE)) != 0;
+    }
+
+    private static boolean isPassable(int classes) {
+        return (classes & PASSABLE) != 0 && (classes & DANGER) == 0;
+    }
+
+    private static boolean isVerticalConnector(int classes) {
+        return (classes & (WATER | CLIMBABLE)) != 0;
+    }
+
+    private static double distance(BlockPos first, BlockPos second) {
+        double dx = first.getX() - second.getX();
+        double dy = first.getY() - second.getY();
+        double dz = first.getZ() - second.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private static int localIndex(int localX, int localY, int localZ) {
+        return (localY << 8) | (localZ << 4) | localX;
+    }
+
+    private static long columnKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static final class SectionRegions {
+        final long key;
+        final short[] regionOf;
+        final Region[] regions;
+        int lastUsed;
+
+        SectionRegions(long key, short[] regionOf, Region[] regions) {
+            this.key = key;
+            this.regionOf = regionOf;
+            this.regions = regions;
+        }
+    }
+
+    private static final class Region {
+        final long sectionKey;
+        final BlockPos representative;
+        final int[] voxels;
+        Region[] neighbors;
+        double[] costs;
+        int edgesVersion = -1;
+
+        Region(long sectionKey, BlockPos representative, int[] voxels) {
+            this.sectionKey = sectionKey;
+            this.representative = representative;
+            this.voxels = voxels;
+        }
+    }
+}
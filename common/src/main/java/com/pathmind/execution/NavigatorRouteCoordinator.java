@@ -847,7 +847,50 @@ final class NavigatorRouteCoordinator {
         primitiveExecutor.clearExcavationPlan(now, "escape cleared", "resume route");
     }
     
+    boolean repairBrokenRouteSegment(Level world, long now) {
+        if (!(world instanceof ClientLevel clientWorld)) {
+            return false;
+        }
+        List<BlockPos> path;
+        BlockPos routeStart;
+        int fromIndex;
+        synchronized (host.lock()) {
+            path = navigationState.currentPath;
+            routeStart = navigationState.committedPathStartPos;
+            fromIndex = Math.max(0, navigationState.pathIndex);
+        }
+        if (path.isEmpty() || fromIndex >= path.size()) {
+            return false;
+        }
+        long startedNanos = System.nanoTime();
+        RouteRepair repair = pathPlanner.repairRoute(clientWorld, path, routeStart, fromIndex, now);
+        if (repair == null || !repair.changed()) {
+            return false;
+        }
+        synchronized (host.lock()) {
+            if (navigationState.currentPath != path) {
+                return false;
+            }
+            navigationState.currentPath = repair.path();
+            navigationState.currentPlan = repair.plannedPrimitives();
+            navigationState.pathIndex = Math.min(fromIndex, navigationState.currentPath.size() - 1);
+            navigationState.furthestVisitedPathIndex = Math.min(navigationState.furthestVisitedPathIndex, navigationState.pathIndex - 1);
+            navigationState.activeWaypoint = navigationState.currentPath.get(navigationState.pathIndex);
+            executionState.plannedBreakTargets = buildPathBreakPlan(world, navigationState.currentPath, navigationState.pathIndex);
+            executionState.activePlannedPrimitive = getPlannedPrimitiveAtIndexLocked(navigationState.pathIndex);
+            host.appendDebugEventLocked("repair span=" + repair.repairedFrom() + ".." + repair.repairedTo()
+                + " elapsed=" + ((System.nanoTime() - startedNanos) / 1_000L) + "us");
+        }
+        return true;
+    }
+
     void repairCurrentPath(Level world, BlockPos playerFootPos, BlockPos target, long now, String replanReason, String stuckReason) {
+        repairBrokenRouteSegment(world, now);
+        resumeRepairedPath(world, playerFootPos, target, now, replanReason, stuckReason);
+    }
+
+    /** Re-anchors the runner on the committed route once {@link #repairBrokenRouteSegment} has already run. */
+    private void resumeRepairedPath(Level world, BlockPos playerFootPos, BlockPos target, long now, String replanReason, String stuckReason) {
         synchronized (host.lock()) {
             executionState.activeBreakTarget = null;
             executionState.committedJumpWaypoint = null;
@@ -979,6 +1022,17 @@ final class NavigatorRouteCoordinator {
     
         if (world != null && playerFootPos != null && target != null) {
             rememberFailedRedirectWindow(playerFootPos, waypoint, now);
+            if (canRepairCurrentPath(world, playerFootPos, target) && repairBrokenRouteSegment(world, now)) {
+                resumeRepairedPath(world, playerFootPos, target, now, "incremental repair", stuckReason);
+                synchronized (host.lock()) {
+                    executionState.controllerMode = ControllerMode.FOLLOW_PATH;
+                    executionState.controllerTarget = navigationState.activeWaypoint != null ? navigationState.activeWaypoint.immutable() : null;
+                    executionState.controllerEnteredAtMs = now;
+                    executionState.controllerProgressAtMs = now;
+                    executionState.controllerBestDistanceSq = Double.POSITIVE_INFINITY;
+                }
+                return;
+            }
             PathComputation recovery = pathPlanner.findPath(world, playerFootPos, target);
             if (!recovery.path().isEmpty()
                 && pathPlanner.isViablePlannedPath(world, recovery.path(), recovery.plannedPrimitives())
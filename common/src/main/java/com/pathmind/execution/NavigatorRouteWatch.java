@@ -0,0 +1,69 @@
+package com.pathmind.execution;
+
+import java.util.BitSet;
+import java.util.List;
+import net.minecraft.core.BlockPos;
+
+final class NavigatorRouteWatch {
+    private static final int[] WATCHED_OFFSETS_Y = {-1, 0, 1};
+
+    private final NavigatorLongIndexMap watchedVoxels = new NavigatorLongIndexMap(256);
+    private final NavigatorLongIndexMap waypointIndices = new NavigatorLongIndexMap(128);
+    private final BitSet dirty = new BitSet();
+    private List<BlockPos> trackedPath = List.of();
+
+    synchronized boolean isTracking(List<BlockPos> path) {
+        return trackedPath == path;
+    }
+
+    synchronized void track(List<BlockPos> path) {
+        watchedVoxels.clear();
+        waypointIndices.clear();
+        dirty.clear();
+        trackedPath = path == null ? List.of() : path;
+        for (int i = trackedPath.size() - 1; i >= 0; i--) {
+            BlockPos waypoint = trackedPath.get(i);
+            if (waypoint == null) {
+                continue;
+            }
+            waypointIndices.put(waypoint.asLong(), i);
+            for (int offsetY : WATCHED_OFFSETS_Y) {
+                watchedVoxels.put(BlockPos.asLong(waypoint.getX(), waypoint.getY() + offsetY, waypoint.getZ()), i);
+            }
+        }
+    }
+
+    synchronized void markVoxelChanged(BlockPos pos) {
+        if (pos == null || trackedPath.isEmpty()) {
+            return;
+        }
+        int index = watchedVoxels.get(pos.asLong());
+        if (index != NavigatorLongIndexMap.MISSING) {
+            dirty.set(index, Math.min(index + 2, trackedPath.size()));
+        }
+    }
+
+    synchronized void markWaypointFailed(BlockPos pos) {
+        if (pos == null || trackedPath.isEmpty()) {
+            return;
+        }
+        int index = waypointIndices.get(pos.asLong());
+        if (index != NavigatorLongIndexMap.MISSING) {
+            dirty.set(index);
+        }
+    }
+
+    synchronized boolean isDirty(int index) {
+        return index >= 0 && dirty.get(index);
+    }
+
+    synchronized void clearDirty(int index) {
+        if (index >= 0) {
+            dirty.clear(index);
+        }
+    }
+
+    synchronized void reset() {
+        track(List.of());
+    }
+}
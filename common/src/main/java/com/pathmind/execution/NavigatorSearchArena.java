@@ -0,0 +1,121 @@
+package com.pathmind.execution;
+
+import java.util.Arrays;
+import net.minecraft.core.BlockPos;
+
+final class NavigatorSearchArena implements AutoCloseable {
+    static final int NO_NODE = -1;
+    private static final int INITIAL_NODE_CAPACITY = 4096;
+    private static final ThreadLocal<NavigatorSearchArena> ARENAS = ThreadLocal.withInitial(NavigatorSearchArena::new);
+
+    private final NavigatorLongIndexMap index = new NavigatorLongIndexMap(INITIAL_NODE_CAPACITY);
+    private final NavigatorNodeHeap openSet = new NavigatorNodeHeap(INITIAL_NODE_CAPACITY);
+    private BlockPos[] positions = new BlockPos[INITIAL_NODE_CAPACITY];
+    private PlannedPrimitive[] primitives = new PlannedPrimitive[INITIAL_NODE_CAPACITY];
+    private double[] gScores = new double[INITIAL_NODE_CAPACITY];
+    private int[] parents = new int[INITIAL_NODE_CAPACITY];
+    private boolean[] closed = new boolean[INITIAL_NODE_CAPACITY];
+    private int size;
+    private boolean inUse;
+
+    static NavigatorSearchArena acquire() {
+        NavigatorSearchArena arena = ARENAS.get();
+        if (arena.inUse) {
+            arena = new NavigatorSearchArena();
+        }
+        arena.inUse = true;
+        return arena;
+    }
+
+    @Override
+    public void close() {
+        Arrays.fill(positions, 0, size, null);
+        Arrays.fill(primitives, 0, size, null);
+        index.clear();
+        openSet.clear();
+        size = 0;
+        inUse = false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int find(BlockPos pos) {
+        return pos == null ? NO_NODE : index.get(pos.asLong());
+    }
+
+    int node(BlockPos pos) {
+        long key = pos.asLong();
+        int existing = index.get(key);
+        if (existing != NavigatorLongIndexMap.MISSING) {
+            return existing;
+        }
+        if (size == positions.length) {
+            grow(positions.length << 1);
+        }
+        int created = size++;
+        positions[created] = pos.immutable();
+        primitives[created] = null;
+        gScores[created] = Double.POSITIVE_INFINITY;
+        parents[created] = NO_NODE;
+        closed[created] = false;
+        index.put(key, created);
+        return created;
+    }
+
+    BlockPos position(int node) {
+        return positions[node];
+    }
+
+    double gScore(int node) {
+        return gScores[node];
+    }
+
+    int parent(int node) {
+        return parents[node];
+    }
+
+    BlockPos parentPosition(int node) {
+        int parent = parents[node];
+        return parent == NO_NODE ? null : positions[parent];
+    }
+
+    PlannedPrimitive primitive(int node) {
+        return primitives[node];
+    }
+
+    boolean isClosed(int node) {
+        return closed[node];
+    }
+
+    void markClosed(int node) {
+        closed[node] = true;
+    }
+
+    void link(int node, int parent, PlannedPrimitive primitive, double gScore) {
+        parents[node] = parent;
+        primitives[node] = primitive;
+        gScores[node] = gScore;
+    }
+
+    void open(int node, double fScore) {
+        openSet.insertOrDecrease(node, fScore);
+    }
+
+    boolean hasOpen() {
+        return !openSet.isEmpty();
+    }
+
+    int pollOpen() {
+        return openSet.poll();
+    }
+
+    private void grow(int capacity) {
+        positions = Arrays.copyOf(positions, capacity);
+        primitives = Arrays.copyOf(primitives, capacity);
+        gScores = Arrays.copyOf(gScores, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        closed = Arrays.copyOf(closed, capacity);
+    }
+}
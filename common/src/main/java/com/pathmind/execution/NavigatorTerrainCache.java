@@ -0,0 +1,115 @@
+package com.pathmind.execution;
+
+import java.lang.ref.WeakReference;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+
+/**
+ * Terrain caches that outlive a single plan. The voxel store is confined to the client thread: planning there uses
+ * it directly, block and chunk updates are applied there (updates raised elsewhere are re-posted to it), and
+ * planning on any other thread works on a copy-on-write {@link NavigatorVoxelStore#fork() fork} taken on the client
+ * thread. The monitor only guards the level binding.
+ */
+public final class NavigatorTerrainCache {
+    private static final int MAX_SECTIONS = 768;
+    private static final NavigatorTerrainCache INSTANCE = new NavigatorTerrainCache();
+
+    private final NavigatorVoxelStore voxels = new NavigatorVoxelStore();
+    private final NavigatorRegionGraph regions = new NavigatorRegionGraph();
+    private WeakReference<ClientLevel> level = new WeakReference<>(null);
+
+    private NavigatorTerrainCache() {
+    }
+
+    public static NavigatorTerrainCache getInstance() {
+        return INSTANCE;
+    }
+
+    /** Returns the shared voxel store on the client thread; other threads get an empty private store. */
+    synchronized NavigatorVoxelStore acquire(ClientLevel world) {
+        if (!isClientThread()) {
+            return new NavigatorVoxelStore();
+        }
+        switchLevel(world);
+        voxels.beginUse(MAX_SECTIONS);
+        return voxels;
+    }
+
+    /**
+     * Returns a copy-on-write fork of the shared store for planning on another thread. It has to be taken on the
+     * client thread, where the shared store lives; elsewhere this falls back to an empty store.
+     */
+    synchronized NavigatorVoxelStore fork(ClientLevel world) {
+        if (!isClientThread()) {
+            return new NavigatorVoxelStore();
+        }
+        switchLevel(world);
+        voxels.beginUse(MAX_SECTIONS);
+        return voxels.fork();
+    }
+
+    /**
+     * Returns the region graph for the level, or null when it belongs to another level. Only the client thread
+     * switches levels, because switching also clears the voxel store; a worker asking about a level the client has
+     * not switched to yet gets no graph.
+     */
+    synchronized NavigatorRegionGraph regions(ClientLevel world) {
+        if (isClientThread()) {
+            switchLevel(world);
+        }
+        return level.get() == world ? regions : null;
+    }
+
+    public synchronized void onBlockChanged(ClientLevel world, BlockPos pos) {
+        if (!isClientThread()) {
+            runOnClientThread(() -> onBlockChanged(world, pos));
+            return;
+        }
+        if (pos != null && level.get() == world) {
+            voxels.invalidateBlock(pos.getX(), pos.getY(), pos.getZ());
+            regions.onBlockChanged(pos.getX(), pos.getY(), pos.getZ());
+        }
+    }
+
+    public synchronized void onChunkChanged(ClientLevel world, int chunkX, int chunkZ) {
+        if (!isClientThread()) {
+            runOnClientThread(() -> onChunkChanged(world, chunkX, chunkZ));
+            return;
+        }
+        if (level.get() == world) {
+            voxels.invalidateChunkColumn(chunkX, chunkZ);
+            regions.onChunkChanged(chunkX, chunkZ);
+        }
+    }
+
+    public synchronized void clear() {
+        if (!isClientThread()) {
+            runOnClientThread(this::clear);
+            return;
+        }
+        voxels.clear();
+        regions.clear();
+        level = new WeakReference<>(null);
+    }
+
+    private void switchLevel(ClientLevel world) {
+        if (level.get() != world) {
+            voxels.clear();
+            regions.clear();
+            level = new WeakReference<>(world);
+        }
+    }
+
+    private static void runOnClientThread(Runnable task) {
+        Minecraft client = Minecraft.getInstance();
+        if (client != null) {
+            client.execute(task);
+        }
+    }
+
+    private static boolean isClientThread() {
+        Minecraft client = Minecraft.getInstance();
+        return client != null && client.isSameThread();
+    }
+}
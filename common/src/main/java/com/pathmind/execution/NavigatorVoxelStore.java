@@ -0,0 +1,315 @@
+package com.pathmind.execution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+/**
+ * Per-voxel planner cache: interned block states, collision shapes and tri-state derived flags, stored per chunk
+ * section. A store is confined to one thread. {@link #fork()} hands another thread a copy-on-write view: the fork
+ * starts out sharing this store's sections, and whichever side writes to a shared section first replaces it with
+ * its own copy, so neither side ever sees the other's writes.
+ */
+final class NavigatorVoxelStore {
+    static final int UNKNOWN = 0;
+    static final int NO = 1;
+    static final int YES = 2;
+
+    static final int NAVIGABLE = 0;
+    static final int STANDABLE = 1;
+    static final int WATER = 2;
+    static final int HARD_DANGER = 3;
+    static final int NEAR_DANGER = 4;
+    static final int TREE_CANOPY = 5;
+    static final int HAS_COLLISION = 6;
+    static final int OCCUPIABLE = 7;
+    static final int FIT_SUPPORTED = 8;
+    static final int FIT_UNSUPPORTED = 9;
+    static final int SUPPORT_PLACEMENT = 10;
+    static final int SUPPORT_PLACEMENT_OCCUPIED = 11;
+    static final int SUPPORT_SURFACE = 12;
+
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+    private static final int FLAG_MASK = 0b11;
+    private static final int MAX_PALETTE_SIZE = Character.MAX_VALUE;
+    private static final int DERIVED_REACH = 2;
+
+    private final NavigatorLongIndexMap sectionIndex = new NavigatorLongIndexMap(64);
+    private final List<Section> sections = new ArrayList<>();
+    private final List<BlockState> palette = new ArrayList<>();
+    private final Map<BlockState, Integer> paletteIds = new IdentityHashMap<>();
+    private long lastSectionKey;
+    private Section lastSection;
+    private int useStamp;
+    private boolean forked;
+    int flagHits;
+    int flagMisses;
+
+    int flag(BlockPos pos, int flag) {
+        Section section = section(pos, false);
+        int value = section == null ? UNKNOWN : (section.flags[voxelIndex(pos)] >>> (flag << 1)) & FLAG_MASK;
+        if (value == UNKNOWN) {
+            flagMisses++;
+        } else {
+            flagHits++;
+        }
+        return value;
+    }
+
+    boolean setFlag(BlockPos pos, int flag, boolean value) {
+        Section section = section(pos, true);
+        int index = voxelIndex(pos);
+        int shift = flag << 1;
+        section.flags[index] = (section.flags[index] & ~(FLAG_MASK << shift)) | ((value ? YES : NO) << shift);
+        return value;
+    }
+
+    BlockState blockState(BlockPos pos) {
+        Section section = section(pos, false);
+        if (section == null) {
+            return null;
+        }
+        int paletteId = section.states[voxelIndex(pos)];
+        return paletteId == 0 ? null : palette.get(paletteId - 1);
+    }
+
+    void putBlockState(BlockPos pos, BlockState state) {
+        if (state == null) {
+            return;
+        }
+        Integer paletteId = paletteIds.get(state);
+        if (paletteId == null) {
+            if (palette.size() >= MAX_PALETTE_SIZE) {
+                return;
+            }
+            palette.add(state);
+            paletteId = palette.size();
+            paletteIds.put(state, paletteId);
+        }
+        section(pos, true).states[voxelIndex(pos)] = (char) paletteId.intValue();
+    }
+
+    VoxelShape collisionShape(BlockPos pos) {
+        Section section = section(pos, false);
+        return section == null || section.shapes == null ? null : section.shapes[voxelIndex(pos)];
+    }
+
+    void putCollisionShape(BlockPos pos, VoxelShape shape) {
+        Section section = section(pos, true);
+        if (section.shapes == null) {
+            section.shapes = new VoxelShape[SECTION_VOLUME];
+        }
+        section.shapes[voxelIndex(pos)] = shape;
+    }
+
+    OptionalDouble supportSurface(BlockPos pos) {
+        int known = flag(pos, SUPPORT_SURFACE);
+        if (known == UNKNOWN) {
+            return null;
+        }
+        if (known == NO) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(section(pos, false).supportY[voxelIndex(pos)]);
+    }
+
+    void putSupportSurface(BlockPos pos, OptionalDouble surface) {
+        if (surface.isPresent()) {
+            Section section = section(pos, true);
+            if (section.supportY == null) {
+                section.supportY = new double[SECTION_VOLUME];
+            }
+            section.supportY[voxelIndex(pos)] = surface.getAsDouble();
+        }
+        setFlag(pos, SUPPORT_SURFACE, surface.isPresent());
+    }
+
+    /**
+     * Returns a copy-on-write view of the store as it is now, for use on another thread. Must be called on the thread
+     * that owns this store; publish the fork to the other thread through a happens-before edge such as an executor
+     * hand-off.
+     */
+    NavigatorVoxelStore fork() {
+        NavigatorVoxelStore fork = new NavigatorVoxelStore();
+        fork.forked = true;
+        for (Section section : sections) {
+            if (!section.shared) {
+                section.shared = true;
+            }
+            fork.sectionIndex.put(section.key, fork.sections.size());
+            fork.sections.add(section);
+        }
+        fork.palette.addAll(palette);
+        fork.paletteIds.putAll(paletteIds);
+        return fork;
+    }
+
+    int sectionCount() {
+        return sections.size();
+    }
+
+    void beginUse(int maxSections) {
+        useStamp++;
+        lastSection = null;
+        flagHits = 0;
+        flagMisses = 0;
+        if (sections.size() <= maxSections) {
+            return;
+        }
+        int[] stamps = new int[sections.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            stamps[i] = sections.get(i).lastUsed;
+        }
+        Arrays.sort(stamps);
+        int keepFrom = stamps[stamps.length - maxSections];
+        for (int i = sections.size() - 1; i >= 0 && sections.size() > maxSections; i--) {
+            if (sections.get(i).lastUsed < keepFrom) {
+                removeSectionAt(i);
+            }
+        }
+    }
+
+    void invalidateBlock(int x, int y, int z) {
+        removeSection(SectionPos.asLong(x >> 4, y >> 4, z >> 4));
+        int minSectionX = (x - DERIVED_REACH) >> 4;
+        int maxSectionX = (x + DERIVED_REACH) >> 4;
+        int minSectionY = (y - DERIVED_REACH) >> 4;
+        int maxSectionY = (y + DERIVED_REACH) >> 4;
+        int minSectionZ = (z - DERIVED_REACH) >> 4;
+        int maxSectionZ = (z + DERIVED_REACH) >> 4;
+        for (int sectionX = minSectionX; sectionX <= maxSectionX; sectionX++) {
+            for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                for (int sectionZ = minSectionZ; sectionZ <= maxSectionZ; sectionZ++) {
+                    int index = sectionIndex.get(SectionPos.asLong(sectionX, sectionY, sectionZ));
+                    if (index != NavigatorLongIndexMap.MISSING) {
+                        writable(index).clearDerived();
+                    }
+                }
+            }
+        }
+    }
+
+    void invalidateChunkColumn(int chunkX, int chunkZ) {
+        for (int i = sections.size() - 1; i >= 0; i--) {
+            Section section = sections.get(i);
+            int sectionX = SectionPos.x(section.key);
+            int sectionZ = SectionPos.z(section.key);
+            if (sectionX == chunkX && sectionZ == chunkZ) {
+                removeSectionAt(i);
+            } else if (Math.abs(sectionX - chunkX) <= 1 && Math.abs(sectionZ - chunkZ) <= 1) {
+                writable(i).clearDerived();
+            }
+        }
+    }
+
+    void clear() {
+        sectionIndex.clear();
+        sections.clear();
+        palette.clear();
+        paletteIds.clear();
+        lastSection = null;
+    }
+
+    int paletteSize() {
+        return palette.size();
+    }
+
+    private Section section(BlockPos pos, boolean create) {
+        long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        if (lastSection != null && lastSectionKey == key && !(create && lastSection.shared)) {
+            return lastSection;
+        }
+        int index = sectionIndex.get(key);
+        Section section;
+        if (index != NavigatorLongIndexMap.MISSING) {
+            section = create ? writable(index) : sections.get(index);
+        } else if (create) {
+            section = new Section(key);
+            sectionIndex.put(key, sections.size());
+            sections.add(section);
+        } else {
+            return null;
+        }
+        if (!forked || !section.shared) {
+            section.lastUsed = useStamp;
+        }
+        lastSectionKey = key;
+        lastSection = section;
+        return section;
+    }
+
+    private Section writable(int index) {
+        Section section = sections.get(index);
+        if (!section.shared) {
+            return section;
+        }
+        Section copy = section.copy();
+        copy.lastUsed = useStamp;
+        sections.set(index, copy);
+        if (lastSection == section) {
+            lastSection = copy;
+        }
+        return copy;
+    }
+
+    private void removeSection(long key) {
+        int index = sectionIndex.get(key);
+        if (index != NavigatorLongIndexMap.MISSING) {
+            removeSectionAt(index);
+        }
+    }
+
+    private void removeSectionAt(int index) {
+        Section removed = sections.get(index);
+        sectionIndex.remove(removed.key);
+        int lastIndex = sections.size() - 1;
+        if (index != lastIndex) {
+            Section moved = sections.get(lastIndex);
+            sections.set(index, moved);
+            sectionIndex.put(moved.key, index);
+        }
+        sections.remove(lastIndex);
+        if (lastSection == removed) {
+            lastSection = null;
+        }
+    }
+
+    private static int voxelIndex(BlockPos pos) {
+        return ((pos.getY() & 15) << 8) | ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
+    }
+
+    private static final class Section {
+        final long key;
+        final char[] states = new char[SECTION_VOLUME];
+        final int[] flags = new int[SECTION_VOLUME];
+        VoxelShape[] shapes;
+        double[] supportY;
+        int lastUsed;
+        // Reachable from a fork as well as its parent; neither may write to it in place.
+        boolean shared;
+
+        Section(long key) {
+            this.key = key;
+        }
+
+        Section copy() {
+            Section copy = new Section(key);
+            System.arraycopy(states, 0, copy.states, 0, SECTION_VOLUME);
+            System.arraycopy(flags, 0, copy.flags, 0, SECTION_VOLUME);
+            copy.shapes = shapes != null ? shapes.clone() : null;
+            copy.supportY = supportY != null ? supportY.clone() : null;
+            return copy;
+        }
+
+        void clearDerived() {
+            Arrays.fill(flags, 0);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.pathmind.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+
+final class NavigatorWorldSnapshot {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    private static final BlockState VOID_AIR = Blocks.VOID_AIR.defaultBlockState();
+
+    private final NavigatorLongIndexMap chunkIndex;
+    private final List<PalettedContainer<BlockState>[]> columns;
+    private final int minChunkX;
+    private final int maxChunkX;
+    private final int minChunkZ;
+    private final int maxChunkZ;
+    private final int minSectionY;
+    private final int maxSectionY;
+    private final int worldMinY;
+    private final int worldMaxY;
+    private final int capturedSections;
+
+    private NavigatorWorldSnapshot(
+        NavigatorLongIndexMap chunkIndex,
+        List<PalettedContainer<BlockState>[]> columns,
+        int minChunkX,
+        int maxChunkX,
+        int minChunkZ,
+        int maxChunkZ,
+        int minSectionY,
+        int maxSectionY,
+        int worldMinY,
+        int worldMaxY,
+        int capturedSections
+    ) {
+        this.chunkIndex = chunkIndex;
+        this.columns = columns;
+        this.minChunkX = minChunkX;
+        this.maxChunkX = maxChunkX;
+        this.minChunkZ = minChunkZ;
+        this.maxChunkZ = maxChunkZ;
+        this.minSectionY = minSectionY;
+        this.maxSectionY = maxSectionY;
+        this.worldMinY = worldMinY;
+        this.worldMaxY = worldMaxY;
+        this.capturedSections = capturedSections;
+    }
+
+    @SuppressWarnings("unchecked")
+    static NavigatorWorldSnapshot capture(ClientLevel world, BlockPos center, int horizontalRadius, int minY, int maxY) {
+        int minChunkX = (center.getX() - horizontalRadius) >> 4;
+        int maxChunkX = (center.getX() + horizontalRadius) >> 4;
+        int minChunkZ = (center.getZ() - horizontalRadius) >> 4;
+        int maxChunkZ = (center.getZ() + horizontalRadius) >> 4;
+        int worldMinSectionY = world.getMinSectionY();
+        int minSectionY = Math.max(worldMinSectionY, minY >> 4);
+        int maxSectionY = Math.min(world.getMaxSectionY(), maxY >> 4);
+        int height = Math.max(0, maxSectionY - minSectionY + 1);
+
+        NavigatorLongIndexMap chunkIndex = new NavigatorLongIndexMap((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1));
+        List<PalettedContainer<BlockState>[]> columns = new ArrayList<>();
+        int capturedSections = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!world.hasChunk(chunkX, chunkZ)) {
+                    continue;
+                }
+                LevelChunk chunk = world.getChunk(chunkX, chunkZ);
+                if (chunk == null || chunk.isEmpty()) {
+                    continue;
+                }
+                LevelChunkSection[] sections = chunk.getSections();
+                PalettedContainer<BlockState>[] column = new PalettedContainer[height];
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    int sectionIndex = sectionY - worldMinSectionY;
+                    if (sectionIndex < 0 || sectionIndex >= sections.length) {
+                        continue;
+                    }
+                    LevelChunkSection section = sections[sectionIndex];
+                    if (section == null || section.hasOnlyAir()) {
+                        continue;
+                    }
+                    column[sectionY - minSectionY] = section.getStates().copy();
+                    capturedSections++;
+                }
+                chunkIndex.put(chunkKey(chunkX, chunkZ), columns.size());
+                columns.add(column);
+            }
+        }
+        return new NavigatorWorldSnapshot(
+            chunkIndex,
+            columns,
+            minChunkX,
+            maxChunkX,
+            minChunkZ,
+            maxChunkZ,
+            minSectionY,
+            maxSectionY,
+            worldMinSectionY << 4,
+            (world.getMaxSectionY() << 4) + 15,
+            capturedSections
+        );
+    }
+
+    boolean hasChunk(int chunkX, int chunkZ) {
+        return chunkX >= minChunkX
+            && chunkX <= maxChunkX
+            && chunkZ >= minChunkZ
+            && chunkZ <= maxChunkZ
+            && chunkIndex.get(chunkKey(chunkX, chunkZ)) != NavigatorLongIndexMap.MISSING;
+    }
+
+    BlockState blockState(BlockPos pos) {
+        int sectionY = pos.getY() >> 4;
+        if (sectionY < minSectionY || sectionY > maxSectionY) {
+            return VOID_AIR;
+        }
+        int chunkX = pos.getX() >> 4;
+        int chunkZ = pos.getZ() >> 4;
+        if (!hasChunk(chunkX, chunkZ)) {
+            return VOID_AIR;
+        }
+        PalettedContainer<BlockState> states = columns.get(chunkIndex.get(chunkKey(chunkX, chunkZ)))[sectionY - minSectionY];
+        return states == null ? AIR : states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    boolean isInWorldBounds(BlockPos pos) {
+        return pos.getY() >= worldMinY
+            && pos.getY() <= worldMaxY
+            && pos.getX() >= -30_000_000
+            && pos.getX() < 30_000_000
+            && pos.getZ() >= -30_000_000
+            && pos.getZ() < 30_000_000;
+    }
+
+    int chunkCount() {
+        return columns.size();
+    }
+
+    int sectionCount() {
+        return capturedSections;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) ^ (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -1,5 +1,6 @@
 package com.pathmind.execution;
 
+import com.pathmind.nodes.BlockPositionIndex;
 import com.pathmind.ui.overlay.NodeErrorNotificationOverlay;
 import com.pathmind.ui.theme.UITheme;
 import com.pathmind.util.LoaderMetadata;
@@ -76,6 +77,7 @@ public final class PathmindNavigator {
     private final PathmindPathPlanner pathPlanner = new PathmindPathPlanner(new PlannerHost());
     private final NavigatorPrimitiveExecutor primitiveExecutor = new NavigatorPrimitiveExecutor(new PrimitiveHost(), executionState, navigationState, pathPlanner);
     private final NavigatorRouteCoordinator routeCoordinator = new NavigatorRouteCoordinator(new RouteHost(), executionState, navigationState, pathPlanner, primitiveExecutor);
+    private final NavigatorPlanningWorker planningWorker = new NavigatorPlanningWorker();
     private String previousControllerMode = "none";
     private String previousPrimitiveLabel = "none";
     private String previousMiningAscentPhase = MiningAscentPhase.CLEARANCE.name();
@@ -316,6 +318,10 @@ public final class PathmindNavigator {
         return INSTANCE;
     }
 
+    static PathmindPathPlanner pathPlannerForTests() {
+        return INSTANCE.pathPlanner;
+    }
+
     public synchronized boolean startGoto(BlockPos targetPos, String commandLabel, CompletableFuture<Void> future) {
         if (targetPos == null || future == null) {
             return false;
@@ -665,6 +671,12 @@ public final class PathmindNavigator {
         this.allowBlockPlacing = allowBlockPlacing;
     }
 
+    public synchronized void onBlockChanged(BlockPos pos) {
+        if (state == State.PATHING && pos != null) {
+            pathPlanner.onBlockChanged(pos, navigationState.currentPath);
+        }
+    }
+
     public synchronized boolean isEventLoggingEnabled() {
         return eventLoggingEnabled;
     }
@@ -954,9 +966,14 @@ public final class PathmindNavigator {
                     + " moves=" + cache.movementEvaluations
                     + " clean=" + cache.cleanSearches
                     + " modified=" + cache.modifiedSearches
-                    + " states=" + cache.blockStates.size()
+                    + " sections=" + cache.voxels.sectionCount()
+                    + " palette=" + cache.voxels.paletteSize()
                     + " stateHits=" + cache.blockStateHits
+                    + " stateMisses=" + cache.blockStateMisses
                     + " shapeHits=" + cache.collisionShapeHits
+                    + " shapeMisses=" + cache.collisionShapeMisses
+                    + " flagHits=" + cache.voxels.flagHits
+                    + " flagMisses=" + cache.voxels.flagMisses
             );
         }
     }
@@ -1054,6 +1071,9 @@ public final class PathmindNavigator {
 
     public void tick(Minecraft client) {
         try {
+            if (client != null && client.player != null && client.level != null && isActive()) {
+                pathPlanner.prebuildRegions(client.level, client.player.blockPosition());
+            }
             tickInternal(client);
         } finally {
             renderSnapshot = buildRenderSnapshot(client);
@@ -1103,8 +1123,8 @@ public final class PathmindNavigator {
         }
 
         pathPlanner.pruneFailureMemory(now);
-        if (routeCoordinator.shouldReplan(world, playerFootPos, target, now)) {
-            PathComputation computation = findPath(world, playerFootPos, target);
+        PathComputation computation = pollOrRequestPlan(world, playerFootPos, target, now);
+        if (computation != null) {
             if (computation.path().isEmpty()) {
                 if (computation.failureReason() == FailureReason.SEARCH_LIMIT
                     && routeCoordinator.deferPlanningAfterBudgetExhaustion(now, computation.failureDetail())) {
@@ -1172,6 +1192,10 @@ public final class PathmindNavigator {
                 return;
             }
             synchronized (this) {
+                if (planningWorker.isPending()) {
+                    navigationState.lastAdvanceDecision = "hold:awaiting_async_plan";
+                    return;
+                }
                 if (now - navigationState.lastPlanAtMs < REPLAN_COOLDOWN_MS) {
                     navigationState.lastAdvanceDecision = "hold:recovery_replan_cooldown";
                     return;
@@ -1358,8 +1382,11 @@ public final class PathmindNavigator {
         stopInternal(true, reason);
     }
 
+    /** Called by every loader on disconnect and client shutdown, so it also drops the other per-level caches. */
     public synchronized void reset() {
         stopInternal(false, "reset");
+        NavigatorTerrainCache.getInstance().clear();
+        BlockPositionIndex.getInstance().clear();
     }
 
     private synchronized void fail(FailureReason failureReason) {
@@ -1519,6 +1546,7 @@ public final class PathmindNavigator {
         releaseMovementKeys(client);
         NavigatorCameraController.end(client != null ? client.player : null);
         appendDebugEventLocked("stop reason=" + (reason == null ? "none" : reason));
+        planningWorker.cancel();
         if (activeFuture != null && !activeFuture.isDone()) {
             if (completeFuture) {
                 activeFuture.complete(null);
@@ -1660,6 +1688,29 @@ public final class PathmindNavigator {
         return pathPlanner.findPath(world, start, target);
     }
 
+    private PathComputation pollOrRequestPlan(ClientLevel world, BlockPos playerFootPos, BlockPos target, long now) {
+        NavigatorPlanningWorker.Result planned = planningWorker.poll();
+        if (planned != null && planned.target().equals(target)) {
+            synchronized (this) {
+                appendDebugEventLocked("async plan ready age=" + (now - planned.submittedAtMs()) + "ms from=" + formatDebugPos(planned.start()));
+            }
+            return planned.computation();
+        }
+        if (planningWorker.isPending() || !routeCoordinator.shouldReplan(world, playerFootPos, target, now)) {
+            return null;
+        }
+        BlockPos start = playerFootPos.immutable();
+        BlockPos goal = target.immutable();
+        NavigatorWorldSnapshot snapshot = pathPlanner.captureSnapshot(world, start, goal);
+        NavigatorVoxelStore voxels = pathPlanner.forkVoxels(world);
+        planningWorker.submit(start, goal, now, () -> pathPlanner.findPath(world, snapshot, voxels, null, start, goal));
+        synchronized (this) {
+            appendDebugEventLocked("async plan submitted chunks=" + snapshot.chunkCount()
+                + " sections=" + snapshot.sectionCount());
+        }
+        return null;
+    }
+
     private BlockPos resolvePlayerFootPos(LocalPlayer player) {
         return player == null ? null : player.blockPosition().immutable();
     }
@@ -3,20 +3,29 @@ package com.pathmind.execution;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.OptionalDouble;
-import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
@@ -50,6 +59,10 @@ final class PathmindPathPlanner {
     private static final int MAX_SEARCH_RADIUS = 72;
     private static final int SEARCH_HEIGHT = 18;
     private static final int MAX_SEARCH_HEIGHT = 48;
+    private static final int SNAPSHOT_MARGIN = 8;
+    private static final int REPAIR_SCAN_WINDOW = 32;
+    private static final int MAX_REPAIR_SPAN = 10;
+    private static final long REPAIR_TIME_BUDGET_MS = 6L;
     private static final int GOAL_SEARCH_RADIUS = 5;
     private static final int MAX_EXPANSIONS = 64000;
     private static final int MAX_GOAL_CANDIDATES = 10;
@@ -59,6 +72,10 @@ final class PathmindPathPlanner {
     private static final long COARSE_PATHFIND_TIME_BUDGET_MS = 20L;
     private static final int COARSE_MAX_EXPANSIONS = 90000;
     private static final int COARSE_LOOKAHEAD_STEPS = 18;
+    private static final long REGION_PATHFIND_TIME_BUDGET_MS = 12L;
+    private static final int REGION_TARGET_MARGIN = 6;
+    private static final int REGION_PREBUILD_SECTION_RADIUS = 2;
+    private static final long REGION_PREBUILD_BUDGET_NANOS = 1_000_000L;
     private static final double COARSE_PLANNING_DISTANCE_SQ = 18.0D * 18.0D;
     private static final double WATER_PENALTY = 3.5D;
     private static final double WATER_AVOIDANCE_PENALTY = 12.0D;
@@ -96,6 +113,18 @@ final class PathmindPathPlanner {
     private static final int MIN_PARTIAL_PATH_LENGTH = 6;
     private static final double DIG_ESCAPE_MOVE_PENALTY = 1.35D;
     private static final double DIG_BREAKOUT_MOVE_PENALTY = 1.1D;
+    private static final int GOAL_SEARCH_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private static final long GOAL_SEARCH_JOIN_GRACE_MS = 5L;
+    private static final ExecutorService GOAL_SEARCH_EXECUTOR = Executors.newFixedThreadPool(GOAL_SEARCH_PARALLELISM, new ThreadFactory() {
+        private final AtomicInteger nextId = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Pathmind-Goal-Search-" + nextId.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
     private static final Move[] MOVES = {
         new Move(0, -1, 1.0D),
         new Move(0, 1, 1.0D),
@@ -127,6 +156,7 @@ final class PathmindPathPlanner {
 
     private final Host host;
     private final NavigatorFailureMemory failureMemory = new NavigatorFailureMemory();
+    private final NavigatorRouteWatch routeWatch = new NavigatorRouteWatch();
     private final ThreadLocal<NavigatorPlanningCache> activePlanningCache = new ThreadLocal<>();
 
     PathmindPathPlanner(Host host) {
@@ -135,24 +165,72 @@ final class PathmindPathPlanner {
 
     void clearFailureMemory() {
         failureMemory.clear();
+        routeWatch.reset();
+    }
+
+    void onBlockChanged(BlockPos pos, List<BlockPos> committedPath) {
+        if (!routeWatch.isTracking(committedPath)) {
+            routeWatch.track(committedPath);
+        }
+        routeWatch.markVoxelChanged(pos);
     }
 
     PathComputation findPath(ClientLevel world, BlockPos start, BlockPos target) {
         if (world == null || start == null || target == null) {
             return new PathComputation(List.of(), List.of(), List.of(), null, GoalMode.EXACT, FailureReason.CLIENT_UNAVAILABLE, null);
         }
+        return findPathWithCache(new NavigatorPlanningCache(world, NavigatorTerrainCache.getInstance().acquire(world)), world, start, target);
+    }
 
-        NavigatorPlanningCache previousCache = activePlanningCache.get();
-        NavigatorPlanningCache cache = new NavigatorPlanningCache(world);
-        activePlanningCache.set(cache);
+    /** Copy-on-write view of the shared voxel store; take it on the client thread together with the snapshot. */
+    NavigatorVoxelStore forkVoxels(ClientLevel world) {
+        return NavigatorTerrainCache.getInstance().fork(world);
+    }
+
+    NavigatorWorldSnapshot captureSnapshot(ClientLevel world, BlockPos start, BlockPos target) {
+        int radius = getSearchRadius(start, target) + SNAPSHOT_MARGIN;
+        int height = getSearchHeight(start, target) + MAX_DROP_DOWN + SNAPSHOT_MARGIN;
+        return NavigatorWorldSnapshot.capture(world, start, radius, start.getY() - height, start.getY() + height);
+    }
+
+    /**
+     * Plans against a captured snapshot, typically on the planning worker. A null {@code regionPath} runs the region
+     * search here as well: sections already in the shared region graph are reused, and missing ones are built from
+     * the snapshot without being persisted.
+     */
+    PathComputation findPath(ClientLevel world, NavigatorWorldSnapshot snapshot, List<BlockPos> regionPath, BlockPos start, BlockPos target) {
+        return findPath(world, snapshot, new NavigatorVoxelStore(), regionPath, start, target);
+    }
+
+    /** As above, starting from voxels already known to the client, typically a {@link #forkVoxels} taken with the snapshot. */
+    PathComputation findPath(ClientLevel world, NavigatorWorldSnapshot snapshot, NavigatorVoxelStore voxels, List<BlockPos> regionPath,
+                             BlockPos start, BlockPos target) {
+        if (world == null || snapshot == null || voxels == null || start == null || target == null) {
+            return new PathComputation(List.of(), List.of(), List.of(), null, GoalMode.EXACT, FailureReason.CLIENT_UNAVAILABLE, null);
+        }
+        NavigatorPlanningCache cache = new NavigatorPlanningCache(world, voxels, snapshot);
+        cache.regionPath = regionPath;
+        return findPathWithCache(cache, world, start, target);
+    }
+
+    private PathComputation findPathWithCache(NavigatorPlanningCache cache, ClientLevel world, BlockPos start, BlockPos target) {
         long startedNanos = System.nanoTime();
         PathComputation result = null;
         try {
-            result = findPathCached(world, start, target);
+            result = withPlanningCache(cache, () -> findPathCached(world, start, target));
             return result;
         } finally {
             long elapsedMs = Math.max(0L, (System.nanoTime() - startedNanos) / 1_000_000L);
             host.recordPlanningDiagnostics(cache, result, elapsedMs);
+        }
+    }
+
+    <T> T withPlanningCache(NavigatorPlanningCache cache, Supplier<T> work) {
+        NavigatorPlanningCache previousCache = activePlanningCache.get();
+        activePlanningCache.set(cache);
+        try {
+            return work.get();
+        } finally {
             if (previousCache == null) {
                 activePlanningCache.remove();
             } else {
@@ -161,6 +239,86 @@ final class PathmindPathPlanner {
         }
     }
 
+    RouteRepair repairRoute(ClientLevel world, List<BlockPos> path, BlockPos routeStart, int fromIndex, long now) {
+        if (world == null || path == null || path.isEmpty() || fromIndex < 0 || fromIndex >= path.size()) {
+            return null;
+        }
+        if (!routeWatch.isTracking(path)) {
+            routeWatch.track(path);
+        }
+        NavigatorPlanningCache cache = new NavigatorPlanningCache(world, NavigatorTerrainCache.getInstance().acquire(world));
+        return withPlanningCache(cache, () -> repairRouteCached(world, path, routeStart, fromIndex, now));
+    }
+
+    RouteRepair repairRouteCached(ClientLevel world, List<BlockPos> path, BlockPos routeStart, int fromIndex, long now) {
+        int scanEnd = Math.min(path.size(), fromIndex + REPAIR_SCAN_WINDOW);
+        int brokenFrom = -1;
+        for (int i = fromIndex; i < scanEnd; i++) {
+            if (isRouteStepBroken(world, path, routeStart, i, now)) {
+                brokenFrom = i;
+                break;
+            }
+        }
+        if (brokenFrom < 0) {
+            return new RouteRepair(path, null, -1, -1);
+        }
+        int brokenTo = brokenFrom;
+        while (brokenTo + 1 < path.size() && isRouteStepBroken(world, path, routeStart, brokenTo + 1, now)) {
+            brokenTo++;
+            if (brokenTo - brokenFrom >= MAX_REPAIR_SPAN) {
+                return null;
+            }
+        }
+        int rejoinIndex = brokenTo + 1;
+        BlockPos anchor = brokenFrom > 0 ? path.get(brokenFrom - 1) : routeStart;
+        if (rejoinIndex >= path.size() || anchor == null) {
+            return null;
+        }
+        BlockPos rejoin = path.get(rejoinIndex);
+        long deadlineMs = System.currentTimeMillis() + REPAIR_TIME_BUDGET_MS;
+        PathSearchResult bridge = findPathToGoal(world, anchor, rejoin, deadlineMs, false);
+        if (!endsAtGoal(bridge.path(), rejoin) && (host.allowBlockBreaking() || host.allowBlockPlacing())) {
+            bridge = findPathToGoal(world, anchor, rejoin, deadlineMs, true);
+        }
+        if (!endsAtGoal(bridge.path(), rejoin)) {
+            return null;
+        }
+
+        List<BlockPos> repaired = new ArrayList<>(path.size() + bridge.path().size());
+        repaired.addAll(path.subList(0, brokenFrom));
+        for (BlockPos step : bridge.path()) {
+            if (!step.equals(anchor)) {
+                repaired.add(step);
+            }
+        }
+        int bridgeEnd = repaired.size() - 1;
+        repaired.addAll(path.subList(rejoinIndex + 1, path.size()));
+        List<BlockPos> repairedPath = List.copyOf(repaired);
+        List<PlannedPrimitive> repairedPlan = host.buildPlannedPrimitives(world, repairedPath, routeStart);
+        routeWatch.track(repairedPath);
+        return new RouteRepair(repairedPath, repairedPlan, brokenFrom, bridgeEnd);
+    }
+
+    boolean isRouteStepBroken(Level world, List<BlockPos> path, BlockPos routeStart, int index, long now) {
+        BlockPos step = path.get(index);
+        BlockPos previous = index > 0 ? path.get(index - 1) : routeStart;
+        if (step == null) {
+            return true;
+        }
+        if (isFailedNode(step, now) || (previous != null && isFailedEdge(previous, step, now))) {
+            return true;
+        }
+        if (!routeWatch.isDirty(index)) {
+            return false;
+        }
+        boolean broken = !host.isWaypointActionable(world, step)
+            || (previous != null && !previous.equals(step) && resolveNeighborAccess(world, previous, step) == null);
+        if (!broken) {
+            routeWatch.clearDirty(index);
+        }
+        return broken;
+    }
+
     PathComputation findPathCached(ClientLevel world, BlockPos start, BlockPos target) {
 
         long overallDeadlineMs = System.currentTimeMillis() + PATHFIND_TIME_BUDGET_MS;
@@ -169,13 +327,16 @@ final class PathmindPathPlanner {
             return new PathComputation(List.of(), List.of(), List.of(), null, GoalMode.EXACT, FailureReason.NO_START_SPACE, "Move to a standable block before retrying.");
         }
 
-        BlockPos planningTarget = resolvePlanningTarget(world, normalizedStart, target);
+        BlockPos regionPlanningTarget = shouldUseHierarchicalPlanning(normalizedStart, target)
+            ? selectRegionPlanningTarget(world, normalizedStart, regionPathFor(world, normalizedStart, target))
+            : null;
+        BlockPos planningTarget = regionPlanningTarget != null ? regionPlanningTarget : resolvePlanningTarget(world, normalizedStart, target);
         if (planningTarget == null) {
             return new PathComputation(List.of(), List.of(), List.of(), null, GoalMode.EXACT, FailureReason.NO_LOADED_FRONTIER, "The planner could not project a loaded route corridor toward " + host.formatDebugPos(target) + ".");
         }
 
         BlockPos exactPlanningTarget = planningTarget;
-        if (shouldUseHierarchicalPlanning(normalizedStart, planningTarget)) {
+        if (regionPlanningTarget == null && shouldUseHierarchicalPlanning(normalizedStart, planningTarget)) {
             List<BlockPos> coarsePath = findCoarsePath(world, normalizedStart, planningTarget);
             BlockPos localPlanningTarget = selectLocalPlanningTarget(world, normalizedStart, coarsePath, planningTarget);
             if (localPlanningTarget != null) {
@@ -188,6 +349,11 @@ final class PathmindPathPlanner {
         FailureReason lastFailure = searchOutcome.failureReason();
         String lastFailureDetail = searchOutcome.failureDetail();
 
+        if (scoredPaths.isEmpty() && regionPlanningTarget != null) {
+            BlockPos projectedTarget = resolvePlanningTarget(world, normalizedStart, target);
+            exactPlanningTarget = projectedTarget != null ? projectedTarget : planningTarget;
+        }
+
         if (scoredPaths.isEmpty() && !planningTarget.equals(exactPlanningTarget)) {
             searchOutcome = searchPlanningTarget(world, normalizedStart, exactPlanningTarget, target, overallDeadlineMs);
             scoredPaths = searchOutcome.scoredPaths();
@@ -246,10 +412,15 @@ final class PathmindPathPlanner {
             return new GoalSearchOutcome(List.of(), FailureReason.NO_GOAL_SPACE, detail);
         }
 
+        int candidateCount = Math.min(MAX_GOAL_PATH_ATTEMPTS, goalCandidates.size());
+        NavigatorPlanningCache cache = planningCacheFor(world);
+        if (candidateCount > 1 && GOAL_SEARCH_PARALLELISM > 1 && cache != null && cache.snapshot != null) {
+            return searchGoalCandidatesInParallel(world, cache, start, planningTarget, exactTarget, goalCandidates.subList(0, candidateCount), deadlineMs);
+        }
+
         List<ScoredPath> scoredPaths = new ArrayList<>();
         FailureReason lastFailure = FailureReason.NO_ROUTE;
         String lastFailureDetail = "The planner did not find a viable route toward " + host.formatDebugPos(planningTarget) + ".";
-        int candidateCount = Math.min(MAX_GOAL_PATH_ATTEMPTS, goalCandidates.size());
         for (int i = 0; i < candidateCount; i++) {
             if (System.currentTimeMillis() >= deadlineMs) {
                 lastFailure = FailureReason.SEARCH_LIMIT;
@@ -257,69 +428,160 @@ final class PathmindPathPlanner {
                 break;
             }
             BlockPos candidateGoal = goalCandidates.get(i);
-            long searchStartedMs = System.currentTimeMillis();
-            long remainingMs = Math.max(1L, deadlineMs - searchStartedMs);
-            long cleanBudgetMs = NavigatorSearchPolicy.cleanSearchBudgetMillis(remainingMs, CLEAN_SEARCH_BUDGET_FRACTION);
-            long cleanDeadlineMs = Math.min(deadlineMs, searchStartedMs + cleanBudgetMs);
-            PathSearchResult result = findPathToGoal(world, start, candidateGoal, cleanDeadlineMs, false);
-            if (shouldTryModifiedSearch(world, start, candidateGoal, result)
-                && (host.allowBlockBreaking() || host.allowBlockPlacing())
-                && System.currentTimeMillis() < deadlineMs) {
-                result = findPathToGoal(world, start, candidateGoal, deadlineMs, true);
-            }
-            if (!result.path().isEmpty()) {
-                List<BlockPos> candidatePath = result.path();
-                List<PlannedPrimitive> candidatePlan = result.plannedPrimitives();
-                boolean exactPath = endsAtGoal(candidatePath, candidateGoal);
-                if (!exactPath) {
-                    BlockPos partialEnd = candidatePath.get(candidatePath.size() - 1);
-                    boolean usefulPartial = NavigatorSearchPolicy.isUsefulPartialPath(
-                        candidatePath.size(),
-                        horizontalDistanceSq(start, candidateGoal),
-                        horizontalDistanceSq(partialEnd, candidateGoal),
-                        host.isWaypointActionable(world, partialEnd)
-                    );
-                    if (candidateGoal.equals(exactTarget)) {
-                        boolean acceptableNearGoal = partialEnd != null
-                            && horizontalDistanceSq(partialEnd, exactTarget) <= 4.0D
-                            && Math.abs(partialEnd.getY() - exactTarget.getY()) <= MAX_DROP_DOWN
-                            && host.isWaypointActionable(world, partialEnd);
-                        if (!acceptableNearGoal && !usefulPartial) {
-                            lastFailure = result.timedOut() ? FailureReason.SEARCH_LIMIT : FailureReason.NO_ROUTE;
-                            lastFailureDetail = result.timedOut()
-                                ? "Search reached the bounded planning deadline after making insufficient progress toward " + host.formatDebugPos(candidateGoal) + "."
-                                : "The exact target " + host.formatDebugPos(candidateGoal) + " could not be reached exactly.";
-                            continue;
-                        }
-                    }
-                    if (!usefulPartial) {
-                        lastFailure = result.timedOut() ? FailureReason.SEARCH_LIMIT : FailureReason.NO_ROUTE;
-                        lastFailureDetail = result.timedOut()
-                            ? "Search reached the bounded planning deadline before producing a useful route segment toward " + host.formatDebugPos(candidateGoal) + "."
-                            : "Only a non-progressing partial path was found toward " + host.formatDebugPos(candidateGoal) + ".";
-                        continue;
-                    }
+            GoalCandidateOutcome outcome = evaluateGoalCandidate(world, start, candidateGoal, exactTarget, deadlineMs);
+            if (outcome.scoredPath() != null) {
+                scoredPaths.add(outcome.scoredPath());
+                if (candidateGoal.equals(exactTarget)) {
+                    break;
                 }
-                if (!isViablePlannedPath(world, candidatePath, candidatePlan)) {
-                    lastFailure = FailureReason.NO_ROUTE;
-                    lastFailureDetail = "The planner produced an invalid movement sequence toward " + host.formatDebugPos(candidateGoal) + ".";
-                    continue;
+            } else if (outcome.failureReason() != null) {
+                lastFailure = outcome.failureReason();
+                lastFailureDetail = outcome.failureDetail();
+            }
+        }
+        return new GoalSearchOutcome(scoredPaths, lastFailure, lastFailureDetail);
+    }
+
+    private GoalSearchOutcome searchGoalCandidatesInParallel(
+        ClientLevel world,
+        NavigatorPlanningCache sharedCache,
+        BlockPos start,
+        BlockPos planningTarget,
+        BlockPos exactTarget,
+        List<BlockPos> goalCandidates,
+        long deadlineMs
+    ) {
+        AtomicBoolean cancellation = new AtomicBoolean();
+        List<NavigatorPlanningCache> workerCaches = new ArrayList<>(goalCandidates.size());
+        List<Future<GoalCandidateOutcome>> futures = new ArrayList<>(goalCandidates.size());
+        for (BlockPos candidateGoal : goalCandidates) {
+            NavigatorPlanningCache workerCache = new NavigatorPlanningCache(world, sharedCache.voxels.fork(), sharedCache.snapshot);
+            workerCache.allowWorldModification = sharedCache.allowWorldModification;
+            workerCache.cancellation = cancellation;
+            workerCaches.add(workerCache);
+            futures.add(GOAL_SEARCH_EXECUTOR.submit(() -> withPlanningCache(workerCache, () -> {
+                if (cancellation.get()) {
+                    return null;
                 }
-                double scoredCost = result.cost()
-                    + pathStructurePenalty(candidatePath, candidatePlan)
-                    + pathModificationPenalty(candidatePlan);
-                scoredPaths.add(new ScoredPath(candidatePath, candidatePlan, scoredCost));
-                if (candidateGoal.equals(exactTarget)) {
+                GoalCandidateOutcome outcome = evaluateGoalCandidate(world, start, candidateGoal, exactTarget, deadlineMs);
+                if (outcome.scoredPath() != null && candidateGoal.equals(exactTarget)) {
+                    cancellation.set(true);
+                    return outcome;
+                }
+                return cancellation.get() ? null : outcome;
+            })));
+        }
+
+        List<ScoredPath> scoredPaths = new ArrayList<>();
+        FailureReason lastFailure = FailureReason.NO_ROUTE;
+        String lastFailureDetail = "The planner did not find a viable route toward " + host.formatDebugPos(planningTarget) + ".";
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                GoalCandidateOutcome outcome;
+                try {
+                    long waitMs = Math.max(1L, deadlineMs + GOAL_SEARCH_JOIN_GRACE_MS - System.currentTimeMillis());
+                    outcome = futures.get(i).get(waitMs, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    cancellation.set(true);
+                    lastFailure = FailureReason.SEARCH_LIMIT;
+                    lastFailureDetail = "The bounded planner exhausted its per-tick search budget toward " + host.formatDebugPos(planningTarget) + ".";
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancellation.set(true);
                     break;
+                } catch (ExecutionException e) {
+                    cancellation.set(true);
+                    throw new IllegalStateException("Goal candidate search failed", e.getCause());
+                }
+                sharedCache.absorbCounters(workerCaches.get(i));
+                if (outcome == null) {
+                    continue;
+                }
+                if (outcome.scoredPath() != null) {
+                    scoredPaths.add(outcome.scoredPath());
+                } else if (outcome.failureReason() != null) {
+                    lastFailure = outcome.failureReason();
+                    lastFailureDetail = outcome.failureDetail();
                 }
-            } else if (result.failureReason() != null) {
-                lastFailure = result.failureReason();
-                lastFailureDetail = result.failureDetail();
+            }
+        } finally {
+            for (Future<GoalCandidateOutcome> future : futures) {
+                future.cancel(false);
             }
         }
         return new GoalSearchOutcome(scoredPaths, lastFailure, lastFailureDetail);
     }
 
+    private GoalCandidateOutcome evaluateGoalCandidate(
+        ClientLevel world,
+        BlockPos start,
+        BlockPos candidateGoal,
+        BlockPos exactTarget,
+        long deadlineMs
+    ) {
+        long searchStartedMs = System.currentTimeMillis();
+        long remainingMs = Math.max(1L, deadlineMs - searchStartedMs);
+        long cleanBudgetMs = NavigatorSearchPolicy.cleanSearchBudgetMillis(remainingMs, CLEAN_SEARCH_BUDGET_FRACTION);
+        long cleanDeadlineMs = Math.min(deadlineMs, searchStartedMs + cleanBudgetMs);
+        PathSearchResult result = findPathToGoal(world, start, candidateGoal, cleanDeadlineMs, false);
+        if (shouldTryModifiedSearch(world, start, candidateGoal, result)
+            && (host.allowBlockBreaking() || host.allowBlockPlacing())
+            && System.currentTimeMillis() < deadlineMs) {
+            result = findPathToGoal(world, start, candidateGoal, deadlineMs, true);
+        }
+        if (result.path().isEmpty()) {
+            return new GoalCandidateOutcome(null, result.failureReason(), result.failureDetail());
+        }
+        List<BlockPos> candidatePath = result.path();
+        List<PlannedPrimitive> candidatePlan = result.plannedPrimitives();
+        boolean exactPath = endsAtGoal(candidatePath, candidateGoal);
+        if (!exactPath) {
+            BlockPos partialEnd = candidatePath.get(candidatePath.size() - 1);
+            boolean usefulPartial = NavigatorSearchPolicy.isUsefulPartialPath(
+                candidatePath.size(),
+                horizontalDistanceSq(start, candidateGoal),
+                horizontalDistanceSq(partialEnd, candidateGoal),
+                host.isWaypointActionable(world, partialEnd)
+            );
+            if (candidateGoal.equals(exactTarget)) {
+                boolean acceptableNearGoal = partialEnd != null
+                    && horizontalDistanceSq(partialEnd, exactTarget) <= 4.0D
+                    && Math.abs(partialEnd.getY() - exactTarget.getY()) <= MAX_DROP_DOWN
+                    && host.isWaypointActionable(world, partialEnd);
+                if (!acceptableNearGoal && !usefulPartial) {
+                    return new GoalCandidateOutcome(
+                        null,
+                        result.timedOut() ? FailureReason.SEARCH_LIMIT : FailureReason.NO_ROUTE,
+                        result.timedOut()
+                            ? "Search reached the bounded planning deadline after making insufficient progress toward " + host.formatDebugPos(candidateGoal) + "."
+                            : "The exact target " + host.formatDebugPos(candidateGoal) + " could not be reached exactly."
+                    );
+                }
+            }
+            if (!usefulPartial) {
+                return new GoalCandidateOutcome(
+                    null,
+                    result.timedOut() ? FailureReason.SEARCH_LIMIT : FailureReason.NO_ROUTE,
+                    result.timedOut()
+                        ? "Search reached the bounded planning deadline before producing a useful route segment toward " + host.formatDebugPos(candidateGoal) + "."
+                        : "Only a non-progressing partial path was found toward " + host.formatDebugPos(candidateGoal) + "."
+                );
+            }
+        }
+        if (!isViablePlannedPath(world, candidatePath, candidatePlan)) {
+            return new GoalCandidateOutcome(
+                null,
+                FailureReason.NO_ROUTE,
+                "The planner produced an invalid movement sequence toward " + host.formatDebugPos(candidateGoal) + "."
+            );
+        }
+        double scoredCost = result.cost()
+            + pathStructurePenalty(candidatePath, candidatePlan)
+            + pathModificationPenalty(candidatePlan);
+        return new GoalCandidateOutcome(new ScoredPath(candidatePath, candidatePlan, scoredCost), null, null);
+    }
+
     boolean shouldTryModifiedSearch(
         Level world,
         BlockPos start,
@@ -424,73 +686,169 @@ final class PathmindPathPlanner {
         return progressScore + stepScore - tailPenalty - totalModificationPenalty - totalStructurePenalty;
     }
 
-    List<BlockPos> findCoarsePath(ClientLevel world, BlockPos start, BlockPos goal) {
-        if (world == null || start == null || goal == null) {
+    List<BlockPos> regionPathFor(ClientLevel world, BlockPos start, BlockPos goal) {
+        NavigatorPlanningCache cache = planningCacheFor(world);
+        if (cache != null && cache.regionPath != null) {
+            return cache.regionPath;
+        }
+        return findRegionPath(world, start, goal);
+    }
+
+    List<BlockPos> findRegionPath(ClientLevel world, BlockPos start, BlockPos goal) {
+        if (world == null || start == null || goal == null || !isChunkLoaded(world, goal)) {
             return List.of();
         }
-        long deadlineMs = System.currentTimeMillis() + COARSE_PATHFIND_TIME_BUDGET_MS;
-        PriorityQueue<CoarseSearchNode> openSet = new PriorityQueue<>(Comparator.comparingDouble(CoarseSearchNode::fScore));
-        Map<BlockPos, BlockPos> cameFrom = new HashMap<>();
-        Map<BlockPos, Double> gScore = new HashMap<>();
-        Set<BlockPos> closed = new HashSet<>();
-        BlockPos bestPartial = start;
-        double bestPartialHeuristic = heuristic(start, List.of(goal));
-
-        gScore.put(start, 0.0D);
-        openSet.add(new CoarseSearchNode(start, heuristic(start, List.of(goal)), 0.0D));
-
-        int expansions = 0;
-        while (!openSet.isEmpty() && expansions < COARSE_MAX_EXPANSIONS) {
-            if (System.currentTimeMillis() >= deadlineMs) {
+        NavigatorPlanningCache cache = planningCacheFor(world);
+        boolean persist = cache == null || cache.snapshot == null;
+        NavigatorRegionGraph regions = NavigatorTerrainCache.getInstance().regions(world);
+        if (regions == null) {
+            return List.of();
+        }
+        long deadlineMs = System.currentTimeMillis() + REGION_PATHFIND_TIME_BUDGET_MS;
+        return regions.findPath(regionTerrain(world), start, goal, deadlineMs, persist);
+    }
+
+    BlockPos selectRegionPlanningTarget(Level world, BlockPos start, List<BlockPos> regionPath) {
+        if (regionPath == null || regionPath.size() < 2) {
+            return null;
+        }
+        BlockPos target = regionPath.get(regionPath.size() - 1);
+        int radius = getSearchRadius(start, target) - REGION_TARGET_MARGIN;
+        int height = getSearchHeight(start, target);
+        BlockPos selected = null;
+        for (int i = 1; i < regionPath.size(); i++) {
+            BlockPos candidate = regionPath.get(i);
+            if (Math.abs(candidate.getX() - start.getX()) > radius
+                || Math.abs(candidate.getZ() - start.getZ()) > radius
+                || Math.abs(candidate.getY() - start.getY()) > height) {
                 break;
             }
-            CoarseSearchNode current = openSet.poll();
-            BlockPos currentPos = current.pos();
-            if (!closed.add(currentPos)) {
-                continue;
+            if (i == regionPath.size() - 1 || host.isWaypointActionable(world, candidate)) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    void prebuildRegions(ClientLevel world, BlockPos around) {
+        if (world == null || around == null) {
+            return;
+        }
+        NavigatorRegionGraph regions = NavigatorTerrainCache.getInstance().regions(world);
+        if (regions == null) {
+            return;
+        }
+        regions.prebuild(
+            regionTerrain(world),
+            around.getY() >> 4,
+            REGION_PREBUILD_SECTION_RADIUS,
+            REGION_PREBUILD_BUDGET_NANOS
+        );
+    }
+
+    NavigatorRegionGraph.Terrain regionTerrain(ClientLevel world) {
+        return new NavigatorRegionGraph.Terrain() {
+            @Override
+            public boolean isChunkLoaded(int chunkX, int chunkZ) {
+                return PathmindPathPlanner.this.isChunkLoaded(world, new BlockPos(chunkX << 4, 0, chunkZ << 4));
             }
-            if (currentPos.equals(goal)) {
-                return reconstructCoarsePath(cameFrom, currentPos);
+
+            @Override
+            public BlockState blockState(BlockPos pos) {
+                return cachedBlockState(world, pos);
             }
-            double currentHeuristic = heuristic(currentPos, List.of(goal));
-            if (currentHeuristic < bestPartialHeuristic) {
-                bestPartial = currentPos;
-                bestPartialHeuristic = currentHeuristic;
+
+            @Override
+            public int classify(BlockState state) {
+                return classifyRegionState(state);
             }
-            expansions++;
+        };
+    }
 
-            for (CoarseNeighbor neighbor : getCoarseNeighbors(world, currentPos, start, goal)) {
-                if (closed.contains(neighbor.pos())) {
-                    continue;
+    int classifyRegionState(BlockState state) {
+        boolean openable = isPathOpenable(state);
+        boolean solid = !state.getCollisionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO).isEmpty();
+        int classes = 0;
+        if (!solid || openable) {
+            classes |= NavigatorRegionGraph.PASSABLE;
+        }
+        if (solid && !openable) {
+            classes |= NavigatorRegionGraph.FLOOR;
+        }
+        if (isDangerousBlock(state)) {
+            classes |= NavigatorRegionGraph.DANGER;
+        }
+        if (isClimbableBlock(state)) {
+            classes |= NavigatorRegionGraph.CLIMBABLE;
+        }
+        if (isWater(state.getFluidState())) {
+            classes |= NavigatorRegionGraph.WATER;
+        }
+        return classes;
+    }
+
+    List<BlockPos> findCoarsePath(ClientLevel world, BlockPos start, BlockPos goal) {
+        if (world == null || start == null || goal == null) {
+            return List.of();
+        }
+        long deadlineMs = System.currentTimeMillis() + COARSE_PATHFIND_TIME_BUDGET_MS;
+        try (NavigatorSearchArena arena = NavigatorSearchArena.acquire()) {
+            int startNode = arena.node(start);
+            int bestPartial = startNode;
+            double bestPartialHeuristic = heuristic(start, goal);
+
+            arena.link(startNode, NavigatorSearchArena.NO_NODE, null, 0.0D);
+            arena.open(startNode, bestPartialHeuristic);
+
+            int expansions = 0;
+            while (arena.hasOpen() && expansions < COARSE_MAX_EXPANSIONS) {
+                if (System.currentTimeMillis() >= deadlineMs) {
+                    break;
                 }
-                BlockPos previous = cameFrom.get(currentPos);
-                double tentativeG = current.gScore()
-                    + neighbor.cost()
-                    + elevationPenalty(currentPos, neighbor.pos())
-                    + turnPenalty(previous, currentPos, neighbor.pos())
-                    + terrainPenalty(world, currentPos, neighbor.pos());
-                double knownG = gScore.getOrDefault(neighbor.pos(), Double.POSITIVE_INFINITY);
-                if (tentativeG >= knownG) {
-                    continue;
+                int current = arena.pollOpen();
+                BlockPos currentPos = arena.position(current);
+                arena.markClosed(current);
+                if (currentPos.equals(goal)) {
+                    return reconstructCoarsePath(arena, current);
+                }
+                double currentHeuristic = heuristic(currentPos, goal);
+                if (currentHeuristic < bestPartialHeuristic) {
+                    bestPartial = current;
+                    bestPartialHeuristic = currentHeuristic;
+                }
+                expansions++;
+
+                BlockPos previous = arena.parentPosition(current);
+                double currentG = arena.gScore(current);
+                for (CoarseNeighbor neighbor : getCoarseNeighbors(world, currentPos, start, goal)) {
+                    int neighborNode = arena.node(neighbor.pos());
+                    if (arena.isClosed(neighborNode)) {
+                        continue;
+                    }
+                    double tentativeG = currentG
+                        + neighbor.cost()
+                        + elevationPenalty(currentPos, neighbor.pos())
+                        + turnPenalty(previous, currentPos, neighbor.pos())
+                        + terrainPenalty(world, currentPos, neighbor.pos());
+                    if (tentativeG >= arena.gScore(neighborNode)) {
+                        continue;
+                    }
+                    arena.link(neighborNode, current, null, tentativeG);
+                    arena.open(neighborNode, tentativeG + heuristic(neighbor.pos(), goal));
                 }
-                cameFrom.put(neighbor.pos(), currentPos);
-                gScore.put(neighbor.pos(), tentativeG);
-                openSet.add(new CoarseSearchNode(neighbor.pos(), tentativeG + heuristic(neighbor.pos(), List.of(goal)), tentativeG));
             }
-        }
 
-        if (bestPartial != null && !bestPartial.equals(start)) {
-            return reconstructCoarsePath(cameFrom, bestPartial);
+            if (bestPartial != startNode) {
+                return reconstructCoarsePath(arena, bestPartial);
+            }
+            return List.of();
         }
-        return List.of();
     }
 
-    List<BlockPos> reconstructCoarsePath(Map<BlockPos, BlockPos> cameFrom, BlockPos end) {
+    List<BlockPos> reconstructCoarsePath(NavigatorSearchArena arena, int end) {
         List<BlockPos> path = new ArrayList<>();
-        BlockPos cursor = end;
-        while (cursor != null) {
-            path.add(cursor.immutable());
-            cursor = cameFrom.get(cursor);
+        for (int cursor = end; cursor != NavigatorSearchArena.NO_NODE; cursor = arena.parent(cursor)) {
+            path.add(arena.position(cursor));
         }
         Collections.reverse(path);
         return List.copyOf(path);
@@ -531,116 +889,98 @@ final class PathmindPathPlanner {
     }
 
     PathSearchResult findPathToGoalInMode(ClientLevel world, BlockPos start, BlockPos goal, long deadlineMs) {
-        Set<BlockPos> goalSet = Set.of(goal);
-        PriorityQueue<SearchNode> openSet = new PriorityQueue<>(Comparator.comparingDouble(node -> node.fScore()));
-        BlockPos startNode = start.immutable();
-        Map<BlockPos, BlockPos> cameFrom = new HashMap<>();
-        Map<BlockPos, PlannedPrimitive> cameByPrimitive = new HashMap<>();
-        Map<BlockPos, Double> gScore = new HashMap<>();
-        Set<BlockPos> closed = new HashSet<>();
-        BlockPos bestPartial = startNode;
-        double bestPartialScore = heuristic(startNode, List.of(goal));
-        double bestPartialDistanceSq = horizontalDistanceSq(startNode, goal);
-
-        gScore.put(startNode, 0.0D);
-        openSet.add(new SearchNode(startNode, heuristic(startNode, List.of(goal)), 0.0D));
-
-        int expansions = 0;
-        boolean timedOut = false;
-        while (!openSet.isEmpty() && expansions < MAX_EXPANSIONS) {
-            if (System.currentTimeMillis() >= deadlineMs) {
-                timedOut = true;
-                break;
-            }
-            SearchNode current = openSet.poll();
-            if (closed.contains(current.pos())) {
-                continue;
-            }
-            if (isGoal(current.pos(), goal, goalSet)) {
-                ReconstructedPath reconstructed = reconstructPath(world, cameFrom, cameByPrimitive, current.pos(), start);
-                return new PathSearchResult(reconstructed.path(), reconstructed.plannedPrimitives(), current.gScore(), false, null, null);
-            }
-            double currentHeuristic = heuristic(current.pos(), List.of(goal));
-            double currentDistanceSq = horizontalDistanceSq(current.pos(), goal) + Math.abs(current.pos().getY() - goal.getY());
-            if (currentHeuristic < bestPartialScore
-                || (Math.abs(currentHeuristic - bestPartialScore) < 0.001D && currentDistanceSq < bestPartialDistanceSq)) {
-                bestPartial = current.pos();
-                bestPartialScore = currentHeuristic;
-                bestPartialDistanceSq = currentDistanceSq;
-            }
-            closed.add(current.pos());
-            expansions++;
+        try (NavigatorSearchArena arena = NavigatorSearchArena.acquire()) {
+            BlockPos startPos = start.immutable();
+            int startNode = arena.node(startPos);
+            int bestPartial = startNode;
+            double bestPartialScore = heuristic(startPos, goal);
+            double bestPartialDistanceSq = horizontalDistanceSq(startPos, goal);
+
+            arena.link(startNode, NavigatorSearchArena.NO_NODE, null, 0.0D);
+            arena.open(startNode, bestPartialScore);
+
+            NavigatorPlanningCache cache = planningCacheFor(world);
+            AtomicBoolean cancellation = cache == null ? null : cache.cancellation;
+            int expansions = 0;
+            boolean timedOut = false;
+            while (arena.hasOpen() && expansions < MAX_EXPANSIONS) {
+                if (System.currentTimeMillis() >= deadlineMs || (cancellation != null && cancellation.get())) {
+                    timedOut = true;
+                    break;
+                }
+                int current = arena.pollOpen();
+                BlockPos currentPos = arena.position(current);
+                double currentG = arena.gScore(current);
+                if (currentPos.equals(goal)) {
+                    ReconstructedPath reconstructed = reconstructPath(world, arena, current, start);
+                    return new PathSearchResult(reconstructed.path(), reconstructed.plannedPrimitives(), currentG, false, null, null);
+                }
+                double currentHeuristic = heuristic(currentPos, goal);
+                double currentDistanceSq = horizontalDistanceSq(currentPos, goal) + Math.abs(currentPos.getY() - goal.getY());
+                if (currentHeuristic < bestPartialScore
+                    || (Math.abs(currentHeuristic - bestPartialScore) < 0.001D && currentDistanceSq < bestPartialDistanceSq)) {
+                    bestPartial = current;
+                    bestPartialScore = currentHeuristic;
+                    bestPartialDistanceSq = currentDistanceSq;
+                }
+                arena.markClosed(current);
+                expansions++;
 
-            for (Neighbor neighbor : getNeighbors(world, current.pos(), start, goal)) {
-                if (closed.contains(neighbor.pos())) {
-                    continue;
+                BlockPos previous = arena.parentPosition(current);
+                for (Neighbor neighbor : getNeighbors(world, currentPos, start, goal)) {
+                    int neighborNode = arena.node(neighbor.pos());
+                    if (arena.isClosed(neighborNode)) {
+                        continue;
+                    }
+                    double tentativeG = currentG
+                        + neighbor.cost()
+                        + elevationPenalty(currentPos, neighbor.pos())
+                        + turnPenalty(previous, currentPos, neighbor.pos())
+                        + terrainPenalty(world, currentPos, neighbor.pos());
+                    if (tentativeG >= arena.gScore(neighborNode)) {
+                        continue;
+                    }
+                    arena.link(neighborNode, current, neighbor.primitive(), tentativeG);
+                    arena.open(neighborNode, tentativeG + heuristic(neighbor.pos(), goal));
                 }
-                BlockPos previous = cameFrom.get(current.pos());
-                double tentativeG = current.gScore()
-                    + neighbor.cost()
-                    + elevationPenalty(current.pos(), neighbor.pos())
-                    + turnPenalty(previous, current.pos(), neighbor.pos())
-                    + terrainPenalty(world, current.pos(), neighbor.pos());
-                double knownG = gScore.getOrDefault(neighbor.pos(), Double.POSITIVE_INFINITY);
-                if (tentativeG >= knownG) {
-                    continue;
+            }
+
+            if (bestPartial != startNode) {
+                ReconstructedPath reconstructed = reconstructPath(world, arena, bestPartial, start);
+                List<BlockPos> partialPath = reconstructed.path();
+                if (partialPath.size() >= MIN_PARTIAL_PATH_LENGTH || horizontalDistanceSq(arena.position(bestPartial), goal) <= 36.0D) {
+                    return new PathSearchResult(
+                        partialPath,
+                        reconstructed.plannedPrimitives(),
+                        arena.gScore(bestPartial),
+                        timedOut,
+                        null,
+                        null
+                    );
                 }
-                cameFrom.put(neighbor.pos(), current.pos());
-                cameByPrimitive.put(neighbor.pos(), neighbor.primitive());
-                gScore.put(neighbor.pos(), tentativeG);
-                openSet.add(new SearchNode(neighbor.pos(), tentativeG + heuristic(neighbor.pos(), List.of(goal)), tentativeG));
-            }
-        }
-
-        if (bestPartial != null && !bestPartial.equals(start)) {
-            ReconstructedPath reconstructed = reconstructPath(world, cameFrom, cameByPrimitive, bestPartial, start);
-            List<BlockPos> partialPath = reconstructed.path();
-            if (partialPath.size() >= MIN_PARTIAL_PATH_LENGTH || horizontalDistanceSq(bestPartial, goal) <= 36.0D) {
-                return new PathSearchResult(
-                    partialPath,
-                    reconstructed.plannedPrimitives(),
-                    gScore.getOrDefault(bestPartial, Double.POSITIVE_INFINITY),
-                    timedOut,
-                    null,
-                    null
-                );
             }
-        }
 
-        return new PathSearchResult(
-            List.of(),
-            List.of(),
-            Double.POSITIVE_INFINITY,
-            timedOut,
-            timedOut || expansions >= MAX_EXPANSIONS ? FailureReason.SEARCH_LIMIT : FailureReason.NO_ROUTE,
-            timedOut
-                ? "Search reached the bounded planning deadline while routing toward " + host.formatDebugPos(goal) + "."
-                : expansions >= MAX_EXPANSIONS
-                ? "Search exhausted " + MAX_EXPANSIONS + " expansions while routing toward " + host.formatDebugPos(goal) + "."
-                : "No traversable primitive sequence was found toward " + host.formatDebugPos(goal) + "."
-        );
+            return new PathSearchResult(
+                List.of(),
+                List.of(),
+                Double.POSITIVE_INFINITY,
+                timedOut,
+                timedOut || expansions >= MAX_EXPANSIONS ? FailureReason.SEARCH_LIMIT : FailureReason.NO_ROUTE,
+                timedOut
+                    ? "Search reached the bounded planning deadline while routing toward " + host.formatDebugPos(goal) + "."
+                    : expansions >= MAX_EXPANSIONS
+                    ? "Search exhausted " + MAX_EXPANSIONS + " expansions while routing toward " + host.formatDebugPos(goal) + "."
+                    : "No traversable primitive sequence was found toward " + host.formatDebugPos(goal) + "."
+            );
+        }
     }
 
-    ReconstructedPath reconstructPath(
-        Level world,
-        Map<BlockPos, BlockPos> cameFrom,
-        Map<BlockPos, PlannedPrimitive> cameByPrimitive,
-        BlockPos end,
-        BlockPos start
-    ) {
+    ReconstructedPath reconstructPath(Level world, NavigatorSearchArena arena, int end, BlockPos start) {
         List<BlockPos> path = new ArrayList<>();
-        List<PlannedPrimitive> primitives = new ArrayList<>();
-        BlockPos cursor = end;
-        while (cursor != null) {
-            path.add(cursor);
-            PlannedPrimitive primitive = cameByPrimitive.get(cursor);
-            if (primitive != null) {
-                primitives.add(primitive);
-            }
-            cursor = cameFrom.get(cursor);
+        for (int cursor = end; cursor != NavigatorSearchArena.NO_NODE; cursor = arena.parent(cursor)) {
+            path.add(arena.position(cursor));
         }
         Collections.reverse(path);
-        Collections.reverse(primitives);
         List<BlockPos> cleanedPath = postProcessPath(world, path);
         List<PlannedPrimitive> cleanedPrimitives = host.buildPlannedPrimitives(world, cleanedPath, start);
         return new ReconstructedPath(cleanedPath, cleanedPrimitives);
@@ -2089,6 +2429,9 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
     void rememberFailedMove(BlockPos from, BlockPos to, long now) {
         boolean protectedGoal = isProtectedNavigationGoal(to);
         failureMemory.rememberMove(from, to, now, FAILED_MOVE_MEMORY_MS, protectedGoal);
+        if (!protectedGoal) {
+            routeWatch.markWaypointFailed(to);
+        }
     }
 
     boolean isProtectedNavigationGoal(BlockPos pos) {
@@ -2152,12 +2495,8 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
         return failureMemory.isFailedAction(NavigatorFailureMemory.Action.PILLAR, from, to, now);
     }
 
-    boolean isGoal(BlockPos pos, BlockPos target, Set<BlockPos> goalSet) {
-        return goalSet.contains(pos);
-    }
-
-    double heuristic(BlockPos pos, List<BlockPos> goals) {
-        return NavigatorPathCostPolicy.heuristic(pos, goals, HEURISTIC_WEIGHT);
+    double heuristic(BlockPos pos, BlockPos goal) {
+        return NavigatorPathCostPolicy.heuristic(pos, goal, HEURISTIC_WEIGHT);
     }
 
     double elevationPenalty(BlockPos from, BlockPos to) {
@@ -2191,16 +2530,15 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = footPos.immutable();
         if (cache != null) {
-            Boolean cached = cache.navigableNodes.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(footPos, NavigatorVoxelStore.NAVIGABLE);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         boolean result = isStandable(world, footPos) || isClimbNode(world, footPos);
         if (cache != null) {
-            cache.navigableNodes.put(key, result);
+            cache.voxels.setFlag(footPos, NavigatorVoxelStore.NAVIGABLE, result);
         }
         return result;
     }
@@ -2210,22 +2548,21 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = footPos.immutable();
         if (cache != null) {
-            Boolean cached = cache.standableNodes.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(footPos, NavigatorVoxelStore.STANDABLE);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         boolean result = computeStandable(world, footPos);
         if (cache != null) {
-            cache.standableNodes.put(key, result);
+            cache.voxels.setFlag(footPos, NavigatorVoxelStore.STANDABLE, result);
         }
         return result;
     }
 
     boolean computeStandable(Level world, BlockPos footPos) {
-        if (!world.isInWorldBounds(footPos) || !isChunkLoaded(world, footPos)) {
+        if (!isInWorldBounds(world, footPos) || !isChunkLoaded(world, footPos)) {
             return false;
         }
         if (isLava(cachedFluidState(world, footPos)) || isLava(cachedFluidState(world, footPos.above()))) {
@@ -2241,7 +2578,7 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
         if (world == null || footPos == null) {
             return false;
         }
-        if (!world.isInWorldBounds(footPos) || !isChunkLoaded(world, footPos)) {
+        if (!isInWorldBounds(world, footPos) || !isChunkLoaded(world, footPos)) {
             return false;
         }
         if (isLava(cachedFluidState(world, footPos)) || isLava(cachedFluidState(world, footPos.above()))) {
@@ -2257,11 +2594,10 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
 
     boolean hasCollision(Level world, BlockPos pos) {
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = pos == null ? null : pos.immutable();
-        if (cache != null && key != null) {
-            Boolean cached = cache.hasCollision.get(key);
-            if (cached != null) {
-                return cached;
+        if (cache != null && pos != null) {
+            int cached = cache.voxels.flag(pos, NavigatorVoxelStore.HAS_COLLISION);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         BlockState state = cachedBlockState(world, pos);
@@ -2269,8 +2605,8 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         boolean result = !cachedCollisionShape(world, pos, state).isEmpty();
-        if (cache != null && key != null) {
-            cache.hasCollision.put(key, result);
+        if (cache != null && pos != null) {
+            cache.voxels.setFlag(pos, NavigatorVoxelStore.HAS_COLLISION, result);
         }
         return result;
     }
@@ -2287,24 +2623,24 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        NavigatorNodeFitKey key = cache == null ? null : new NavigatorNodeFitKey(footPos.immutable(), requireSupport);
+        int fitFlag = requireSupport ? NavigatorVoxelStore.FIT_SUPPORTED : NavigatorVoxelStore.FIT_UNSUPPORTED;
         if (cache != null) {
-            Boolean cached = cache.nodeFit.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(footPos, fitFlag);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         OptionalDouble supportY = resolveSupportSurfaceY(world, footPos);
         if (requireSupport && supportY.isEmpty()) {
             if (cache != null) {
-                cache.nodeFit.put(key, false);
+                cache.voxels.setFlag(footPos, fitFlag, false);
             }
             return false;
         }
         double feetY = supportY.orElse(footPos.getY());
         boolean result = !hasTraversalCollision(world, playerBodyAt(footPos.getX() + 0.5D, feetY, footPos.getZ() + 0.5D));
         if (cache != null) {
-            cache.nodeFit.put(key, result);
+            cache.voxels.setFlag(footPos, fitFlag, result);
         }
         return result;
     }
@@ -2314,16 +2650,15 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return OptionalDouble.empty();
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = footPos.immutable();
         if (cache != null) {
-            OptionalDouble cached = cache.supportSurfaces.get(key);
+            OptionalDouble cached = cache.voxels.supportSurface(footPos);
             if (cached != null) {
                 return cached;
             }
         }
         OptionalDouble result = computeSupportSurfaceY(world, footPos);
         if (cache != null) {
-            cache.supportSurfaces.put(key, result);
+            cache.voxels.putSupportSurface(footPos, result);
         }
         return result;
     }
@@ -2452,7 +2787,7 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             && state.hasProperty(BlockStateProperties.OPEN)
             && !state.getValue(BlockStateProperties.OPEN)) {
             BlockState opened = state.setValue(BlockStateProperties.OPEN, true);
-            return opened.getCollisionShape(world, pos);
+            return opened.getCollisionShape(collisionContext(world), pos);
         }
         return cachedCollisionShape(world, pos, state);
     }
@@ -2466,11 +2801,10 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = pos.immutable();
         if (cache != null) {
-            Boolean cached = cache.occupiable.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(pos, NavigatorVoxelStore.OCCUPIABLE);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         BlockState state = cachedBlockState(world, pos);
@@ -2485,7 +2819,7 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             result = cachedCollisionShape(world, pos, state).isEmpty();
         }
         if (cache != null) {
-            cache.occupiable.put(key, result);
+            cache.voxels.setFlag(pos, NavigatorVoxelStore.OCCUPIABLE, result);
         }
         return result;
     }
@@ -2508,19 +2842,22 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
         if (cache == null) {
             return world.getBlockState(pos);
         }
-        BlockPos key = pos.immutable();
-        BlockState cached = cache.blockStates.get(key);
+        BlockState cached = cache.voxels.blockState(pos);
         if (cached != null) {
             cache.blockStateHits++;
             return cached;
         }
-        BlockState state = world.getBlockState(pos);
-        if (state != null) {
-            cache.blockStates.put(key, state);
-        }
+        cache.blockStateMisses++;
+        BlockState state = cache.snapshot != null ? cache.snapshot.blockState(pos) : world.getBlockState(pos);
+        cache.voxels.putBlockState(pos, state);
         return state;
     }
 
+    boolean isInWorldBounds(Level world, BlockPos pos) {
+        NavigatorPlanningCache cache = planningCacheFor(world);
+        return cache != null && cache.snapshot != null ? cache.snapshot.isInWorldBounds(pos) : world.isInWorldBounds(pos);
+    }
+
     FluidState cachedFluidState(Level world, BlockPos pos) {
         if (world == null || pos == null) {
             return null;
@@ -2529,16 +2866,11 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
         if (cache == null) {
             return world.getFluidState(pos);
         }
-        BlockPos key = pos.immutable();
-        FluidState cached = cache.fluidStates.get(key);
-        if (cached != null) {
-            return cached;
+        if (!isInWorldBounds(world, pos)) {
+            return Fluids.EMPTY.defaultFluidState();
         }
-        FluidState state = world.getFluidState(pos);
-        if (state != null) {
-            cache.fluidStates.put(key, state);
-        }
-        return state;
+        BlockState state = cachedBlockState(world, pos);
+        return state == null ? Fluids.EMPTY.defaultFluidState() : state.getFluidState();
     }
 
     VoxelShape cachedCollisionShape(Level world, BlockPos pos, BlockState state) {
@@ -2549,17 +2881,22 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
         if (cache == null || pos == null) {
             return state.getCollisionShape(world, pos);
         }
-        BlockPos key = pos.immutable();
-        VoxelShape cached = cache.collisionShapes.get(key);
+        VoxelShape cached = cache.voxels.collisionShape(pos);
         if (cached != null) {
             cache.collisionShapeHits++;
             return cached;
         }
-        VoxelShape shape = state.getCollisionShape(world, pos);
-        cache.collisionShapes.put(key, shape);
+        cache.collisionShapeMisses++;
+        VoxelShape shape = state.getCollisionShape(collisionContext(world), pos);
+        cache.voxels.putCollisionShape(pos, shape);
         return shape;
     }
 
+    BlockGetter collisionContext(Level world) {
+        NavigatorPlanningCache cache = planningCacheFor(world);
+        return cache != null && cache.snapshot != null ? EmptyBlockGetter.INSTANCE : world;
+    }
+
     boolean isUnstableSupportBlock(BlockState state) {
         return state != null && state.is(BlockTags.LEAVES);
     }
@@ -2569,16 +2906,15 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = pos.immutable();
         if (cache != null) {
-            Boolean cached = cache.treeCanopyNodes.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(pos, NavigatorVoxelStore.TREE_CANOPY);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         boolean result = computeTreeCanopyNode(world, pos);
         if (cache != null) {
-            cache.treeCanopyNodes.put(key, result);
+            cache.voxels.setFlag(pos, NavigatorVoxelStore.TREE_CANOPY, result);
         }
         return result;
     }
@@ -2803,6 +3139,9 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
         if (cache == null) {
             return clientWorld.hasChunk(chunkX, chunkZ);
         }
+        if (cache.snapshot != null) {
+            return cache.snapshot.hasChunk(chunkX, chunkZ);
+        }
         long key = ((long) chunkX << 32) ^ (chunkZ & 0xFFFFFFFFL);
         Boolean cached = cache.loadedChunks.get(key);
         if (cached != null) {
@@ -3180,16 +3519,15 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = pos.immutable();
         if (cache != null) {
-            Boolean cached = cache.waterNodes.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(pos, NavigatorVoxelStore.WATER);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         boolean result = isWater(cachedFluidState(world, pos)) || isWater(cachedFluidState(world, pos.above()));
         if (cache != null) {
-            cache.waterNodes.put(key, result);
+            cache.voxels.setFlag(pos, NavigatorVoxelStore.WATER, result);
         }
         return result;
     }
@@ -3265,11 +3603,10 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = pos.immutable();
         if (cache != null) {
-            Boolean cached = cache.hardDanger.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(pos, NavigatorVoxelStore.HARD_DANGER);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         boolean result = isDangerousBlock(cachedBlockState(world, pos))
@@ -3277,7 +3614,7 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             || isLava(cachedFluidState(world, pos))
             || isLava(cachedFluidState(world, pos.above()));
         if (cache != null) {
-            cache.hardDanger.put(key, result);
+            cache.voxels.setFlag(pos, NavigatorVoxelStore.HARD_DANGER, result);
         }
         return result;
     }
@@ -3287,16 +3624,15 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        BlockPos key = pos.immutable();
         if (cache != null) {
-            Boolean cached = cache.nearDanger.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(pos, NavigatorVoxelStore.NEAR_DANGER);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         boolean result = computeNearDanger(world, pos);
         if (cache != null) {
-            cache.nearDanger.put(key, result);
+            cache.voxels.setFlag(pos, NavigatorVoxelStore.NEAR_DANGER, result);
         }
         return result;
     }
@@ -3383,16 +3719,16 @@ NavigatorPathCostPolicy.MoveType classifyMoveType(Level world, BlockPos from, Bl
             return false;
         }
         NavigatorPlanningCache cache = planningCacheFor(world);
-        NavigatorNodeFitKey key = cache == null ? null : new NavigatorNodeFitKey(pos.immutable(), allowOccupied);
+        int placementFlag = allowOccupied ? NavigatorVoxelStore.SUPPORT_PLACEMENT_OCCUPIED : NavigatorVoxelStore.SUPPORT_PLACEMENT;
         if (cache != null) {
-            Boolean cached = cache.supportPlacement.get(key);
-            if (cached != null) {
-                return cached;
+            int cached = cache.voxels.flag(pos, placementFlag);
+            if (cached != NavigatorVoxelStore.UNKNOWN) {
+                return cached == NavigatorVoxelStore.YES;
             }
         }
         boolean result = computeCanPlaceSupportAt(world, pos, allowOccupied);
         if (cache != null) {
-            cache.supportPlacement.put(key, result);
+            cache.voxels.setFlag(pos, placementFlag, result);
         }
         return result;
     }
@@ -0,0 +1,208 @@
+package com.pathmind.execution;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Entry storage behind a runtime list. Entries live in fixed-size segments whose filled slots are never rewritten while
+ * a published view can still see them, and every change publishes a new immutable {@link Snapshot} over those
+ * segments. Readers therefore index and iterate without taking a lock; writers serialize among themselves. Removing
+ * from either end only moves the snapshot bounds, so queue and stack use stay O(1) amortized.
+ */
+final class RuntimeEntryBuffer {
+    private static final int SEGMENT_SHIFT = 6;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final String[][] NO_SEGMENTS = new String[0][];
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(NO_SEGMENTS, 0, 0);
+
+    // Writer state, guarded by writeLock. Slots below highWater have been filled at some point, so a published
+    // snapshot may still be reading them even after the tail moved back.
+    private String[][] segments = NO_SEGMENTS;
+    private int highWater;
+
+    RuntimeEntryBuffer(Collection<String> entries) {
+        if (entries != null && !entries.isEmpty()) {
+            synchronized (writeLock) {
+                rebuild(entries, -1);
+            }
+        }
+    }
+
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    void append(String entry) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            int tail = current.tail;
+            if (tail < highWater) {
+                detachFrom(tail);
+            }
+            int segment = tail >>> SEGMENT_SHIFT;
+            if (segment == segments.length) {
+                segments = Arrays.copyOf(segments, Math.max(4, segments.length * 2));
+            }
+            if (segments[segment] == null) {
+                segments[segment] = new String[SEGMENT_SIZE];
+            }
+            segments[segment][tail & SEGMENT_MASK] = entry;
+            highWater = tail + 1;
+            snapshot = new Snapshot(segments, current.head, tail + 1);
+        }
+    }
+
+    String removeFirst() {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current.isEmpty()) {
+                return null;
+            }
+            String removed = current.get(0);
+            publishBounds(current.head + 1, current.tail);
+            return removed;
+        }
+    }
+
+    String removeLast() {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current.isEmpty()) {
+                return null;
+            }
+            String removed = current.get(current.size() - 1);
+            publishBounds(current.head, current.tail - 1);
+            return removed;
+        }
+    }
+
+    String remove(int index) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (index < 0 || index >= current.size()) {
+                return null;
+            }
+            if (index == 0) {
+                return removeFirst();
+            }
+            if (index == current.size() - 1) {
+                return removeLast();
+            }
+            String removed = current.get(index);
+            rebuild(current, index);
+            return removed;
+        }
+    }
+
+    /** Removes every entry equal to one of the given values in a single pass and returns how many went. */
+    int removeAll(Set<String> values) {
+        if (values == null || values.isEmpty()) {
+            return 0;
+        }
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            String[] kept = new String[current.size()];
+            int keptCount = 0;
+            for (String entry : current) {
+                if (!values.contains(entry)) {
+                    kept[keptCount++] = entry;
+                }
+            }
+            int removedCount = current.size() - keptCount;
+            if (removedCount > 0) {
+                rebuild(Arrays.asList(kept).subList(0, keptCount), -1);
+            }
+            return removedCount;
+        }
+    }
+
+    private void publishBounds(int head, int tail) {
+        if (head >= tail) {
+            segments = NO_SEGMENTS;
+            highWater = 0;
+            snapshot = new Snapshot(NO_SEGMENTS, 0, 0);
+            return;
+        }
+        int headSegment = head >>> SEGMENT_SHIFT;
+        int usedSegments = ((highWater - 1) >>> SEGMENT_SHIFT) + 1;
+        if (headSegment > 0 && headSegment * 2 >= usedSegments) {
+            // Drop the drained leading segments. Older snapshots keep their own outer array, so nothing they can
+            // reach changes.
+            int shift = headSegment << SEGMENT_SHIFT;
+            segments = Arrays.copyOfRange(segments, headSegment, Math.max(headSegment + 4, segments.length));
+            head -= shift;
+            tail -= shift;
+            highWater -= shift;
+        }
+        snapshot = new Snapshot(segments, head, tail);
+    }
+
+    /**
+     * Makes the slots from {@code tail} on private to the writer again: the segment holding {@code tail} is copied and
+     * every later segment is dropped, all in a fresh outer array so published snapshots keep what they saw.
+     */
+    private void detachFrom(int tail) {
+        int segment = tail >>> SEGMENT_SHIFT;
+        String[][] detached = new String[segments.length][];
+        System.arraycopy(segments, 0, detached, 0, segment);
+        if (segment < segments.length && segments[segment] != null) {
+            detached[segment] = Arrays.copyOf(segments[segment], SEGMENT_SIZE);
+        }
+        segments = detached;
+        highWater = tail;
+    }
+
+    private void rebuild(Collection<String> entries, int skippedIndex) {
+        int count = entries.size() - (skippedIndex >= 0 ? 1 : 0);
+        String[][] rebuilt = new String[Math.max(4, (count + SEGMENT_MASK) >>> SEGMENT_SHIFT)][];
+        int position = 0;
+        int sourceIndex = 0;
+        for (String entry : entries) {
+            if (sourceIndex++ == skippedIndex) {
+                continue;
+            }
+            int segment = position >>> SEGMENT_SHIFT;
+            if (rebuilt[segment] == null) {
+                rebuilt[segment] = new String[SEGMENT_SIZE];
+            }
+            rebuilt[segment][position & SEGMENT_MASK] = entry;
+            position++;
+        }
+        segments = rebuilt;
+        highWater = position;
+        snapshot = new Snapshot(rebuilt, 0, position);
+    }
+
+    /** Immutable view of the entries at one moment; reads never block and never see later changes. */
+    static final class Snapshot extends AbstractList<String> implements RandomAccess {
+        private final String[][] segments;
+        private final int head;
+        private final int tail;
+
+        private Snapshot(String[][] segments, int head, int tail) {
+            this.segments = segments;
+            this.head = head;
+            this.tail = tail;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= tail - head) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (tail - head));
+            }
+            int position = head + index;
+            return segments[position >>> SEGMENT_SHIFT][position & SEGMENT_MASK];
+        }
+
+        @Override
+        public int size() {
+            return tail - head;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.pathmind.execution;
+
+import com.pathmind.nodes.NodeParameter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.Identifier;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Decoded view of a runtime variable's values, built once per variable. Keys are normalized up front so lookups no
+ * longer scan and re-normalize the whole map. Numeric, coordinate, entity-type and item cells are decoded on first
+ * use and then reused for as long as the variable holds that value; strings are only produced again for display and
+ * saving.
+ */
+public final class RuntimeValueCells {
+    private static final Object NOT_A_NUMBER = new Object();
+    private static final Object UNKNOWN_ID = new Object();
+
+    private final Map<String, String> values;
+    private final Map<String, String> normalizedValues;
+    private final Map<String, Object> numbers = new ConcurrentHashMap<>();
+    private final Map<String, Object> entityTypes = new ConcurrentHashMap<>();
+    private final Map<String, Object> items = new ConcurrentHashMap<>();
+    private volatile Optional<Vec3> position;
+    private volatile BlockPos blockPosition;
+
+    RuntimeValueCells(Map<String, String> values) {
+        this.values = values;
+        Map<String, String> normalized = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            if (entry.getKey() == null || value == null || value.isBlank()) {
+                continue;
+            }
+            normalized.putIfAbsent(NodeParameter.createDefaultId(entry.getKey()), value.trim());
+        }
+        this.normalizedValues = normalized;
+    }
+
+    /** Trimmed value for the key, matched exactly, then lower-cased, then by normalized key; empty when unset. */
+    public String text(String key) {
+        if (key == null) {
+            return "";
+        }
+        String direct = values.get(key);
+        if (direct != null && !direct.isBlank()) {
+            return direct.trim();
+        }
+        String lowerKey = key.toLowerCase(Locale.ROOT);
+        if (!lowerKey.equals(key)) {
+            String lower = values.get(lowerKey);
+            if (lower != null && !lower.isBlank()) {
+                return lower.trim();
+            }
+        }
+        String normalized = normalizedValues.get(NodeParameter.createDefaultId(key));
+        return normalized != null ? normalized : "";
+    }
+
+    /**
+     * Numeric cell for the key: the text must be a plain decimal with an optional leading minus, the same form a
+     * number token takes in an expression. Null otherwise.
+     */
+    public Double number(String key) {
+        if (key == null) {
+            return null;
+        }
+        Object cached = numbers.get(key);
+        if (cached == null) {
+            Double parsed = parseDecimal(text(key));
+            cached = parsed != null ? parsed : NOT_A_NUMBER;
+            numbers.put(key, cached);
+        }
+        return cached instanceof Double number ? number : null;
+    }
+
+    /** Coordinate cell built from the X, Y and Z numeric cells; null when any axis is missing or not a plain number. */
+    public Vec3 position() {
+        Optional<Vec3> decoded = position;
+        if (decoded == null) {
+            Double x = number("X");
+            Double y = number("Y");
+            Double z = number("Z");
+            decoded = x != null && y != null && z != null ? Optional.of(new Vec3(x, y, z)) : Optional.empty();
+            position = decoded;
+        }
+        return decoded.orElse(null);
+    }
+
+    /** Block containing {@link #position()}; null when there is no coordinate cell. */
+    public BlockPos blockPosition() {
+        BlockPos decoded = blockPosition;
+        if (decoded == null) {
+            Vec3 vector = position();
+            if (vector == null) {
+                return null;
+            }
+            decoded = new BlockPos((int) Math.floor(vector.x), (int) Math.floor(vector.y), (int) Math.floor(vector.z));
+            blockPosition = decoded;
+        }
+        return decoded;
+    }
+
+    /** Entity type registered under the id, looked up once per variable; null when the id is unknown. */
+    public EntityType<?> entityType(String id) {
+        if (id == null) {
+            return null;
+        }
+        Object cached = entityTypes.computeIfAbsent(id, key -> {
+            Identifier identifier = Identifier.tryParse(key);
+            if (identifier == null || !BuiltInRegistries.ENTITY_TYPE.containsKey(identifier)) {
+                return UNKNOWN_ID;
+            }
+            return BuiltInRegistries.ENTITY_TYPE.getOptional(identifier).<Object>map(value -> value).orElse(UNKNOWN_ID);
+        });
+        return cached instanceof EntityType<?> type ? type : null;
+    }
+
+    /** Item registered under the id, looked up once per variable; null when the id is unknown. */
+    public Item item(String id) {
+        if (id == null) {
+            return null;
+        }
+        Object cached = items.computeIfAbsent(id, key -> {
+            Identifier identifier = Identifier.tryParse(key);
+            if (identifier == null || !BuiltInRegistries.ITEM.containsKey(identifier)) {
+                return UNKNOWN_ID;
+            }
+            return BuiltInRegistries.ITEM.getOptional(identifier).<Object>map(value -> value).orElse(UNKNOWN_ID);
+        });
+        return cached instanceof Item item ? item : null;
+    }
+
+    private static Double parseDecimal(String text) {
+        int start = text.startsWith("-") ? 1 : 0;
+        boolean sawDigit = false;
+        boolean sawDecimal = false;
+        for (int i = start; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (current >= '0' && current <= '9') {
+                sawDigit = true;
+            } else if (current == '.' && !sawDecimal) {
+                sawDecimal = true;
+            } else {
+                return null;
+            }
+        }
+        return sawDigit ? Double.parseDouble(text) : null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.pathmind.mixin;
+
+import com.pathmind.execution.NavigatorTerrainCache;
+import com.pathmind.execution.PathmindNavigator;
+import com.pathmind.nodes.BlockPositionIndex;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ClientLevel.class)
+public abstract class NavigatorTerrainInvalidationMixin {
+    @Inject(method = "sendBlockUpdated", at = @At("HEAD"))
+    private void pathmind$invalidateChangedBlock(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
+        NavigatorTerrainCache.getInstance().onBlockChanged((ClientLevel) (Object) this, pos);
+        PathmindNavigator.getInstance().onBlockChanged(pos);
+        BlockPositionIndex.getInstance().onBlockChanged((ClientLevel) (Object) this, pos, newState);
+    }
+
+    @Inject(method = "onChunkLoaded", at = @At("TAIL"), require = 0)
+    private void pathmind$invalidateLoadedChunk(ChunkPos chunkPos, CallbackInfo ci) {
+        NavigatorTerrainCache.getInstance().onChunkChanged(
+            (ClientLevel) (Object) this,
+            chunkPos.getMinBlockX() >> 4,
+            chunkPos.getMinBlockZ() >> 4
+        );
+        BlockPositionIndex.getInstance().onChunkChanged(
+            (ClientLevel) (Object) this,
+            chunkPos.getMinBlockX() >> 4,
+            chunkPos.getMinBlockZ() >> 4
+        );
+    }
+
+    @Inject(method = "unload", at = @At("HEAD"), require = 0)
+    private void pathmind$invalidateUnloadedChunk(LevelChunk chunk, CallbackInfo ci) {
+        ChunkPos chunkPos = chunk.getPos();
+        NavigatorTerrainCache.getInstance().onChunkChanged(
+            (ClientLevel) (Object) this,
+            chunkPos.getMinBlockX() >> 4,
+            chunkPos.getMinBlockZ() >> 4
+        );
+        BlockPositionIndex.getInstance().onChunkChanged(
+            (ClientLevel) (Object) this,
+            chunkPos.getMinBlockX() >> 4,
+            chunkPos.getMinBlockZ() >> 4
+        );
+    }
+}
@@ -0,0 +1,332 @@
+package com.pathmind.nodes;
+
+import com.pathmind.util.BlockSelection;
+import com.pathmind.util.BlockStateMatcher;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+/**
+ * Client-side index from block selections to the positions that match them, kept per chunk section. A section is
+ * scanned the first time a query for a selection reaches it and is then kept current from block updates, so repeated
+ * block sensors cost time proportional to the matches they find rather than the volume they cover. Chunk loads and
+ * unloads drop the affected sections, which are rescanned on the next query that needs them. The first query against
+ * a different level drops every index, and {@link #clear()} runs on disconnect so the positions indexed for a world
+ * that was left are not held until the next query.
+ */
+public final class BlockPositionIndex {
+    private static final int MAX_INDEXED_SELECTIONS = 16;
+    private static final short[] NO_POSITIONS = new short[0];
+    private static final BlockPositionIndex INSTANCE = new BlockPositionIndex();
+
+    private final Map<String, SelectionIndex> indexes = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SelectionIndex> eldest) {
+            return size() > MAX_INDEXED_SELECTIONS;
+        }
+    };
+    private WeakReference<ClientLevel> level = new WeakReference<>(null);
+
+    private BlockPositionIndex() {
+    }
+
+    public static BlockPositionIndex getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void onBlockChanged(ClientLevel world, BlockPos pos, BlockState newState) {
+        if (pos == null || level.get() != world || indexes.isEmpty()) {
+            return;
+        }
+        long sectionKey = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        short packed = pack(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+        for (SelectionIndex index : indexes.values()) {
+            index.onBlockChanged(sectionKey, packed, newState);
+        }
+    }
+
+    public synchronized void onChunkChanged(ClientLevel world, int chunkX, int chunkZ) {
+        if (world == null || level.get() != world || indexes.isEmpty()) {
+            return;
+        }
+        for (int sectionY = world.getMinSectionY(); sectionY <= world.getMaxSectionY(); sectionY++) {
+            long sectionKey = SectionPos.asLong(chunkX, sectionY, chunkZ);
+            for (SelectionIndex index : indexes.values()) {
+                index.invalidate(sectionKey);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        indexes.clear();
+        level = new WeakReference<>(null);
+    }
+
+    /**
+     * Reports every non-air position inside the box whose state matches any of the selections. Positions are
+     * reported in no particular order; sections in unloaded chunks, and sections the filter rejects, are neither
+     * scanned nor visited.
+     */
+    void forEachMatch(ClientLevel world, List<BlockSelection> selections,
+                      int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                      SectionFilter sectionFilter, PositionVisitor visitor) {
+        if (world == null || selections == null || selections.isEmpty()) {
+            return;
+        }
+        SelectionIndex index = acquire(world, selections);
+        int worldMinSectionY = world.getMinSectionY();
+        int minSectionY = Math.max(worldMinSectionY, minY >> 4);
+        int maxSectionY = Math.min(world.getMaxSectionY(), maxY >> 4);
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                if (!world.hasChunk(chunkX, chunkZ)) {
+                    continue;
+                }
+                LevelChunk chunk = world.getChunk(chunkX, chunkZ);
+                if (chunk == null || chunk.isEmpty()) {
+                    continue;
+                }
+                LevelChunkSection[] sections = chunk.getSections();
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    int sectionIndex = sectionY - worldMinSectionY;
+                    if (sections == null || sectionIndex < 0 || sectionIndex >= sections.length) {
+                        continue;
+                    }
+                    if (sectionFilter != null && !sectionFilter.test(chunkX, sectionY, chunkZ)) {
+                        continue;
+                    }
+                    short[] positions = index.positions(SectionPos.asLong(chunkX, sectionY, chunkZ), sections[sectionIndex]);
+                    int baseX = chunkX << 4;
+                    int baseY = sectionY << 4;
+                    int baseZ = chunkZ << 4;
+                    for (short position : positions) {
+                        int x = baseX + ((position >> 8) & 15);
+                        int y = baseY + (position & 15);
+                        int z = baseZ + ((position >> 4) & 15);
+                        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                            visitor.accept(x, y, z);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks the matching positions inside the box section by section, the section nearest to the origin first, and
+     * stops at the first position the predicate accepts. A section is only scanned once the walk reaches it, so an
+     * early hit leaves the far sections untouched. Returns whether any position was accepted.
+     */
+    boolean anyMatchNearestFirst(ClientLevel world, List<BlockSelection> selections,
+                                 int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                                 double originX, double originY, double originZ,
+                                 SectionFilter sectionFilter, PositionPredicate predicate) {
+        if (world == null || selections == null || selections.isEmpty()) {
+            return false;
+        }
+        SelectionIndex index = acquire(world, selections);
+        if (index.matcher.isEmpty()) {
+            return false;
+        }
+        int worldMinSectionY = world.getMinSectionY();
+        int minSectionY = Math.max(worldMinSectionY, minY >> 4);
+        int maxSectionY = Math.min(world.getMaxSectionY(), maxY >> 4);
+        if (maxSectionY < minSectionY) {
+            return false;
+        }
+        int capacity = ((maxX >> 4) - (minX >> 4) + 1) * ((maxZ >> 4) - (minZ >> 4) + 1) * (maxSectionY - minSectionY + 1);
+        LevelChunkSection[] candidates = new LevelChunkSection[capacity];
+        long[] candidateKeys = new long[capacity];
+        // Float bits of the squared lower-bound distance in the high word, candidate slot in the low word.
+        long[] order = new long[capacity];
+        int count = 0;
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                if (!world.hasChunk(chunkX, chunkZ)) {
+                    continue;
+                }
+                LevelChunk chunk = world.getChunk(chunkX, chunkZ);
+                if (chunk == null || chunk.isEmpty()) {
+                    continue;
+                }
+                LevelChunkSection[] sections = chunk.getSections();
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    int sectionIndex = sectionY - worldMinSectionY;
+                    if (sections == null || sectionIndex < 0 || sectionIndex >= sections.length) {
+                        continue;
+                    }
+                    LevelChunkSection section = sections[sectionIndex];
+                    if (section == null || section.hasOnlyAir()) {
+                        continue;
+                    }
+                    if (sectionFilter != null && !sectionFilter.test(chunkX, sectionY, chunkZ)) {
+                        continue;
+                    }
+                    double dx = gap(originX, Math.max(minX, chunkX << 4), Math.min(maxX, (chunkX << 4) + 15) + 1);
+                    double dy = gap(originY, Math.max(minY, sectionY << 4), Math.min(maxY, (sectionY << 4) + 15) + 1);
+                    double dz = gap(originZ, Math.max(minZ, chunkZ << 4), Math.min(maxZ, (chunkZ << 4) + 15) + 1);
+                    float distanceSq = (float) (dx * dx + dy * dy + dz * dz);
+                    candidates[count] = section;
+                    candidateKeys[count] = SectionPos.asLong(chunkX, sectionY, chunkZ);
+                    order[count] = ((long) Float.floatToIntBits(distanceSq) << 32) | count;
+                    count++;
+                }
+            }
+        }
+        Arrays.sort(order, 0, count);
+        for (int i = 0; i < count; i++) {
+            int slot = (int) order[i];
+            long sectionKey = candidateKeys[slot];
+            short[] positions = index.positions(sectionKey, candidates[slot]);
+            int baseX = SectionPos.x(sectionKey) << 4;
+            int baseY = SectionPos.y(sectionKey) << 4;
+            int baseZ = SectionPos.z(sectionKey) << 4;
+            for (short position : positions) {
+                int x = baseX + ((position >> 8) & 15);
+                int y = baseY + (position & 15);
+                int z = baseZ + ((position >> 4) & 15);
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ
+                    && predicate.test(x, y, z)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double gap(double origin, int min, int maxExclusive) {
+        if (origin < min) {
+            return min - origin;
+        }
+        return origin > maxExclusive ? origin - maxExclusive : 0.0D;
+    }
+
+    private synchronized SelectionIndex acquire(ClientLevel world, List<BlockSelection> selections) {
+        if (level.get() != world) {
+            indexes.clear();
+            level = new WeakReference<>(world);
+        }
+        BlockStateMatcher matcher = BlockStateMatcher.compile(selections);
+        return indexes.computeIfAbsent(matcher.key(), created -> new SelectionIndex(matcher));
+    }
+
+    private synchronized void finishScan(SelectionIndex index, long sectionKey, short[] positions) {
+        Boolean dirty = index.pendingScans.remove(sectionKey);
+        if (Boolean.FALSE.equals(dirty) && indexes.get(index.matcher.key()) == index) {
+            index.sections.put(sectionKey, positions);
+        }
+    }
+
+    private synchronized void beginScan(SelectionIndex index, long sectionKey) {
+        index.pendingScans.putIfAbsent(sectionKey, Boolean.FALSE);
+    }
+
+    private static short pack(int localX, int localY, int localZ) {
+        return (short) ((localX << 8) | (localZ << 4) | localY);
+    }
+
+    @FunctionalInterface
+    interface PositionVisitor {
+        void accept(int x, int y, int z);
+    }
+
+    @FunctionalInterface
+    interface PositionPredicate {
+        boolean test(int x, int y, int z);
+    }
+
+    @FunctionalInterface
+    interface SectionFilter {
+        boolean test(int sectionX, int sectionY, int sectionZ);
+    }
+
+    private final class SelectionIndex {
+        private final BlockStateMatcher matcher;
+        // Section arrays are replaced, never mutated, so queries read them without holding the index lock.
+        private final Map<Long, short[]> sections = new ConcurrentHashMap<>();
+        // Sections being scanned outside the lock; true once a change lands mid-scan and the result is stale.
+        private final Map<Long, Boolean> pendingScans = new HashMap<>();
+
+        private SelectionIndex(BlockStateMatcher matcher) {
+            this.matcher = matcher;
+        }
+
+        private boolean matches(BlockState state) {
+            return state != null && !state.isAir() && matcher.matches(state);
+        }
+
+        private short[] positions(long sectionKey, LevelChunkSection section) {
+            short[] positions = sections.get(sectionKey);
+            if (positions != null) {
+                return positions;
+            }
+            beginScan(this, sectionKey);
+            positions = scan(section);
+            finishScan(this, sectionKey, positions);
+            return positions;
+        }
+
+        private short[] scan(LevelChunkSection section) {
+            if (section == null || section.hasOnlyAir() || matcher.isEmpty() || !section.maybeHas(this::matches)) {
+                return NO_POSITIONS;
+            }
+            short[] found = new short[16];
+            int count = 0;
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    for (int localY = 0; localY < 16; localY++) {
+                        if (!matches(section.getBlockState(localX, localY, localZ))) {
+                            continue;
+                        }
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = pack(localX, localY, localZ);
+                    }
+                }
+            }
+            return count == 0 ? NO_POSITIONS : Arrays.copyOf(found, count);
+        }
+
+        private void onBlockChanged(long sectionKey, short packed, BlockState newState) {
+            pendingScans.replace(sectionKey, Boolean.TRUE);
+            short[] positions = sections.get(sectionKey);
+            if (positions == null) {
+                return;
+            }
+            int existing = -1;
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] == packed) {
+                    existing = i;
+                    break;
+                }
+            }
+            boolean matchesNow = matches(newState);
+            if (matchesNow && existing < 0) {
+                short[] grown = Arrays.copyOf(positions, positions.length + 1);
+                grown[positions.length] = packed;
+                sections.put(sectionKey, grown);
+            } else if (!matchesNow && existing >= 0) {
+                short[] shrunk = new short[positions.length - 1];
+                System.arraycopy(positions, 0, shrunk, 0, existing);
+                System.arraycopy(positions, existing + 1, shrunk, existing, positions.length - existing - 1);
+                sections.put(sectionKey, shrunk.length == 0 ? NO_POSITIONS : shrunk);
+            }
+        }
+
+        private void invalidate(long sectionKey) {
+            pendingScans.replace(sectionKey, Boolean.TRUE);
+            sections.remove(sectionKey);
+        }
+    }
+}
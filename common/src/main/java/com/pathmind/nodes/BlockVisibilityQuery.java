@@ -0,0 +1,219 @@
+package com.pathmind.nodes;
+
+import com.pathmind.util.BlockSelection;
+import com.pathmind.util.BlockStateMatcher;
+import com.pathmind.util.CameraCompatibilityBridge;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Answers "is any block matching these selections visible" for the Visible and Rendered sensors. Candidates come
+ * from {@link BlockPositionIndex}, so sections whose palette cannot hold the selection are never walked, and
+ * sections outside the view are skipped before they are even scanned. Sections are walked nearest to the camera
+ * first and the query stops at the first candidate in sight. Line-of-sight results are shared by every sensor for as
+ * long as the tick, camera and view stay the same.
+ *
+ * <p>Visible also requires a sampled point of the block to be inside the view; Rendered only needs the block's
+ * section to be, which is how the renderer culls.
+ */
+final class BlockVisibilityQuery {
+    private static final double BLOCK_SAMPLE_INSET = 0.08D;
+    private static volatile Frame frame;
+
+    private BlockVisibilityQuery() {
+    }
+
+    static boolean isAnyVisible(Minecraft client, List<BlockSelection> selections, boolean requireInFieldOfView) {
+        if (client == null || client.player == null || client.level == null || selections == null || selections.isEmpty()) {
+            return false;
+        }
+        Frame current = currentFrame(client);
+        if (requireInFieldOfView && current.view == null) {
+            return false;
+        }
+        BlockPos playerPos = client.player.blockPosition();
+        int viewDistance = client.options.renderDistance().get();
+        int horizontalRadius = Mth.clamp(viewDistance * 4, 8, 48);
+        int verticalRadius = Mth.clamp(viewDistance * 2, 6, 32);
+        if (selectsAir(selections)) {
+            return isAnyVoxelVisible(client, current, selections, playerPos, horizontalRadius, verticalRadius,
+                requireInFieldOfView);
+        }
+        PlayerViewCone view = current.view;
+        Vec3 camera = current.camera;
+        BlockPos.MutableBlockPos candidate = new BlockPos.MutableBlockPos();
+        return BlockPositionIndex.getInstance().anyMatchNearestFirst(client.level, selections,
+            playerPos.getX() - horizontalRadius, playerPos.getY() - verticalRadius, playerPos.getZ() - horizontalRadius,
+            playerPos.getX() + horizontalRadius, playerPos.getY() + verticalRadius, playerPos.getZ() + horizontalRadius,
+            camera.x, camera.y, camera.z,
+            view != null ? view::mayContainSection : null,
+            (x, y, z) -> current.isVisible(client, candidate.set(x, y, z), requireInFieldOfView));
+    }
+
+    /**
+     * The index never records air, so air selections are checked voxel by voxel in distance shells around the
+     * player. Air is almost always next to the player, so the first shells usually settle it.
+     */
+    private static boolean isAnyVoxelVisible(Minecraft client, Frame current, List<BlockSelection> selections,
+                                             BlockPos playerPos, int horizontalRadius, int verticalRadius,
+                                             boolean requireInFieldOfView) {
+        ClientLevel level = client.level;
+        BlockStateMatcher matcher = BlockStateMatcher.compile(selections);
+        PlayerViewCone view = current.view;
+        int minSectionY = Math.max(level.getMinSectionY(), (playerPos.getY() - verticalRadius) >> 4);
+        int maxSectionY = Math.min(level.getMaxSectionY(), (playerPos.getY() + verticalRadius) >> 4);
+        BlockPos found = NearestVoxelSearch.findNearest(playerPos, horizontalRadius, Long.MAX_VALUE,
+            (sectionX, sectionY, sectionZ) -> sectionY >= minSectionY && sectionY <= maxSectionY
+                && level.hasChunk(sectionX, sectionZ)
+                && (view == null || view.mayContainSection(sectionX, sectionY, sectionZ)),
+            pos -> Math.abs(pos.getY() - playerPos.getY()) <= verticalRadius
+                && matcher.matches(level.getBlockState(pos))
+                && current.isVisible(client, pos, requireInFieldOfView));
+        return found != null;
+    }
+
+    private static boolean selectsAir(List<BlockSelection> selections) {
+        for (BlockSelection selection : selections) {
+            if (selection != null && selection.getBlock() != null && selection.getBlock().defaultBlockState().isAir()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isBlockVisible(Minecraft client, BlockPos pos, boolean requireInFieldOfView) {
+        if (client == null || client.player == null || client.level == null || pos == null) {
+            return false;
+        }
+        return currentFrame(client).isVisible(client, pos, requireInFieldOfView);
+    }
+
+    private static Frame currentFrame(Minecraft client) {
+        ClientLevel level = client.level;
+        long gameTime = level.getGameTime();
+        Vec3 camera = CameraCompatibilityBridge.getPos(client.gameRenderer.getMainCamera());
+        float yaw = client.player.getYRot();
+        float pitch = client.player.getXRot();
+        Vec3 eye = client.player.getEyePosition();
+        int fov = client.options.fov().get();
+        Frame cached = frame;
+        if (cached != null && cached.level == level && cached.gameTime == gameTime && cached.camera.equals(camera)
+            && cached.eye.equals(eye) && cached.yaw == yaw && cached.pitch == pitch && cached.fov == fov) {
+            return cached;
+        }
+        Frame created = new Frame(level, gameTime, camera, eye, yaw, pitch, fov, PlayerViewCone.of(client));
+        frame = created;
+        return created;
+    }
+
+    private static final class Frame {
+        private final ClientLevel level;
+        private final long gameTime;
+        private final Vec3 camera;
+        private final Vec3 eye;
+        private final float yaw;
+        private final float pitch;
+        private final int fov;
+        private final PlayerViewCone view;
+        private final Map<Long, Boolean> inSight = new ConcurrentHashMap<>();
+        private final Map<Long, Boolean> inView = new ConcurrentHashMap<>();
+
+        private Frame(ClientLevel level, long gameTime, Vec3 camera, Vec3 eye, float yaw, float pitch, int fov,
+                      PlayerViewCone view) {
+            this.level = level;
+            this.gameTime = gameTime;
+            this.camera = camera;
+            this.eye = eye;
+            this.yaw = yaw;
+            this.pitch = pitch;
+            this.fov = fov;
+            this.view = view;
+        }
+
+        private boolean isVisible(Minecraft client, BlockPos pos, boolean requireInFieldOfView) {
+            long key = pos.asLong();
+            Map<Long, Boolean> cache = requireInFieldOfView ? inView : inSight;
+            Boolean cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            boolean visible;
+            if (requireInFieldOfView && Boolean.FALSE.equals(inSight.get(key))) {
+                visible = false;
+            } else {
+                visible = traceSamples(client, pos, requireInFieldOfView);
+            }
+            cache.put(key, visible);
+            return visible;
+        }
+
+        private boolean traceSamples(Minecraft client, BlockPos pos, boolean requireInFieldOfView) {
+            if (requireInFieldOfView && view == null) {
+                return false;
+            }
+            double minX = pos.getX() + BLOCK_SAMPLE_INSET;
+            double minY = pos.getY() + BLOCK_SAMPLE_INSET;
+            double minZ = pos.getZ() + BLOCK_SAMPLE_INSET;
+            double maxX = pos.getX() + 1.0D - BLOCK_SAMPLE_INSET;
+            double maxY = pos.getY() + 1.0D - BLOCK_SAMPLE_INSET;
+            double maxZ = pos.getZ() + 1.0D - BLOCK_SAMPLE_INSET;
+            double midX = (minX + maxX) * 0.5D;
+            double midY = (minY + maxY) * 0.5D;
+            double midZ = (minZ + maxZ) * 0.5D;
+            double[][] samples = {
+                {midX, midY, midZ},
+                {midX, maxY, midZ},
+                {midX, minY, midZ},
+                {minX, midY, midZ},
+                {maxX, midY, midZ},
+                {midX, midY, minZ},
+                {midX, midY, maxZ},
+                {minX, maxY, minZ},
+                {minX, maxY, maxZ},
+                {maxX, maxY, minZ},
+                {maxX, maxY, maxZ},
+                {minX, minY, minZ},
+                {minX, minY, maxZ},
+                {maxX, minY, minZ},
+                {maxX, minY, maxZ}
+            };
+            for (double[] sample : samples) {
+                Vec3 target = new Vec3(sample[0], sample[1], sample[2]);
+                if (requireInFieldOfView && !view.contains(target)) {
+                    continue;
+                }
+                if (hasLineOfSight(client, pos, target)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean hasLineOfSight(Minecraft client, BlockPos pos, Vec3 target) {
+            ClipContext context = new ClipContext(
+                camera,
+                target,
+                ClipContext.Block.COLLIDER,
+                ClipContext.Fluid.NONE,
+                client.player
+            );
+            BlockHitResult hit = level.clip(context);
+            if (hit == null) {
+                return false;
+            }
+            if (hit.getType() == HitResult.Type.MISS) {
+                return true;
+            }
+            return hit.getType() == HitResult.Type.BLOCK && hit.getBlockPos().equals(pos);
+        }
+    }
+}
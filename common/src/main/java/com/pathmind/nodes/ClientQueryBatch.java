@@ -0,0 +1,51 @@
+package com.pathmind.nodes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Several client-thread reads fetched in one round-trip. Queries run in the order they were added, so a later
+ * query may read the result of an earlier one.
+ */
+final class ClientQueryBatch {
+    private final List<Query<?>> queries = new ArrayList<>();
+
+    <T> Query<T> add(Supplier<T> supplier) {
+        Query<T> query = new Query<>(supplier);
+        queries.add(query);
+        return query;
+    }
+
+    void run(Minecraft client) throws InterruptedException {
+        NodeClientRuntimeSupport.supplyFromClient(client, () -> {
+            for (Query<?> query : queries) {
+                query.resolve();
+            }
+            return null;
+        });
+    }
+
+    static final class Query<T> {
+        private final Supplier<T> supplier;
+        private T value;
+        private boolean resolved;
+
+        private Query(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        private void resolve() {
+            value = supplier.get();
+            resolved = true;
+        }
+
+        T get() {
+            if (!resolved) {
+                throw new IllegalStateException("Client query has not run yet");
+            }
+            return value;
+        }
+    }
+}
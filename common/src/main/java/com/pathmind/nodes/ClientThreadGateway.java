@@ -0,0 +1,54 @@
+package com.pathmind.nodes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces client-thread requests from background node threads. Requests queue up and a single drain task is
+ * posted to the client; everything queued by the time it runs completes in that one pass, so a burst of small
+ * queries costs one frame rather than one frame each.
+ */
+final class ClientThreadGateway {
+    private static final ClientThreadGateway INSTANCE = new ClientThreadGateway();
+
+    private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainPosted = new AtomicBoolean();
+
+    ClientThreadGateway() {
+    }
+
+    static ClientThreadGateway getInstance() {
+        return INSTANCE;
+    }
+
+    <T> CompletableFuture<T> submit(Executor clientExecutor, Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pending.add(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        if (drainPosted.compareAndSet(false, true)) {
+            clientExecutor.execute(this::drain);
+        }
+        return future;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void drain() {
+        // Clear the flag before polling so a request queued after the last poll posts a fresh drain.
+        drainPosted.set(false);
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+}
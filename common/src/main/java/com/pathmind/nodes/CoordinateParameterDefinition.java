@@ -1,5 +1,6 @@
 package com.pathmind.nodes;
 
+import com.pathmind.execution.RuntimeValueCells;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,8 +26,12 @@ final class CoordinateParameterDefinition {
 
     private static Optional<Vec3> resolvePositionTarget(Node owner, Node parameterNode, RuntimeParameterData data,
                                                          CompletableFuture<Void> future) {
-        Vec3 vector = resolvePositionVector(owner, parameterNode);
-        BlockPos pos = new BlockPos((int) Math.floor(vector.x), (int) Math.floor(vector.y), (int) Math.floor(vector.z));
+        RuntimeValueCells cells = parameterNode.getRuntimeValueCells();
+        Vec3 decoded = cells != null ? cells.position() : null;
+        Vec3 vector = decoded != null ? decoded : resolvePositionVector(owner, parameterNode);
+        BlockPos pos = decoded != null
+            ? cells.blockPosition()
+            : new BlockPos((int) Math.floor(vector.x), (int) Math.floor(vector.y), (int) Math.floor(vector.z));
         if (data != null) {
             data.targetBlockPos = pos;
             data.targetVector = vector;
@@ -0,0 +1,97 @@
+package com.pathmind.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * Entry indices bucketed by the chunk column holding each box's centre and by a type key. Index order is kept in
+ * every bucket, so callers that store entries nearest-first get candidates back nearest-first.
+ */
+final class EntityCellGrid<K> {
+    private final AABB[] boxes;
+    private final Map<Long, int[]> cells;
+    private final Map<K, int[]> types;
+    private final double maxHalfWidth;
+
+    EntityCellGrid(AABB[] boxes, K[] typeKeys) {
+        this.boxes = boxes;
+        Map<Long, List<Integer>> cellMembers = new HashMap<>();
+        Map<K, List<Integer>> typeMembers = new HashMap<>();
+        double widest = 0.0D;
+        for (int i = 0; i < boxes.length; i++) {
+            AABB box = boxes[i];
+            widest = Math.max(widest, Math.max(box.getXsize(), box.getZsize()) * 0.5D);
+            cellMembers.computeIfAbsent(cellKey(box.getCenter().x, box.getCenter().z), ignored -> new ArrayList<>()).add(i);
+            typeMembers.computeIfAbsent(typeKeys[i], ignored -> new ArrayList<>()).add(i);
+        }
+        this.maxHalfWidth = widest;
+        this.cells = toIndexArrays(cellMembers);
+        this.types = toIndexArrays(typeMembers);
+    }
+
+    AABB box(int index) {
+        return boxes[index];
+    }
+
+    /** Ascending indices of every entry whose box may intersect {@code box}; a superset of the exact matches. */
+    int[] candidatesIn(AABB box) {
+        int minCellX = cellCoord(box.minX - maxHalfWidth);
+        int maxCellX = cellCoord(box.maxX + maxHalfWidth);
+        int minCellZ = cellCoord(box.minZ - maxHalfWidth);
+        int maxCellZ = cellCoord(box.maxZ + maxHalfWidth);
+        long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1);
+        if (cellCount >= cells.size()) {
+            int[] all = new int[boxes.length];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        int[] gathered = new int[16];
+        int count = 0;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                int[] members = cells.get(packCell(cellX, cellZ));
+                if (members == null) {
+                    continue;
+                }
+                if (count + members.length > gathered.length) {
+                    gathered = Arrays.copyOf(gathered, Math.max(gathered.length * 2, count + members.length));
+                }
+                System.arraycopy(members, 0, gathered, count, members.length);
+                count += members.length;
+            }
+        }
+        int[] candidates = Arrays.copyOf(gathered, count);
+        Arrays.sort(candidates);
+        return candidates;
+    }
+
+    /** Ascending indices of every entry with that type key. */
+    int[] ofType(K type) {
+        int[] members = types.get(type);
+        return members != null ? members : new int[0];
+    }
+
+    private static <K> Map<K, int[]> toIndexArrays(Map<K, List<Integer>> members) {
+        Map<K, int[]> arrays = new HashMap<>(members.size() * 2);
+        for (Map.Entry<K, List<Integer>> entry : members.entrySet()) {
+            arrays.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return arrays;
+    }
+
+    private static long cellKey(double x, double z) {
+        return packCell(cellCoord(x), cellCoord(z));
+    }
+
+    private static int cellCoord(double coordinate) {
+        return (int) Math.floor(coordinate) >> 4;
+    }
+
+    private static long packCell(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
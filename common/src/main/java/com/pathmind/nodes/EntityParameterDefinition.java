@@ -2,6 +2,7 @@ package com.pathmind.nodes;
 
 import static com.pathmind.util.PathmindI18n.tr;
 
+import com.pathmind.execution.RuntimeValueCells;
 import com.pathmind.util.EntityCompatibilityBridge;
 import com.pathmind.util.EntityStateOptions;
 
@@ -60,11 +61,10 @@ final class EntityParameterDefinition {
         String nearestId = null;
         double nearestDistance = Double.MAX_VALUE;
         for (String candidateId : entityIds) {
-            Identifier identifier = Identifier.tryParse(candidateId);
-            if (identifier == null || !BuiltInRegistries.ENTITY_TYPE.containsKey(identifier)) {
+            EntityType<?> entityType = resolveEntityType(parameterNode, candidateId);
+            if (entityType == null) {
                 continue;
             }
-            EntityType<?> entityType = BuiltInRegistries.ENTITY_TYPE.getOptional(identifier).orElse(null);
             Optional<Entity> entity = owner.findNearestEntity(client, entityType, range, state);
             if (entity.isEmpty()) {
                 continue;
@@ -72,12 +72,12 @@ final class EntityParameterDefinition {
             double distance = entity.get().distanceToSqr(client.player);
             if (distance < nearestDistance) {
                 nearest = entity.get();
-                nearestId = identifier.toString();
+                nearestId = BuiltInRegistries.ENTITY_TYPE.getKey(entityType).toString();
                 nearestDistance = distance;
             }
         }
         if (nearest == null) {
-            Optional<Vec3> recent = resolveRecentTransientPosition(owner, entityIds, client, range, data);
+            Optional<Vec3> recent = resolveRecentTransientPosition(parameterNode, entityIds, client, range, data);
             if (recent.isPresent()) {
                 return recent;
             }
@@ -87,7 +87,7 @@ final class EntityParameterDefinition {
         return resolvedEntityPosition(nearest, nearestId, data);
     }
 
-    private static Optional<Vec3> resolveRecentTransientPosition(Node owner, List<String> entityIds, Minecraft client,
+    private static Optional<Vec3> resolveRecentTransientPosition(Node parameterNode, List<String> entityIds, Minecraft client,
                                                                   double range, RuntimeParameterData data) {
         if (entityIds == null || entityIds.isEmpty() || client == null || client.player == null) {
             return Optional.empty();
@@ -96,11 +96,10 @@ final class EntityParameterDefinition {
         TransientEntityPositionTracker.TrackedPosition nearest = null;
         double nearestDistance = Double.MAX_VALUE;
         for (String candidateId : entityIds) {
-            Identifier identifier = Identifier.tryParse(candidateId);
-            if (identifier == null || !BuiltInRegistries.ENTITY_TYPE.containsKey(identifier)) {
+            EntityType<?> entityType = resolveEntityType(parameterNode, candidateId);
+            if (entityType == null) {
                 continue;
             }
-            EntityType<?> entityType = BuiltInRegistries.ENTITY_TYPE.getOptional(identifier).orElse(null);
             Optional<TransientEntityPositionTracker.TrackedPosition> recent =
                 TransientEntityPositionTracker.findRecent(client, entityType, range);
             if (recent.isEmpty()) {
@@ -129,6 +128,19 @@ final class EntityParameterDefinition {
         return Optional.of(nearest.position());
     }
 
+    /** Registry lookup for a candidate id; variable snapshots reuse the type decoded when the variable was read. */
+    private static EntityType<?> resolveEntityType(Node parameterNode, String candidateId) {
+        RuntimeValueCells cells = parameterNode != null ? parameterNode.getRuntimeValueCells() : null;
+        if (cells != null) {
+            return cells.entityType(candidateId);
+        }
+        Identifier identifier = Identifier.tryParse(candidateId);
+        if (identifier == null || !BuiltInRegistries.ENTITY_TYPE.containsKey(identifier)) {
+            return null;
+        }
+        return BuiltInRegistries.ENTITY_TYPE.getOptional(identifier).orElse(null);
+    }
+
     private static Node.ListValueEntry resolveListEntry(Node owner, Node parameterNode, Minecraft client) {
         String state = owner.getEntityParameterState(parameterNode);
         double range = Node.parseDoubleOrDefault(Node.getParameterString(parameterNode, "Range"), Node.PARAMETER_SEARCH_RADIUS);
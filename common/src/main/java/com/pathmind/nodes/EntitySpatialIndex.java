@@ -0,0 +1,187 @@
+package com.pathmind.nodes;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * Loaded entities captured at the end of a client tick, alongside {@link SensorWorldSnapshot}, into an
+ * {@link EntityCellGrid} keyed by chunk column and entity type. Entries are ordered by their distance to the player
+ * at capture, so every query returns nearest-first without re-measuring. Entity sensors and target lookups off the
+ * client thread query this instead of walking the level's entity storage once per sensor; when the index is not
+ * readable, the same helpers fall back to the live level and sort its results the same way.
+ *
+ * <p>Both paths return the same entities: the index holds the level's entity storage plus its multipart parts, and
+ * applies the same exclusion rule as {@code level.getEntities}. The index is only built on the client thread, and only
+ * while entity queries have asked for it within the last second, so graphs without entity lookups never pay for it.
+ */
+final class EntitySpatialIndex {
+    private static final long DEMAND_WINDOW_MS = 1000L;
+    private static volatile EntitySpatialIndex current;
+    private static volatile long lastDemandMs = Long.MIN_VALUE;
+
+    private final ClientLevel level;
+    private final LocalPlayer player;
+    private final long epoch;
+    private final long capturedAtMs;
+    private final Entity[] entities;
+    private final EntityCellGrid<EntityType<?>> grid;
+
+    private EntitySpatialIndex(ClientLevel level, LocalPlayer player, long epoch) {
+        this.level = level;
+        this.player = player;
+        this.epoch = epoch;
+        this.capturedAtMs = System.currentTimeMillis();
+
+        List<Entity> captured = new ArrayList<>();
+        Map<Entity, Double> distances = new IdentityHashMap<>();
+        for (Entity entity : level.entitiesForRendering()) {
+            if (entity != null && !entity.isRemoved()) {
+                captured.add(entity);
+                distances.put(entity, entity.distanceToSqr(player));
+            }
+        }
+        // Parts live outside the entity storage; level.getEntities reports them alongside it.
+        for (Entity part : level.dragonParts()) {
+            if (part != null && !part.isRemoved()) {
+                captured.add(part);
+                distances.put(part, part.distanceToSqr(player));
+            }
+        }
+        captured.sort(Comparator.comparingDouble(distances::get));
+        this.entities = captured.toArray(new Entity[0]);
+
+        AABB[] boxes = new AABB[entities.length];
+        EntityType<?>[] typeKeys = new EntityType<?>[entities.length];
+        for (int i = 0; i < entities.length; i++) {
+            boxes[i] = entities[i].getBoundingBox();
+            typeKeys[i] = entities[i].getType();
+        }
+        this.grid = new EntityCellGrid<>(boxes, typeKeys);
+    }
+
+    /** Builds the index for this tick if entity queries have asked for one recently; called on the client thread. */
+    static void capture(ClientLevel level, LocalPlayer player, long epoch) {
+        boolean demanded = System.currentTimeMillis() - lastDemandMs <= DEMAND_WINDOW_MS;
+        current = demanded && level != null && player != null ? new EntitySpatialIndex(level, player, epoch) : null;
+    }
+
+    static void clear() {
+        current = null;
+    }
+
+    /** Same contract as {@code level.getEntities(except, box, filter)}, ordered nearest to the player first. */
+    static List<Entity> entities(ClientLevel level, Entity except, AABB box, Predicate<? super Entity> filter) {
+        EntitySpatialIndex index = readable(level);
+        if (index == null) {
+            return sortedByDistance(level.getEntities(except, box, entity -> filter == null || filter.test(entity)));
+        }
+        return index.collect(index.grid.candidatesIn(box), except, box, Entity.class, filter, Integer.MAX_VALUE);
+    }
+
+    /** Entities of one type; the lookup only visits that type's bucket. */
+    static List<Entity> entitiesOfType(ClientLevel level, Entity except, EntityType<?> type, AABB box,
+                                       Predicate<? super Entity> filter) {
+        EntitySpatialIndex index = readable(level);
+        if (index == null) {
+            return sortedByDistance(level.getEntities(except, box,
+                entity -> entity.getType() == type && (filter == null || filter.test(entity))));
+        }
+        return index.collect(index.grid.ofType(type), except, box, Entity.class, filter, Integer.MAX_VALUE);
+    }
+
+    /** Same contract as {@code level.getEntitiesOfClass(type, box, filter)}, ordered nearest to the player first. */
+    static <T extends Entity> List<T> entitiesOfClass(ClientLevel level, Class<T> type, AABB box,
+                                                      Predicate<? super T> filter) {
+        EntitySpatialIndex index = readable(level);
+        if (index == null) {
+            return sortedByDistance(level.getEntitiesOfClass(type, box, entity -> filter == null || filter.test(entity)));
+        }
+        return index.collect(index.grid.candidatesIn(box), null, box, type, filter, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Whether {@link #entities} would return anything. Candidates are tested nearest-first and the scan stops at the
+     * first match, so expensive filters such as line-of-sight checks run as few times as possible.
+     */
+    static boolean any(ClientLevel level, Entity except, AABB box, Predicate<? super Entity> filter) {
+        EntitySpatialIndex index = readable(level);
+        if (index == null) {
+            return !level.getEntities(except, box, entity -> filter == null || filter.test(entity)).isEmpty();
+        }
+        return !index.collect(index.grid.candidatesIn(box), except, box, Entity.class, filter, 1).isEmpty();
+    }
+
+    static boolean anyOfType(ClientLevel level, Entity except, EntityType<?> type, AABB box,
+                             Predicate<? super Entity> filter) {
+        EntitySpatialIndex index = readable(level);
+        if (index == null) {
+            return !level.getEntities(except, box,
+                entity -> entity.getType() == type && (filter == null || filter.test(entity))).isEmpty();
+        }
+        return !index.collect(index.grid.ofType(type), except, box, Entity.class, filter, 1).isEmpty();
+    }
+
+    static <T extends Entity> boolean anyOfClass(ClientLevel level, Class<T> type, AABB box,
+                                                 Predicate<? super T> filter) {
+        EntitySpatialIndex index = readable(level);
+        if (index == null) {
+            return !level.getEntitiesOfClass(type, box, entity -> filter == null || filter.test(entity)).isEmpty();
+        }
+        return !index.collect(index.grid.candidatesIn(box), null, box, type, filter, 1).isEmpty();
+    }
+
+    private static EntitySpatialIndex readable(ClientLevel level) {
+        net.minecraft.client.Minecraft client = net.minecraft.client.Minecraft.getInstance();
+        if (client != null && !client.isSameThread()) {
+            lastDemandMs = System.currentTimeMillis();
+        }
+        EntitySpatialIndex index = current;
+        if (index == null || index.level != level
+            || !SensorWorldSnapshot.isReadable(index.level, index.player, index.epoch, index.capturedAtMs)) {
+            return null;
+        }
+        return index;
+    }
+
+    private <T extends Entity> List<T> collect(int[] candidates, Entity except, AABB box, Class<T> type,
+                                               Predicate<? super T> filter, int limit) {
+        List<T> matches = new ArrayList<>();
+        for (int i : candidates) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            Entity entity = entities[i];
+            if (isExcluded(entity, except) || entity.isRemoved() || !grid.box(i).intersects(box) || !type.isInstance(entity)) {
+                continue;
+            }
+            T typed = type.cast(entity);
+            if (filter == null || filter.test(typed)) {
+                matches.add(typed);
+            }
+        }
+        return matches;
+    }
+
+    /** Mirrors {@code level.getEntities}: a part is also skipped when its parent is the excluded entity. */
+    private static boolean isExcluded(Entity entity, Entity except) {
+        return except != null && entity.is(except);
+    }
+
+    private static <T extends Entity> List<T> sortedByDistance(List<T> entities) {
+        LocalPlayer player = net.minecraft.client.Minecraft.getInstance().player;
+        List<T> sorted = new ArrayList<>(entities);
+        if (player != null && sorted.size() > 1) {
+            sorted.sort(Comparator.comparingDouble(entity -> entity.distanceToSqr(player)));
+        }
+        return sorted;
+    }
+}
@@ -2,6 +2,7 @@ package com.pathmind.nodes;
 
 import static com.pathmind.util.PathmindI18n.tr;
 
+import com.pathmind.execution.RuntimeValueCells;
 import com.pathmind.util.EntityCompatibilityBridge;
 import java.util.List;
 import java.util.Optional;
@@ -49,12 +50,11 @@ final class ItemParameterDefinition {
         double range = Node.parseNodeDouble(parameterNode, "Range", defaultRange);
         boolean hasValidCandidate = false;
         for (String candidateId : itemIds) {
-            Identifier identifier = Identifier.tryParse(candidateId);
-            if (identifier == null || !BuiltInRegistries.ITEM.containsKey(identifier)) {
+            Item item = resolveItem(parameterNode, candidateId);
+            if (item == null) {
                 continue;
             }
             hasValidCandidate = true;
-            Item item = BuiltInRegistries.ITEM.getOptional(identifier).orElse(null);
             Optional<ItemEntity> match = owner.findNearestDroppedItemEntity(client, item, range);
             if (match.isEmpty()) {
                 continue;
@@ -82,16 +82,28 @@ final class ItemParameterDefinition {
         return Optional.empty();
     }
 
+    /** Registry lookup for a candidate id; variable snapshots reuse the item decoded when the variable was read. */
+    private static Item resolveItem(Node parameterNode, String candidateId) {
+        RuntimeValueCells cells = parameterNode.getRuntimeValueCells();
+        if (cells != null) {
+            return cells.item(candidateId);
+        }
+        Identifier identifier = Identifier.tryParse(candidateId);
+        if (identifier == null || !BuiltInRegistries.ITEM.containsKey(identifier)) {
+            return null;
+        }
+        return BuiltInRegistries.ITEM.getOptional(identifier).orElse(null);
+    }
+
     private static Node.ListValueEntry resolveListEntry(Node owner, Node parameterNode, Minecraft client) {
         double range = Node.parseDoubleOrDefault(Node.getParameterString(parameterNode, "Range"), Node.PARAMETER_SEARCH_RADIUS);
         Entity nearest = null;
         double nearestDistance = Double.MAX_VALUE;
         for (String candidateId : owner.resolveItemIdsFromParameter(parameterNode)) {
-            Identifier identifier = Identifier.tryParse(candidateId);
-            if (identifier == null || !BuiltInRegistries.ITEM.containsKey(identifier)) {
+            Item item = resolveItem(parameterNode, candidateId);
+            if (item == null) {
                 continue;
             }
-            Item item = BuiltInRegistries.ITEM.getOptional(identifier).orElse(null);
             for (ItemEntity itemEntity : owner.findItemsByType(client, item, range)) {
                 if (itemEntity == null || itemEntity.isRemoved()) {
                     continue;
@@ -123,11 +135,10 @@ final class ItemParameterDefinition {
         String matchedItemId = null;
 
         for (String candidateId : itemIds) {
-            Identifier identifier = Identifier.tryParse(candidateId);
-            if (identifier == null || !BuiltInRegistries.ITEM.containsKey(identifier)) {
+            Item candidateItem = resolveItem(parameterNode, candidateId);
+            if (candidateItem == null) {
                 continue;
             }
-            Item candidateItem = BuiltInRegistries.ITEM.getOptional(identifier).orElse(null);
             Optional<BlockPos> target = owner.findNearestDroppedItem(client, candidateItem, searchRange);
             if (target.isPresent()) {
                 matchedPosition = target;
@@ -0,0 +1,187 @@
+package com.pathmind.nodes;
+
+import net.minecraft.core.BlockPos;
+
+/**
+ * Visits the voxels around an origin in order of increasing squared distance and returns the first one a predicate
+ * accepts. Offsets come from a shared table of one octant of the search cube, bucketed by squared distance and
+ * mirrored into the other seven octants on the fly. Sections are classified once per search, so voxels in
+ * sections the filter rejects cost a single array read instead of a block lookup.
+ *
+ * <p>When several voxels at the same distance are accepted, the one with the lowest x, then y, then z wins, which
+ * matches the result of the x/y/z cube scans this replaces.
+ */
+final class NearestVoxelSearch {
+    static final int MAX_RADIUS = 64;
+
+    private static final int COMPONENT_BITS = 7;
+    private static final int COMPONENT_MASK = (1 << COMPONENT_BITS) - 1;
+    private static final byte SECTION_UNKNOWN = 0;
+    private static final byte SECTION_SKIPPED = 1;
+    private static final byte SECTION_SEARCHED = 2;
+
+    private NearestVoxelSearch() {
+    }
+
+    @FunctionalInterface
+    interface SectionFilter {
+        /** Returns false when no voxel of the section can be accepted, e.g. it is unloaded or only air. */
+        boolean mayContain(int sectionX, int sectionY, int sectionZ);
+    }
+
+    @FunctionalInterface
+    interface VoxelPredicate {
+        /** The position is reused between calls; copy it with {@code immutable()} to keep it. */
+        boolean test(BlockPos.MutableBlockPos pos);
+    }
+
+    /**
+     * Returns the nearest accepted voxel within {@code radius} blocks on every axis and at most
+     * {@code maxDistanceSq} squared blocks from the origin, or null when there is none.
+     */
+    static BlockPos findNearest(BlockPos origin, int radius, long maxDistanceSq, SectionFilter sections,
+                                VoxelPredicate predicate) {
+        int clampedRadius = Math.max(0, Math.min(radius, MAX_RADIUS));
+        long limit = Math.min(maxDistanceSq, 3L * clampedRadius * clampedRadius);
+        if (origin == null || predicate == null || limit < 0) {
+            return null;
+        }
+        int originX = origin.getX();
+        int originY = origin.getY();
+        int originZ = origin.getZ();
+        SectionGrid grid = new SectionGrid(originX, originY, originZ, clampedRadius, sections);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int[] offsets = ShellTable.OFFSETS;
+        int[] shellStarts = ShellTable.SHELL_STARTS;
+
+        for (int distanceSq = 0; distanceSq <= limit; distanceSq++) {
+            boolean found = false;
+            int bestX = 0;
+            int bestY = 0;
+            int bestZ = 0;
+            for (int i = shellStarts[distanceSq]; i < shellStarts[distanceSq + 1]; i++) {
+                int packed = offsets[i];
+                int a = packed & COMPONENT_MASK;
+                int b = (packed >>> COMPONENT_BITS) & COMPONENT_MASK;
+                int c = packed >>> (COMPONENT_BITS * 2);
+                if (a > clampedRadius || b > clampedRadius || c > clampedRadius) {
+                    continue;
+                }
+                for (int signX = -1; signX <= 1; signX += 2) {
+                    if (signX > 0 && a == 0) {
+                        continue;
+                    }
+                    int x = originX + signX * a;
+                    for (int signY = -1; signY <= 1; signY += 2) {
+                        if (signY > 0 && b == 0) {
+                            continue;
+                        }
+                        int y = originY + signY * b;
+                        for (int signZ = -1; signZ <= 1; signZ += 2) {
+                            if (signZ > 0 && c == 0) {
+                                continue;
+                            }
+                            int z = originZ + signZ * c;
+                            if (found && !precedes(x, y, z, bestX, bestY, bestZ)) {
+                                continue;
+                            }
+                            if (!grid.mayContain(x, y, z)) {
+                                continue;
+                            }
+                            if (predicate.test(pos.set(x, y, z))) {
+                                found = true;
+                                bestX = x;
+                                bestY = y;
+                                bestZ = z;
+                            }
+                        }
+                    }
+                }
+            }
+            if (found) {
+                return new BlockPos(bestX, bestY, bestZ);
+            }
+        }
+        return null;
+    }
+
+    private static boolean precedes(int x, int y, int z, int otherX, int otherY, int otherZ) {
+        if (x != otherX) {
+            return x < otherX;
+        }
+        if (y != otherY) {
+            return y < otherY;
+        }
+        return z < otherZ;
+    }
+
+    private static final class SectionGrid {
+        private final SectionFilter filter;
+        private final int minSectionX;
+        private final int minSectionY;
+        private final int minSectionZ;
+        private final int sizeY;
+        private final int sizeZ;
+        private final byte[] status;
+
+        private SectionGrid(int originX, int originY, int originZ, int radius, SectionFilter filter) {
+            this.filter = filter;
+            this.minSectionX = (originX - radius) >> 4;
+            this.minSectionY = (originY - radius) >> 4;
+            this.minSectionZ = (originZ - radius) >> 4;
+            int sizeX = ((originX + radius) >> 4) - minSectionX + 1;
+            this.sizeY = ((originY + radius) >> 4) - minSectionY + 1;
+            this.sizeZ = ((originZ + radius) >> 4) - minSectionZ + 1;
+            this.status = filter != null ? new byte[sizeX * sizeY * sizeZ] : null;
+        }
+
+        private boolean mayContain(int x, int y, int z) {
+            if (status == null) {
+                return true;
+            }
+            int sectionX = x >> 4;
+            int sectionY = y >> 4;
+            int sectionZ = z >> 4;
+            int index = ((sectionX - minSectionX) * sizeY + (sectionY - minSectionY)) * sizeZ + (sectionZ - minSectionZ);
+            byte known = status[index];
+            if (known == SECTION_UNKNOWN) {
+                known = filter.mayContain(sectionX, sectionY, sectionZ) ? SECTION_SEARCHED : SECTION_SKIPPED;
+                status[index] = known;
+            }
+            return known == SECTION_SEARCHED;
+        }
+    }
+
+    /** Built on first use; 65x65x65 octant offsets counting-sorted by squared distance. */
+    private static final class ShellTable {
+        private static final int[] SHELL_STARTS;
+        private static final int[] OFFSETS;
+
+        static {
+            int maxDistanceSq = 3 * MAX_RADIUS * MAX_RADIUS;
+            int[] starts = new int[maxDistanceSq + 2];
+            for (int a = 0; a <= MAX_RADIUS; a++) {
+                for (int b = 0; b <= MAX_RADIUS; b++) {
+                    for (int c = 0; c <= MAX_RADIUS; c++) {
+                        starts[a * a + b * b + c * c + 1]++;
+                    }
+                }
+            }
+            for (int i = 1; i < starts.length; i++) {
+                starts[i] += starts[i - 1];
+            }
+            int[] offsets = new int[starts[starts.length - 1]];
+            int[] next = starts.clone();
+            for (int a = 0; a <= MAX_RADIUS; a++) {
+                for (int b = 0; b <= MAX_RADIUS; b++) {
+                    for (int c = 0; c <= MAX_RADIUS; c++) {
+                        offsets[next[a * a + b * b + c * c]++] =
+                            a | (b << COMPONENT_BITS) | (c << (COMPONENT_BITS * 2));
+                    }
+                }
+            }
+            SHELL_STARTS = starts;
+            OFFSETS = offsets;
+        }
+    }
+}
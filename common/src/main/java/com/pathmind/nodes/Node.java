@@ -18,6 +18,7 @@ import com.pathmind.data.NodeGraphData;
 import com.pathmind.routines.RoutineInputDefinition;
 import com.pathmind.routines.RoutineValueKind;
 import com.pathmind.execution.ExecutionManager;
+import com.pathmind.execution.RuntimeValueCells;
 import com.pathmind.ui.overlay.NodeErrorNotificationOverlay;
 import com.pathmind.ui.theme.UITheme;
 import com.pathmind.util.BaritoneDependencyChecker;
@@ -266,7 +267,7 @@ public class Node {
         this.runtimeParameterResolver = new NodeRuntimeParameterResolver(this);
         this.worldTargetResolver = new NodeWorldTargetResolver(this);
         this.sensorCoordinator = new NodeSensorCoordinator(this);
-        this.parameters = new ArrayList<>();
+        this.parameters = new NodeParameterList();
         this.parameterValues = new NodeParameterValues(this);
         this.textContent = new NodeTextContent(type, () -> {
             layoutState.clearMessageFieldContentWidthOverride();
@@ -350,10 +351,7 @@ public class Node {
     private static final String PARAM_ID_UI_BUTTON_DELAY = "ui_button_delay";
 
     static String normalizeParameterKey(String key) {
-        if (key == null) {
-            return "";
-        }
-        return key.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        return NodeParameter.createDefaultId(key);
     }
     
     private static NodeParameter createParameter(String id, String name, ParameterType type, String defaultValue) {
@@ -435,6 +433,15 @@ public class Node {
         runtimeState.runtimeSourceNodeId = sourceNodeId;
     }
 
+    /** Decoded values of the runtime variable this node is a snapshot of; null for nodes from the graph. */
+    RuntimeValueCells getRuntimeValueCells() {
+        return runtimeState.runtimeValueCells;
+    }
+
+    void setRuntimeValueCells(RuntimeValueCells cells) {
+        runtimeState.runtimeValueCells = cells;
+    }
+
     public NodeType getType() {
         return type;
     }
@@ -1127,6 +1134,17 @@ public class Node {
         runtimeState.repeatActive = false;
         runtimeState.repeatExecuteAttachedAction = false;
     }
+
+    /** Clears per-execution runtime state so a reused runtime clone starts like a freshly built one. */
+    public void resetRuntimeState() {
+        runtimeState.resetControlState();
+        runtimeState.runtimeParameterData = null;
+        runtimeState.owningStartNode = null;
+        runtimeState.activeRepeatUntilGuard = null;
+        runtimeState.runtimeValueCells = null;
+        runtimeState.randomGenerator = null;
+        runtimeState.randomSeedCache = null;
+    }
     
     public boolean isSocketClicked(int mouseX, int mouseY, int socketIndex, boolean isInput) {
         return NodeSlotLayout.isSocketClicked(this, mouseX, mouseY, socketIndex, isInput);
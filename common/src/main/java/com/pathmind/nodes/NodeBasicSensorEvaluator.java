@@ -60,6 +60,10 @@ final class NodeBasicSensorEvaluator {
     }
 
     boolean isDaytime() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.dayTime % 24000L < 12000L;
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.level == null) {
             return false;
@@ -69,6 +73,10 @@ final class NodeBasicSensorEvaluator {
     }
 
     boolean isRaining() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.raining;
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.level == null || client.player == null) {
             return false;
@@ -162,6 +170,10 @@ final class NodeBasicSensorEvaluator {
     }
 
     boolean isHealthBelow(double amount) {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.health < amount;
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.player == null) {
             return false;
@@ -170,6 +182,10 @@ final class NodeBasicSensorEvaluator {
     }
 
     boolean isHungerBelow(int amount) {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.foodLevel < amount;
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.player == null) {
             return false;
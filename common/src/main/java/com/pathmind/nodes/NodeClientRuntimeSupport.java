@@ -1,7 +1,7 @@
 package com.pathmind.nodes;
 
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.entity.player.Inventory;
@@ -87,49 +87,44 @@ final class NodeClientRuntimeSupport {
 
     static void runOnClientThread(Minecraft client, Runnable task) throws InterruptedException {
         if (client == null || client.isSameThread()) {
-            task.run();
+            try {
+                task.run();
+            } finally {
+                SensorWorldSnapshot.invalidate();
+            }
             return;
         }
 
-        CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<RuntimeException> error = new AtomicReference<>();
-        client.execute(() -> {
+        awaitClient(ClientThreadGateway.getInstance().submit(client, () -> {
             try {
                 task.run();
-            } catch (RuntimeException e) {
-                error.set(e);
             } finally {
-                latch.countDown();
+                SensorWorldSnapshot.invalidate();
             }
-        });
-        latch.await();
-        if (error.get() != null) {
-            throw error.get();
-        }
+            return null;
+        }));
     }
 
     static <T> T supplyFromClient(Minecraft client, Supplier<T> supplier) throws InterruptedException {
         if (client == null || client.isSameThread()) {
             return supplier.get();
         }
+        return awaitClient(ClientThreadGateway.getInstance().submit(client, supplier));
+    }
 
-        CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<T> result = new AtomicReference<>();
-        AtomicReference<RuntimeException> error = new AtomicReference<>();
-        client.execute(() -> {
-            try {
-                result.set(supplier.get());
-            } catch (RuntimeException e) {
-                error.set(e);
-            } finally {
-                latch.countDown();
+    private static <T> T awaitClient(CompletableFuture<T> result) throws InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
             }
-        });
-        latch.await();
-        if (error.get() != null) {
-            throw error.get();
+            throw new IllegalStateException(cause);
         }
-        return result.get();
     }
 
     static int clampInventorySlot(Inventory inventory, int slot) {
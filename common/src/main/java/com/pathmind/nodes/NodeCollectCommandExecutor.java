@@ -290,7 +290,7 @@ final class NodeCollectCommandExecutor {
         int ticksToBreak = Math.max(1, (int) Math.ceil(1.0F / delta));
 
         Direction finalBreakFace = breakFace;
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Collect-Break", () -> {
             try {
                 NodeClientRuntimeSupport.runOnClientThread(client, () -> {
                     owner.orientPlayerTowardsRuntimeTarget(client, runtimeState.runtimeParameterData);
@@ -328,7 +328,7 @@ final class NodeCollectCommandExecutor {
                 Thread.currentThread().interrupt();
                 NodeExecutionCompletion.completeExceptionally(future, e);
             }
-        }, "Pathmind-Collect-Break").start();
+        });
     }
 
     private boolean hasRequiredBlockAlready(String blockId, int required) {
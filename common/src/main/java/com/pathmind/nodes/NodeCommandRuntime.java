@@ -0,0 +1,42 @@
+package com.pathmind.nodes;
+
+import com.pathmind.execution.ExecutionManager;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared runtime for node commands that block while they wait on the client thread, a sleep or a latch.
+ * Each task runs on its own virtual thread named after the command and execution id, and a semaphore caps how many
+ * of them may be doing blocking work at once so a runaway Forever loop cannot flood the client queue.
+ */
+final class NodeCommandRuntime {
+    static final int MAX_CONCURRENT_COMMANDS = 64;
+
+    private static final Semaphore PERMITS = new Semaphore(MAX_CONCURRENT_COMMANDS, true);
+    private static final AtomicInteger ACTIVE_COMMANDS = new AtomicInteger();
+    private static final AtomicInteger SUBMITTED_COMMANDS = new AtomicInteger();
+
+    private NodeCommandRuntime() {
+    }
+
+    static void submit(String name, Runnable task) {
+        Integer executionId = ExecutionManager.getInstance().getCurrentExecutionId();
+        String threadName = name + "#" + (executionId != null ? executionId : "-") + "-" + SUBMITTED_COMMANDS.incrementAndGet();
+        Thread.ofVirtual().name(threadName).start(() -> runBounded(task));
+    }
+
+    static int activeCommandCount() {
+        return ACTIVE_COMMANDS.get();
+    }
+
+    private static void runBounded(Runnable task) {
+        PERMITS.acquireUninterruptibly();
+        ACTIVE_COMMANDS.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            ACTIVE_COMMANDS.decrementAndGet();
+            PERMITS.release();
+        }
+    }
+}
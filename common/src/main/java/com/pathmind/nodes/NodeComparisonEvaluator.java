@@ -181,6 +181,7 @@ final class NodeComparisonEvaluator {
         if (!values.isEmpty()) {
             snapshot.applyParameterValuesFromMap(values);
         }
+        snapshot.setRuntimeValueCells(runtimeVariable.getCells());
         return snapshot;
     }
 
@@ -143,35 +143,31 @@ final class NodeCraftCommandExecutor {
         Object serverRegistryManager = client.getSingleplayerServer() != null
             ? client.getSingleplayerServer().registryAccess()
             : null;
-        net.minecraft.world.level.Level clientWorld;
-        try {
-            clientWorld = NodeClientRuntimeSupport.supplyFromClient(client, () -> {
-                net.minecraft.world.level.Level world = EntityCompatibilityBridge.getWorld(client.player);
-                if (world == null) {
-                    world = client.level;
-                }
-                return world;
-            });
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            NodeExecutionCompletion.complete(future);
-            return;
-        }
-        Object clientRegistryManager = clientWorld != null ? clientWorld.registryAccess() : null;
-
         java.util.concurrent.atomic.AtomicBoolean requiresCraftingTable = new java.util.concurrent.atomic.AtomicBoolean(false);
-        RecipeHolder<CraftingRecipe> recipeEntry;
-        Object displayEntry = null;
-        try {
-            recipeEntry = NodeClientRuntimeSupport.supplyFromClient(client, () -> findCraftingRecipe(client, targetItem, effectiveCraftMode, requiresCraftingTable));
-            if (recipeEntry == null) {
-                displayEntry = NodeClientRuntimeSupport.supplyFromClient(client, () -> findCraftingDisplayEntry(client, targetItem, effectiveCraftMode, requiresCraftingTable, clientWorld));
+        ClientQueryBatch lookups = new ClientQueryBatch();
+        ClientQueryBatch.Query<net.minecraft.world.level.Level> worldQuery = lookups.add(() -> {
+            net.minecraft.world.level.Level world = EntityCompatibilityBridge.getWorld(client.player);
+            if (world == null) {
+                world = client.level;
             }
+            return world;
+        });
+        ClientQueryBatch.Query<RecipeHolder<CraftingRecipe>> recipeQuery = lookups.add(
+            () -> findCraftingRecipe(client, targetItem, effectiveCraftMode, requiresCraftingTable));
+        ClientQueryBatch.Query<Object> displayQuery = lookups.add(() -> recipeQuery.get() == null
+            ? findCraftingDisplayEntry(client, targetItem, effectiveCraftMode, requiresCraftingTable, worldQuery.get())
+            : null);
+        try {
+            lookups.run(client);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             NodeExecutionCompletion.complete(future);
             return;
         }
+        net.minecraft.world.level.Level clientWorld = worldQuery.get();
+        Object clientRegistryManager = clientWorld != null ? clientWorld.registryAccess() : null;
+        RecipeHolder<CraftingRecipe> recipeEntry = recipeQuery.get();
+        Object displayEntry = displayQuery.get();
         CachedRecipe cachedRecipe = findCachedRecipe(client, targetItem, effectiveCraftMode);
         if (recipeEntry == null && displayEntry == null && cachedRecipe == null) {
             String message;
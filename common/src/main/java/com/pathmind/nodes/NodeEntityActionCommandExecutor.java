@@ -4,6 +4,7 @@ import static com.pathmind.util.PathmindI18n.tr;
 
 import com.mojang.blaze3d.platform.InputConstants;
 import com.pathmind.util.BlockSelection;
+import com.pathmind.util.BlockStateMatcher;
 import com.pathmind.util.HotbarSlotSynchronizer;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -224,6 +225,7 @@ final class NodeEntityActionCommandExecutor {
         int radius = (int) Math.ceil(Math.sqrt(reachSquared));
         BlockPos playerPos = client.player.blockPosition();
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        BlockStateMatcher matcher = BlockStateMatcher.compile(selections);
         BlockPos best = null;
         double bestDistance = Double.MAX_VALUE;
 
@@ -235,14 +237,7 @@ final class NodeEntityActionCommandExecutor {
                     if (state.isAir()) {
                         continue;
                     }
-                    boolean matches = false;
-                    for (BlockSelection selection : selections) {
-                        if (selection != null && selection.matches(state)) {
-                            matches = true;
-                            break;
-                        }
-                    }
-                    if (!matches) {
+                    if (!matcher.matches(state)) {
                         continue;
                     }
                     BlockPos candidate = mutable.immutable();
@@ -519,7 +514,7 @@ final class NodeEntityActionCommandExecutor {
 
         Direction finalBreakFace = breakFace;
         BlockPos finalTargetPos = targetPos;
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Break", () -> {
             try {
                 NodeClientRuntimeSupport.runOnClientThread(client, () -> {
                     owner.orientPlayerTowardsRuntimeTarget(client, owner.runtimeState().runtimeParameterData);
@@ -557,7 +552,7 @@ final class NodeEntityActionCommandExecutor {
                 Thread.currentThread().interrupt();
                 NodeExecutionCompletion.completeExceptionally(future, e);
             }
-        }, "Pathmind-Break").start();
+        });
     }
 
     private BreakTargeting resolveBreakTargeting(Minecraft client, BlockPos target) {
@@ -789,7 +784,7 @@ final class NodeEntityActionCommandExecutor {
 
         int tradesToExecute = owner.getConfiguredVillagerTradeCount();
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Trade", () -> {
             try {
                 int remainingTrades = tradesToExecute;
                 while (remainingTrades > 0) {
@@ -855,7 +850,7 @@ final class NodeEntityActionCommandExecutor {
                 Thread.currentThread().interrupt();
                 NodeExecutionCompletion.completeExceptionally(future, e);
             }
-        }, "Pathmind-Trade").start();
+        });
     }
 
     private void selectMerchantTrade(net.minecraft.client.Minecraft client,
@@ -1035,7 +1030,7 @@ final class NodeEntityActionCommandExecutor {
         int legacyCount = Math.max(1, owner.getIntParameter("Count", 1));
         double legacyIntervalSeconds = Math.max(0.0, owner.getDoubleParameter("IntervalSeconds", 0.0));
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Swing", () -> {
             boolean releaseAttackKey = false;
             try {
                 if (holdDurationEnabled && durationSeconds > 0.0) {
@@ -1109,7 +1104,7 @@ final class NodeEntityActionCommandExecutor {
                     }
                 }
             }
-        }, "Pathmind-Swing").start();
+        });
     }
 
     static Method resolveDoAttackMethod() {
@@ -61,6 +61,8 @@ final class NodeExecutionCoordinator {
                 } catch (Exception e) {
                     LOGGER.warn("Error executing node {}: {}", owner.getType(), e.getMessage(), e);
                     NodeExecutionCompletion.completeExceptionally(future, e);
+                } finally {
+                    SensorWorldSnapshot.invalidate();
                 }
             });
         } else {
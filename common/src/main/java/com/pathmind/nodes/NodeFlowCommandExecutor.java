@@ -170,35 +170,12 @@ final class NodeFlowCommandExecutor {
         ExecutionManager manager = ExecutionManager.getInstance();
         Integer executionId = manager.getCurrentExecutionId();
 
-        new Thread(() -> {
-            try {
-                String nodeId = owner.getId();
-                long waitMs = (long) (waitSeconds * 1000);
-
-                while (true) {
-                    if (owner.shouldAbortForRepeatUntilGuard()) {
-                        future.complete(null);
-                        return;
-                    }
-                    if (!manager.isExecutionActiveOnNode(executionId, nodeId)) {
-                        future.complete(null);
-                        return;
-                    }
-                    if (manager.isExecutionPaused()) {
-                        Thread.sleep(Node.CONTROL_POLL_INTERVAL_MS);
-                        continue;
-                    }
-                    if (manager.getExecutionNodeDuration(executionId) >= waitMs) {
-                        future.complete(null);
-                        return;
-                    }
-                    Thread.sleep(Node.CONTROL_POLL_INTERVAL_MS);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                future.completeExceptionally(e);
-            }
-        }, "Pathmind-Wait").start();
+        long waitMs = (long) (waitSeconds * 1000);
+        if (waitMs <= 0L) {
+            future.complete(null);
+            return;
+        }
+        NodeWaitScheduler.getInstance().scheduleDuration(owner, executionId, waitMs, future);
     }
     
     void executeControlRepeat(CompletableFuture<Void> future) {
@@ -251,34 +228,7 @@ final class NodeFlowCommandExecutor {
         ExecutionManager manager = ExecutionManager.getInstance();
         Integer executionId = manager.getCurrentExecutionId();
 
-        new Thread(() -> {
-            try {
-                String nodeId = owner.getId();
-                while (true) {
-                    if (owner.shouldAbortForRepeatUntilGuard()) {
-                        future.complete(null);
-                        return;
-                    }
-                    if (!manager.isExecutionActiveOnNode(executionId, nodeId)) {
-                        future.complete(null);
-                        return;
-                    }
-                    if (manager.isExecutionPaused()) {
-                        Thread.sleep(Node.CONTROL_POLL_INTERVAL_MS);
-                        continue;
-                    }
-                    if (owner.evaluateConditionFromParameters()) {
-                        owner.setNextOutputSocket(0);
-                        future.complete(null);
-                        return;
-                    }
-                    Thread.sleep(Node.CONTROL_POLL_INTERVAL_MS);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                future.completeExceptionally(e);
-            }
-        }, "Pathmind-Wait-Until").start();
+        NodeWaitScheduler.getInstance().scheduleCondition(owner, executionId, future);
     }
 
     void executeControlForever(CompletableFuture<Void> future) {
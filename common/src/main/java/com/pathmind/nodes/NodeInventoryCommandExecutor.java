@@ -144,7 +144,7 @@ final class NodeInventoryCommandExecutor {
             || (selectedSlot.slot.getItem() != null && count >= selectedSlot.slot.getItem().getCount());
         final int requestedCount = count;
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-DropItem", () -> {
             try {
                 if (interval <= 0.0) {
                     runOnClientThread(client, () -> {
@@ -167,7 +167,7 @@ final class NodeInventoryCommandExecutor {
                 Thread.currentThread().interrupt();
                 future.completeExceptionally(e);
             }
-        }, "Pathmind-DropItem").start();
+        });
     }
 
     void executeClickSlotCommand(CompletableFuture<Void> future) {
@@ -1023,7 +1023,7 @@ final class NodeInventoryCommandExecutor {
         double interval = Math.max(0.0, getDoubleParameter("IntervalSeconds", 0.0));
         int dropIterations = dropEntireStack ? 1 : requestedCount;
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Drop", () -> {
             try {
                 if (interval <= 0.0) {
                     runOnClientThread(client, () -> {
@@ -1045,7 +1045,7 @@ final class NodeInventoryCommandExecutor {
                 Thread.currentThread().interrupt();
                 future.completeExceptionally(e);
             }
-        }, "Pathmind-Drop").start();
+        });
     }
 
     private void dropSlotCount(net.minecraft.client.Minecraft client,
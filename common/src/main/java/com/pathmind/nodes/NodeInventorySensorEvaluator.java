@@ -114,6 +114,7 @@ final class NodeInventorySensorEvaluator {
     }
 
     boolean hasItemInInventory(String itemId) {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.player == null || itemId == null || itemId.isEmpty()) {
             return false;
@@ -128,7 +129,7 @@ final class NodeInventorySensorEvaluator {
                 continue;
             }
             Item item = BuiltInRegistries.ITEM.getOptional(identifier).orElse(null);
-            if (client.player.getInventory().countItem(item) > 0) {
+            if (countItem(snapshot, client, item) > 0) {
                 return true;
             }
         }
@@ -136,6 +137,7 @@ final class NodeInventorySensorEvaluator {
     }
 
     boolean hasItemAmountInInventory(String itemId, int requiredAmount) {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.player == null || itemId == null || itemId.isEmpty()) {
             return false;
@@ -151,13 +153,17 @@ final class NodeInventorySensorEvaluator {
                 continue;
             }
             Item item = BuiltInRegistries.ITEM.getOptional(identifier).orElse(null);
-            if (client.player.getInventory().countItem(item) >= needed) {
+            if (countItem(snapshot, client, item) >= needed) {
                 return true;
             }
         }
         return false;
     }
 
+    private static int countItem(SensorWorldSnapshot snapshot, Minecraft client, Item item) {
+        return snapshot != null ? snapshot.countItem(item) : client.player.getInventory().countItem(item);
+    }
+
     boolean stackMatchesAnyItem(ItemStack stack, List<String> itemIds) {
         if (stack == null || stack.isEmpty() || itemIds == null || itemIds.isEmpty()) {
             return false;
@@ -70,7 +70,7 @@ final class NodeMovementCommandExecutor {
             return;
         }
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Walk", () -> {
             boolean interrupted = false;
             try {
                 NodeClientRuntimeSupport.runOnClientThread(client, () -> {
@@ -159,7 +159,7 @@ final class NodeMovementCommandExecutor {
                     future.complete(null);
                 }
             }
-        }, "Pathmind-Walk").start();
+        });
     }
 
     void executeJumpCommand(CompletableFuture<Void> future) {
@@ -5,6 +5,9 @@ package com.pathmind.nodes;
  * Each parameter has a name, value, and type.
  */
 public class NodeParameter {
+    private static final int MAX_CACHED_DEFAULT_IDS = 4096;
+    private static final java.util.Map<String, String> DEFAULT_IDS = new java.util.concurrent.ConcurrentHashMap<>();
+
     private final String id;
     private final String name;
     private final ParameterType type;
@@ -50,7 +53,18 @@ public class NodeParameter {
     }
 
     public static String createDefaultId(String name) {
-        return normalizeId(null, name);
+        if (name == null) {
+            return "";
+        }
+        String cached = DEFAULT_IDS.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        String id = normalizeId(null, name).intern();
+        if (DEFAULT_IDS.size() < MAX_CACHED_DEFAULT_IDS) {
+            DEFAULT_IDS.put(name, id);
+        }
+        return id;
     }
 
     private static String normalizeId(String id, String fallbackName) {
@@ -58,7 +72,15 @@ public class NodeParameter {
         if (source == null) {
             return "";
         }
-        return source.toLowerCase(java.util.Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        String lower = source.toLowerCase(java.util.Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
     }
 
     public String getId() {
@@ -0,0 +1,19 @@
+package com.pathmind.nodes;
+
+import java.util.ArrayList;
+
+/**
+ * Parameter list that exposes a modification stamp, so indexed parameter lookups can tell when their slots are stale.
+ */
+final class NodeParameterList extends ArrayList<NodeParameter> {
+    int version() {
+        return modCount;
+    }
+
+    @Override
+    public NodeParameter set(int index, NodeParameter element) {
+        NodeParameter previous = super.set(index, element);
+        modCount++;
+        return previous;
+    }
+}
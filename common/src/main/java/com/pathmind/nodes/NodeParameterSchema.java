@@ -0,0 +1,75 @@
+package com.pathmind.nodes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Slot layout of the default parameters for a node type and mode. Each distinct normalized parameter id gets a
+ * fixed slot, so a node can resolve its parameters into an array once and answer name lookups without scanning.
+ */
+final class NodeParameterSchema {
+    private static final Map<SchemaKey, NodeParameterSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private final NodeType type;
+    private final NodeMode mode;
+    private final Map<String, Integer> slotsById;
+
+    private NodeParameterSchema(NodeType type, NodeMode mode, Map<String, Integer> slotsById) {
+        this.type = type;
+        this.mode = mode;
+        this.slotsById = slotsById;
+    }
+
+    static NodeParameterSchema of(NodeType type, NodeMode mode) {
+        return SCHEMAS.computeIfAbsent(new SchemaKey(type, mode), key -> build(key.type(), key.mode()));
+    }
+
+    private static NodeParameterSchema build(NodeType type, NodeMode mode) {
+        List<NodeParameter> defaults = new ArrayList<>();
+        NodeParameterDefaults.initialize(defaults, type, mode);
+        Map<String, Integer> slotsById = new HashMap<>();
+        for (NodeParameter parameter : defaults) {
+            slotsById.putIfAbsent(parameter.getId(), slotsById.size());
+            slotsById.putIfAbsent(NodeParameter.createDefaultId(parameter.getName()), slotsById.size());
+        }
+        return new NodeParameterSchema(type, mode, Map.copyOf(slotsById));
+    }
+
+    boolean describes(NodeType type, NodeMode mode) {
+        return this.type == type && this.mode == mode;
+    }
+
+    int size() {
+        return slotsById.size();
+    }
+
+    int slotOf(String normalizedId) {
+        Integer slot = normalizedId != null ? slotsById.get(normalizedId) : null;
+        return slot != null ? slot : -1;
+    }
+
+    /** Maps each slot to the first parameter whose id or normalized name matches it, in list order. */
+    NodeParameter[] resolve(List<NodeParameter> parameters) {
+        NodeParameter[] slots = new NodeParameter[size()];
+        for (NodeParameter parameter : parameters) {
+            if (parameter == null) {
+                continue;
+            }
+            int idSlot = slotOf(parameter.getId());
+            if (idSlot >= 0 && slots[idSlot] == null) {
+                slots[idSlot] = parameter;
+            }
+            int nameSlot = slotOf(NodeParameter.createDefaultId(parameter.getName()));
+            if (nameSlot >= 0 && slots[nameSlot] == null) {
+                slots[nameSlot] = parameter;
+            }
+        }
+        return slots;
+    }
+
+    private record SchemaKey(NodeType type, NodeMode mode) {
+    }
+}
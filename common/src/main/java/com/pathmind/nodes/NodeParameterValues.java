@@ -16,6 +16,7 @@ final class NodeParameterValues {
     private static final Set<String> HOTBAR_INVENTORY_SLOT_ITEM_KEYS = createParameterKeySet("Item", "Items", "Count", "Amount");
 
     private final Node owner;
+    private ResolvedSlots resolvedSlots;
 
     NodeParameterValues(Node owner) {
         this.owner = owner;
@@ -35,11 +36,26 @@ final class NodeParameterValues {
 
     NodeParameter getParameter(String name) {
         String normalizedId = NodeParameter.createDefaultId(name);
+        ResolvedSlots resolved = currentSlots();
+        int slot = resolved != null ? resolved.schema.slotOf(normalizedId) : -1;
+        if (slot >= 0) {
+            NodeParameter indexed = resolved.slots[slot];
+            if (indexed == null) {
+                return createMissingParameter(name);
+            }
+            if (indexed.getName().equals(name) || indexed.getId().equals(normalizedId)) {
+                return indexed;
+            }
+        }
         for (NodeParameter param : owner.getParameters()) {
             if (param.getName().equals(name) || param.getId().equals(normalizedId)) {
                 return param;
             }
         }
+        return createMissingParameter(name);
+    }
+
+    private NodeParameter createMissingParameter(String name) {
         if ("Duration".equals(name) && (owner.getType() == NodeType.WAIT || owner.getType() == NodeType.PARAM_DURATION)) {
             String defaultValue = owner.getType() == NodeType.PARAM_DURATION ? "" : "0.0";
             NodeParameter duration = new NodeParameter("Duration", ParameterType.DOUBLE, defaultValue);
@@ -49,6 +65,21 @@ final class NodeParameterValues {
         return null;
     }
 
+    private ResolvedSlots currentSlots() {
+        if (!(owner.getParameters() instanceof NodeParameterList parameters)) {
+            return null;
+        }
+        ResolvedSlots resolved = resolvedSlots;
+        if (resolved == null
+            || resolved.version != parameters.version()
+            || !resolved.schema.describes(owner.getType(), owner.getMode())) {
+            NodeParameterSchema schema = NodeParameterSchema.of(owner.getType(), owner.getMode());
+            resolved = new ResolvedSlots(schema, parameters.version(), schema.resolve(parameters));
+            resolvedSlots = resolved;
+        }
+        return resolved;
+    }
+
     void setParameterValueAndPropagate(String name, String value) {
         if (name == null || value == null) {
             return;
@@ -265,6 +296,9 @@ final class NodeParameterValues {
         return keySet;
     }
 
+    private record ResolvedSlots(NodeParameterSchema schema, int version, NodeParameter[] slots) {
+    }
+
     private static boolean isListIdentityParameter(Node node, String name) {
         if (node == null || !"List".equals(name)) {
             return false;
@@ -30,16 +30,28 @@ final class NodePlayerStateSensorEvaluator {
     }
 
     boolean isSwimming() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.swimming;
+        }
         Minecraft client = Minecraft.getInstance();
         return client != null && client.player != null && client.player.isSwimming();
     }
 
     boolean isInLava() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.inLava;
+        }
         Minecraft client = Minecraft.getInstance();
         return client != null && client.player != null && client.player.isInLava();
     }
 
     boolean isUnderwater() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.underWater;
+        }
         Minecraft client = Minecraft.getInstance();
         return client != null && client.player != null && client.player.isUnderWater();
     }
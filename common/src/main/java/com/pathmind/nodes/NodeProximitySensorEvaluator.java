@@ -1,6 +1,7 @@
 package com.pathmind.nodes;
 
 import com.pathmind.util.BlockSelection;
+import com.pathmind.util.BlockStateMatcher;
 import com.pathmind.util.EntityCompatibilityBridge;
 import com.pathmind.util.EntityStateOptions;
 import java.util.ArrayList;
@@ -8,6 +9,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -188,12 +190,13 @@ final class NodeProximitySensorEvaluator {
                 continue;
             }
             EntityType<?> entityType = BuiltInRegistries.ENTITY_TYPE.getOptional(identifier).orElse(null);
-            List<Entity> entities = world.getEntities(
-                client.player,
-                client.player.getBoundingBox().inflate(0.15),
-                entity -> entity.getType() == entityType && EntityStateOptions.matchesState(entity, state)
-            );
-            if (!entities.isEmpty()) {
+            AABB touchBox = client.player.getBoundingBox().inflate(0.15);
+            boolean touching = world instanceof ClientLevel clientLevel
+                ? EntitySpatialIndex.anyOfType(clientLevel, client.player, entityType, touchBox,
+                    entity -> EntityStateOptions.matchesState(entity, state))
+                : !world.getEntities(client.player, touchBox,
+                    entity -> entity.getType() == entityType && EntityStateOptions.matchesState(entity, state)).isEmpty();
+            if (touching) {
                 return true;
             }
         }
@@ -267,11 +270,6 @@ final class NodeProximitySensorEvaluator {
         if (selections == null || selections.isEmpty() || state == null) {
             return false;
         }
-        for (BlockSelection selection : selections) {
-            if (selection != null && selection.matches(state)) {
-                return true;
-            }
-        }
-        return false;
+        return BlockStateMatcher.compile(selections).matches(state);
     }
 }
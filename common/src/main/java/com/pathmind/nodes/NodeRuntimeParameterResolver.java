@@ -1632,7 +1632,7 @@ final class NodeRuntimeParameterResolver {
             return Optional.empty();
         }
         if (variable.getType() == NodeType.PARAM_BOOLEAN) {
-            return parseFlexibleBoolean(owner.getRuntimeValue(variable.getValues(), "toggle"));
+            return parseFlexibleBoolean(variable.getCells().text("toggle"));
         }
         return parseFlexibleBoolean(owner.formatRuntimeVariableValue(variable));
     }
@@ -1692,8 +1692,7 @@ final class NodeRuntimeParameterResolver {
         if (value == null) {
             return null;
         }
-        NumericExpressionParser parser = new NumericExpressionParser(value);
-        return parser.parse();
+        return NumericExpression.evaluate(value);
     }
 
     private static Integer resolveRelativeCoordinateValue(
@@ -1750,149 +1749,4 @@ final class NodeRuntimeParameterResolver {
         }
         return 0.0F;
     }
-
-    private static final class NumericExpressionParser {
-        private final String input;
-        private int index;
-
-        private NumericExpressionParser(String input) {
-            this.input = input == null ? "" : input;
-        }
-
-        private Double parse() {
-            skipWhitespace();
-            Double result = parseExpression();
-            if (result == null) {
-                return null;
-            }
-            skipWhitespace();
-            return index == input.length() ? result : null;
-        }
-
-        private Double parseExpression() {
-            Double value = parseTerm();
-            if (value == null) {
-                return null;
-            }
-            while (true) {
-                skipWhitespace();
-                if (consume('+')) {
-                    Double rhs = parseTerm();
-                    if (rhs == null) {
-                        return null;
-                    }
-                    value += rhs;
-                } else if (consume('-')) {
-                    Double rhs = parseTerm();
-                    if (rhs == null) {
-                        return null;
-                    }
-                    value -= rhs;
-                } else {
-                    return value;
-                }
-            }
-        }
-
-        private Double parseTerm() {
-            Double value = parsePower();
-            if (value == null) {
-                return null;
-            }
-            while (true) {
-                skipWhitespace();
-                if (consume('*')) {
-                    Double rhs = parsePower();
-                    if (rhs == null) {
-                        return null;
-                    }
-                    value *= rhs;
-                } else if (consume('/')) {
-                    Double rhs = parsePower();
-                    if (rhs == null || rhs == 0.0D) {
-                        return null;
-                    }
-                    value /= rhs;
-                } else {
-                    return value;
-                }
-            }
-        }
-
-        private Double parsePower() {
-            Double base = parseFactor();
-            if (base == null) {
-                return null;
-            }
-            skipWhitespace();
-            if (!consume('^')) {
-                return base;
-            }
-            Double exponent = parsePower();
-            if (exponent == null) {
-                return null;
-            }
-            return Math.pow(base, exponent);
-        }
-
-        private Double parseFactor() {
-            skipWhitespace();
-            if (consume('+')) {
-                return parseFactor();
-            }
-            if (consume('-')) {
-                Double value = parseFactor();
-                return value != null ? -value : null;
-            }
-            return parseNumber();
-        }
-
-        private Double parseNumber() {
-            skipWhitespace();
-            int start = index;
-            boolean sawDigit = false;
-            boolean sawDecimal = false;
-            while (index < input.length()) {
-                char current = input.charAt(index);
-                if (Character.isDigit(current)) {
-                    sawDigit = true;
-                    index++;
-                    continue;
-                }
-                if (current == '.') {
-                    if (sawDecimal) {
-                        break;
-                    }
-                    sawDecimal = true;
-                    index++;
-                    continue;
-                }
-                break;
-            }
-            if (!sawDigit) {
-                index = start;
-                return null;
-            }
-            try {
-                return Double.parseDouble(input.substring(start, index));
-            } catch (NumberFormatException e) {
-                index = start;
-                return null;
-            }
-        }
-
-        private void skipWhitespace() {
-            while (index < input.length() && Character.isWhitespace(input.charAt(index))) {
-                index++;
-            }
-        }
-
-        private boolean consume(char expected) {
-            if (index >= input.length() || input.charAt(index) != expected) {
-                return false;
-            }
-            index++;
-            return true;
-        }
-    }
 }
@@ -1,5 +1,6 @@
 package com.pathmind.nodes;
 
+import com.pathmind.execution.RuntimeValueCells;
 import java.util.Random;
 
 /**
@@ -24,6 +25,7 @@ final class NodeRuntimeState {
     StartLaunchMode startLaunchMode = StartLaunchMode.MANUAL;
     StartScreenTarget startScreenTarget = StartScreenTarget.ANY;
     String runtimeSourceNodeId;
+    RuntimeValueCells runtimeValueCells;
     Random randomGenerator;
     String randomSeedCache;
 
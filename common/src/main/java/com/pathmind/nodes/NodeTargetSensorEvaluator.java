@@ -20,6 +20,10 @@ final class NodeTargetSensorEvaluator {
     }
 
     Optional<BlockState> getTargetedBlockState() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.targetedBlockState);
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.level == null) {
             return Optional.empty();
@@ -44,6 +48,10 @@ final class NodeTargetSensorEvaluator {
     }
 
     Optional<Entity> getTargetedEntity() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.targetedEntity());
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null) {
             return Optional.empty();
@@ -60,6 +68,10 @@ final class NodeTargetSensorEvaluator {
     }
 
     Optional<Direction> getLookDirection() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return Optional.of(snapshot.lookDirection);
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.player == null) {
             return Optional.empty();
@@ -69,6 +81,10 @@ final class NodeTargetSensorEvaluator {
     }
 
     Optional<Integer> getCurrentHotbarSlot() {
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        if (snapshot != null) {
+            return snapshot.selectedSlot >= 0 ? Optional.of(snapshot.selectedSlot) : Optional.empty();
+        }
         Minecraft client = Minecraft.getInstance();
         if (client == null || client.player == null) {
             return Optional.empty();
@@ -81,11 +97,10 @@ final class NodeTargetSensorEvaluator {
     }
 
     Optional<Direction> getTargetedBlockFace() {
-        Minecraft client = Minecraft.getInstance();
-        if (client == null) {
-            return Optional.empty();
-        }
-        Optional<BlockHitResult> hit = getCurrentBlockHitResult();
+        SensorWorldSnapshot snapshot = SensorWorldSnapshot.current();
+        Optional<BlockHitResult> hit = snapshot != null
+            ? Optional.ofNullable(snapshot.targetedBlock)
+            : getCurrentBlockHitResult();
         if (hit.isEmpty()) {
             return Optional.empty();
         }
@@ -94,7 +109,10 @@ final class NodeTargetSensorEvaluator {
     }
 
     Optional<BlockHitResult> getCurrentBlockHitResult() {
-        Minecraft client = Minecraft.getInstance();
+        return findBlockHitResult(Minecraft.getInstance());
+    }
+
+    static Optional<BlockHitResult> findBlockHitResult(Minecraft client) {
         if (client == null || client.player == null || client.level == null) {
             return Optional.empty();
         }
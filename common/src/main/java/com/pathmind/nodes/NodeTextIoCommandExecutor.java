@@ -4,6 +4,7 @@ import static com.pathmind.util.PathmindI18n.tr;
 
 import com.pathmind.PathmindCommon;
 import com.pathmind.execution.ExecutionManager;
+import com.pathmind.execution.RuntimeValueCells;
 import com.pathmind.util.ClientMessageSender;
 import com.pathmind.util.PlayerInventoryBridge;
 import java.lang.reflect.Field;
@@ -724,6 +725,12 @@ final class NodeTextIoCommandExecutor {
             startNode = owner.getParentControl().getOwningStartNode();
         }
         ExecutionManager manager = ExecutionManager.getInstance();
+        if (raw.indexOf('$') >= 0) {
+            Double compiled = evaluateCompiledExpression(raw, manager, startNode);
+            if (compiled != null) {
+                return formatEvaluatedNumericText(compiled);
+            }
+        }
         StringBuilder output = new StringBuilder(raw.length());
         int index = 0;
         boolean containsStructuredReplacement = false;
@@ -760,6 +767,35 @@ final class NodeTextIoCommandExecutor {
         return resolved;
     }
 
+    /**
+     * Evaluates an arithmetic template such as {@code $x * 2 + 1} from its compiled form, binding each reference to
+     * the variable the textual substitution would pick. Returns null whenever a reference does not resolve to a plain
+     * number, leaving the substitution path to produce exactly what it always has.
+     */
+    private Double evaluateCompiledExpression(String raw, ExecutionManager manager, Node startNode) {
+        NumericExpression expression = NumericExpression.compile(raw);
+        if (expression == null || !expression.hasVariables()) {
+            return null;
+        }
+        List<NumericExpression.VariableReference> references = expression.variables();
+        double[] values = new double[references.size()];
+        for (int i = 0; i < values.length; i++) {
+            NumericExpression.VariableReference reference = references.get(i);
+            RuntimeVariableInlineMatch match = findInlineRuntimeVariableReference(raw, reference.start(), manager, startNode);
+            if (match == null || match.endIndex != reference.end()) {
+                return null;
+            }
+            Double value = match.variable.getType() == NodeType.PARAM_AMOUNT
+                ? match.variable.getCells().number("amount")
+                : NumericExpression.parseNumberLiteral(formatRuntimeVariableValue(match.variable));
+            if (value == null) {
+                return null;
+            }
+            values[i] = value;
+        }
+        return expression.evaluate(values);
+    }
+
     private static String formatEvaluatedNumericText(double value) {
         if (!Double.isFinite(value)) {
             return Double.toString(value);
@@ -877,120 +913,121 @@ final class NodeTextIoCommandExecutor {
         if (valueType == NodeType.LIST_ITEM) {
             return formatListItemRuntimeVariable(values);
         }
+        RuntimeValueCells cells = variable.getCells();
         switch (valueType) {
             case PARAM_BLOCK:
             case PARAM_PLACE_TARGET:
-                return getRuntimeValue(values, "block");
+                return cells.text("block");
             case PARAM_ITEM:
             case PARAM_VILLAGER_TRADE:
-                return getRuntimeValue(values, "item");
+                return cells.text("item");
             case PARAM_ENTITY:
-                return getRuntimeValue(values, "entity");
+                return cells.text("entity");
             case PARAM_PLAYER:
-                return getRuntimeValue(values, "player");
+                return cells.text("player");
             case PARAM_WAYPOINT:
-                return getRuntimeValue(values, "waypoint");
+                return cells.text("waypoint");
             case PARAM_SCHEMATIC:
-                return getRuntimeValue(values, "schematic");
+                return cells.text("schematic");
             case PARAM_INVENTORY_SLOT:
-                return getRuntimeValue(values, "slot");
+                return cells.text("slot");
             case SENSOR_CURRENT_HAND:
-                return getRuntimeValue(values, "slot");
+                return cells.text("slot");
             case SENSOR_IS_ON_GROUND:
-                return getRuntimeValue(values, "distance");
+                return cells.text("distance");
             case PARAM_DURATION:
-                return getRuntimeValue(values, "duration");
+                return cells.text("duration");
             case PARAM_RANGE:
             case PARAM_CLOSEST:
-                return getRuntimeValue(values, "range");
+                return cells.text("range");
             case PARAM_DISTANCE:
-                return getRuntimeValue(values, "distance");
+                return cells.text("distance");
             case PARAM_BLOCK_FACE: {
-                String face = getRuntimeValue(values, "face");
+                String face = cells.text("face");
                 if (!face.isEmpty()) {
                     return face;
                 }
-                face = getRuntimeValue(values, "side");
+                face = cells.text("side");
                 if (!face.isEmpty()) {
                     return face;
                 }
-                return getRuntimeValue(values, "direction");
+                return cells.text("direction");
             }
             case PARAM_DIRECTION: {
-                String yaw = getRuntimeValue(values, "yaw");
-                String pitch = getRuntimeValue(values, "pitch");
+                String yaw = cells.text("yaw");
+                String pitch = cells.text("pitch");
                 if (!yaw.isEmpty() && !pitch.isEmpty()) {
                     return yaw + " " + pitch;
                 }
-                String direction = getRuntimeValue(values, "direction");
+                String direction = cells.text("direction");
                 if (!direction.isEmpty()) {
                     return direction;
                 }
-                direction = getRuntimeValue(values, "side");
+                direction = cells.text("side");
                 if (!direction.isEmpty()) {
                     return direction;
                 }
-                return getRuntimeValue(values, "face");
+                return cells.text("face");
             }
             case PARAM_AMOUNT:
-                return getRuntimeValue(values, "amount");
+                return cells.text("amount");
             case OPERATOR_MOD: {
-                String value = getRuntimeValue(values, "value");
+                String value = cells.text("value");
                 if (!value.isEmpty()) {
                     return value;
                 }
-                return getRuntimeValue(values, "amount");
+                return cells.text("amount");
             }
             case LIST_LENGTH: {
-                String length = getRuntimeValue(values, "count");
+                String length = cells.text("count");
                 if (!length.isEmpty()) {
                     return length;
                 }
-                length = getRuntimeValue(values, "value");
+                length = cells.text("value");
                 if (!length.isEmpty()) {
                     return length;
                 }
-                return getRuntimeValue(values, "amount");
+                return cells.text("amount");
             }
             case SENSOR_SLOT_ITEM_COUNT:
-                return getRuntimeValue(values, "amount");
+                return cells.text("amount");
             case OPERATOR_RANDOM:
-                String value = getRuntimeValue(values, "value");
+                String value = cells.text("value");
                 if (!value.isEmpty()) {
                     return value;
                 }
-                return getRuntimeValue(values, "amount");
+                return cells.text("amount");
             case PARAM_BOOLEAN:
-                return getRuntimeValue(values, "toggle");
+                return cells.text("toggle");
             case PARAM_HAND:
-                return getRuntimeValue(values, "hand");
+                return cells.text("hand");
             case SENSOR_CURRENT_GUI:
             case PARAM_GUI:
-                return getRuntimeValue(values, "gui");
+                return cells.text("gui");
             case PARAM_COORDINATE:
-                return formatCoordinateValues(values);
+                return formatCoordinateValues(cells);
             case PARAM_ROTATION:
-                return formatRotationValues(values);
+                return formatRotationValues(cells);
             case VARIABLE:
-                return getRuntimeValue(values, "variable");
+                return cells.text("variable");
             case SENSOR_POSITION_OF:
                 if (owner.isSensorPositionSingleAxisMode()) {
-                    String amount = getRuntimeValue(values, "amount");
+                    String amount = cells.text("amount");
                     if (!amount.isEmpty()) {
                         return amount;
                     }
-                    amount = getRuntimeValue(values, "value");
+                    amount = cells.text("value");
                     if (!amount.isEmpty()) {
                         return amount;
                     }
                 }
-                return formatCoordinateValues(values);
+                return formatCoordinateValues(cells);
             case SENSOR_DISTANCE_BETWEEN:
-                return getRuntimeValue(values, "distance");
+                return cells.text("distance");
             case SENSOR_TARGETED_BLOCK: {
-                String block = getRuntimeValue(values, "block");
+                String block = cells.text("block");
                 if (!block.isEmpty()) {
-                    String state = getRuntimeValue(values, "state");
+                    String state = cells.text("state");
                     if (!state.isEmpty()) {
                         return block + "[" + state + "]";
                     }
@@ -999,9 +1036,9 @@ final class NodeTextIoCommandExecutor {
                 break;
             }
             case SENSOR_TARGETED_ENTITY: {
-                String entity = getRuntimeValue(values, "entity");
+                String entity = cells.text("entity");
                 if (!entity.isEmpty()) {
-                    String state = getRuntimeValue(values, "state");
+                    String state = cells.text("state");
                     if (!state.isEmpty()) {
                         return entity + "[" + state + "]";
                     }
@@ -1010,35 +1047,35 @@ final class NodeTextIoCommandExecutor {
                 break;
             }
             case SENSOR_LOOK_DIRECTION: {
-                String yaw = getRuntimeValue(values, "yaw");
-                String pitch = getRuntimeValue(values, "pitch");
+                String yaw = cells.text("yaw");
+                String pitch = cells.text("pitch");
                 if (!yaw.isEmpty() && !pitch.isEmpty()) {
                     return yaw + " " + pitch;
                 }
-                String amount = getRuntimeValue(values, "amount");
+                String amount = cells.text("amount");
                 if (!amount.isEmpty()) {
                     return amount;
                 }
-                String direction = getRuntimeValue(values, "direction");
+                String direction = cells.text("direction");
                 if (!direction.isEmpty()) {
                     return direction;
                 }
-                direction = getRuntimeValue(values, "side");
+                direction = cells.text("side");
                 if (!direction.isEmpty()) {
                     return direction;
                 }
-                return getRuntimeValue(values, "face");
+                return cells.text("face");
             }
             case SENSOR_TARGETED_BLOCK_FACE: {
-                String side = getRuntimeValue(values, "side");
+                String side = cells.text("side");
                 if (!side.isEmpty()) {
                     return side;
                 }
-                side = getRuntimeValue(values, "face");
+                side = cells.text("face");
                 if (!side.isEmpty()) {
                     return side;
                 }
-                return getRuntimeValue(values, "text");
+                return cells.text("text");
             }
             default:
                 break;
@@ -1075,6 +1112,25 @@ final class NodeTextIoCommandExecutor {
         return x + " " + y + " " + z;
     }
 
+    private static String formatCoordinateValues(RuntimeValueCells cells) {
+        String x = cells.text("x");
+        String y = cells.text("y");
+        String z = cells.text("z");
+        if (x.isEmpty() || y.isEmpty() || z.isEmpty()) {
+            return "";
+        }
+        return x + " " + y + " " + z;
+    }
+
+    private static String formatRotationValues(RuntimeValueCells cells) {
+        String yaw = cells.text("yaw");
+        String pitch = cells.text("pitch");
+        if (yaw.isEmpty() || pitch.isEmpty()) {
+            return "";
+        }
+        return yaw + " " + pitch;
+    }
+
     String formatRotationValues(Map<String, String> values) {
         String yaw = getRuntimeValue(values, "yaw");
         String pitch = getRuntimeValue(values, "pitch");
@@ -13,9 +13,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import net.minecraft.client.player.AbstractClientPlayer;
 import net.minecraft.core.BlockPos;
@@ -350,26 +353,17 @@ final class NodeVariableListCommandExecutor {
                 NodeExecutionCompletion.fail(owner, client, future, tr("pathmind.error.removeFromListRequiresValue"));
                 return;
             }
-            int removedCount = 0;
-            while (true) {
-                int matchedIndex = findListEntryIndexByValue(runtimeList, valueNode, future);
-                if (future.isDone()) {
-                    return;
-                }
-                if (matchedIndex < 0) {
-                    break;
-                }
-                removed = runtimeList.removeEntry(matchedIndex);
-                if (removed == null) {
-                    break;
-                }
-                removedCount++;
+            Set<String> matchedEntries = findListEntriesByValue(runtimeList, valueNode, future);
+            if (future.isDone()) {
+                return;
             }
-            if (removedCount <= 0) {
+            if (runtimeList.removeEntries(matchedEntries) <= 0) {
                 NodeExecutionCompletion.fail(owner, client, future,
                     tr("pathmind.error.noMatchingEntryInList", listName.trim()));
                 return;
             }
+            // Matches are collected in list order, so this is the first occurrence that was removed.
+            removed = matchedEntries.iterator().next();
         }
 
         if (removed == null) {
@@ -683,7 +677,8 @@ final class NodeVariableListCommandExecutor {
         }
         double renderDistance = getCurrentRenderDistanceBlocks(client);
         AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-        return client.level.getEntities(
+        return EntitySpatialIndex.entities(
+            client.level,
             client.player,
             searchBox,
             entity -> entity != null
@@ -698,7 +693,8 @@ final class NodeVariableListCommandExecutor {
         }
         double searchRadius = Math.max(1.0, range);
         AABB searchBox = client.player.getBoundingBox().inflate(searchRadius);
-        return client.level.getEntities(
+        return EntitySpatialIndex.entities(
+            client.level,
             client.player,
             searchBox,
             entity -> entity != null
@@ -713,12 +709,13 @@ final class NodeVariableListCommandExecutor {
         }
         double renderDistance = getCurrentRenderDistanceBlocks(client);
         AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-        return client.level.getEntities(
+        return EntitySpatialIndex.entitiesOfType(
+            client.level,
             client.player,
+            entityType,
             searchBox,
             entity -> entity != null
                 && entity.isAlive()
-                && entity.getType() == entityType
                 && EntityStateOptions.matchesState(entity, state)
         );
     }
@@ -730,12 +727,13 @@ final class NodeVariableListCommandExecutor {
         }
         double searchRadius = Math.max(1.0, range);
         AABB searchBox = client.player.getBoundingBox().inflate(searchRadius);
-        return client.level.getEntities(
+        return EntitySpatialIndex.entitiesOfType(
+            client.level,
             client.player,
+            entityType,
             searchBox,
             entity -> entity != null
                 && entity.isAlive()
-                && entity.getType() == entityType
                 && EntityStateOptions.matchesState(entity, state)
         );
     }
@@ -746,7 +744,8 @@ final class NodeVariableListCommandExecutor {
         }
         double renderDistance = getCurrentRenderDistanceBlocks(client);
         AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-        return client.level.getEntitiesOfClass(
+        return EntitySpatialIndex.entitiesOfClass(
+            client.level,
             ItemEntity.class,
             searchBox,
             entity -> entity != null
@@ -762,7 +761,8 @@ final class NodeVariableListCommandExecutor {
         }
         double searchRadius = Math.max(1.0, range);
         AABB searchBox = client.player.getBoundingBox().inflate(searchRadius);
-        return client.level.getEntitiesOfClass(
+        return EntitySpatialIndex.entitiesOfClass(
+            client.level,
             ItemEntity.class,
             searchBox,
             entity -> entity != null
@@ -943,42 +943,58 @@ final class NodeVariableListCommandExecutor {
         }
     }
 
-    private int findListEntryIndexByValue(ExecutionManager.RuntimeList list, Node valueNode, CompletableFuture<Void> future) {
+    /**
+     * Collects the distinct entry texts that compare equal to the value, in list order. Equal texts build equal entry
+     * nodes, so each distinct text is compared once against one snapshot of the list instead of rescanning after every
+     * removal.
+     */
+    private Set<String> findListEntriesByValue(ExecutionManager.RuntimeList list, Node valueNode, CompletableFuture<Void> future) {
+        Set<String> matched = new LinkedHashSet<>();
         if (list == null || valueNode == null) {
-            return -1;
+            return matched;
         }
         Node comparisonNode = valueNode;
         if (comparisonNode.getType() == NodeType.VARIABLE) {
             comparisonNode = owner.resolveVariableValueNode(comparisonNode, 0, future);
             if (comparisonNode == null) {
-                return -1;
+                return matched;
             }
         }
-        for (int i = 0; i < list.size(); i++) {
-            Node entryNode = buildListEntrySnapshot(list, i + 1, false, null, future);
+        Set<String> compared = new HashSet<>();
+        for (String entry : list.getEntries()) {
+            if (!compared.add(entry)) {
+                continue;
+            }
+            Node entryNode = buildListEntryNode(list.getElementType(), entry, null);
             if (entryNode == null) {
                 continue;
             }
             Optional<Boolean> equals = owner.compareParameterNodes(entryNode, comparisonNode);
             if (equals.orElse(false)) {
-                return i;
+                matched.add(entry);
             }
         }
-        return -1;
+        return matched;
     }
 
     private Node buildListEntrySnapshot(ExecutionManager.RuntimeList list, int index, boolean reportErrors,
                                         RuntimeParameterData data, CompletableFuture<Void> future) {
-        if (list == null || index <= 0 || index > list.size()) {
+        if (list == null) {
+            return null;
+        }
+        List<String> entries = list.getEntries();
+        if (index <= 0 || index > entries.size()) {
             return null;
         }
-        String entry = list.getEntry(index - 1);
+        return buildListEntryNode(list.getElementType(), entries.get(index - 1), data);
+    }
+
+    private Node buildListEntryNode(NodeType elementType, String entry, RuntimeParameterData data) {
         if (entry == null || entry.isEmpty()) {
             return null;
         }
 
         if (entry.startsWith(Node.LIST_ENTRY_SERIALIZED_PREFIX)) {
-            NodeType elementType = list.getElementType();
             if (elementType == null) {
                 return null;
             }
@@ -1005,7 +1021,6 @@ final class NodeVariableListCommandExecutor {
         }
 
         net.minecraft.client.Minecraft client = net.minecraft.client.Minecraft.getInstance();
-        NodeType elementType = list.getElementType();
         if (elementType == NodeType.PARAM_ENTITY || elementType == NodeType.PARAM_PLAYER || elementType == NodeType.PARAM_ITEM) {
             Node snapshot = new Node(elementType, 0, 0);
             snapshot.setSocketsHidden(true);
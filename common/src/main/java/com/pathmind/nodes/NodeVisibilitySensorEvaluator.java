@@ -1,7 +1,6 @@
 package com.pathmind.nodes;
 
 import com.pathmind.util.BlockSelection;
-import com.pathmind.util.CameraCompatibilityBridge;
 import com.pathmind.util.EntityStateOptions;
 import com.pathmind.util.GameProfileCompatibilityBridge;
 import java.util.List;
@@ -12,12 +11,10 @@ import net.minecraft.client.player.AbstractClientPlayer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.Identifier;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.Item;
-import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
@@ -27,7 +24,6 @@ import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 
 final class NodeVisibilitySensorEvaluator {
-    private static final double BLOCK_SAMPLE_INSET = 0.08D;
     private final Node owner;
 
     NodeVisibilitySensorEvaluator(Node owner) {
@@ -103,14 +99,14 @@ final class NodeVisibilitySensorEvaluator {
         if (Node.isAnySelectionValue(entityId)) {
             double renderDistance = Math.max(8.0, client.options.renderDistance().get() * 4.0);
             AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-            List<Entity> matches = client.level.getEntities(
+            return EntitySpatialIndex.any(
+                client.level,
                 client.player,
                 searchBox,
                 entity -> entity != null
                     && entity.isAlive()
                     && EntityStateOptions.matchesState(entity, state)
             );
-            return !matches.isEmpty();
         }
         for (String candidateId : owner.splitMultiValueList(entityId)) {
             String sanitized = owner.sanitizeResourceId(candidateId);
@@ -262,29 +258,7 @@ final class NodeVisibilitySensorEvaluator {
             }
         }
 
-        BlockPos playerPos = client.player.blockPosition();
-        int viewDistance = client.options.renderDistance().get();
-        int horizontalRadius = Mth.clamp(viewDistance * 4, 8, 48);
-        int verticalRadius = Mth.clamp(viewDistance * 2, 6, 32);
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-
-        for (int dx = -horizontalRadius; dx <= horizontalRadius; dx++) {
-            for (int dy = -verticalRadius; dy <= verticalRadius; dy++) {
-                for (int dz = -horizontalRadius; dz <= horizontalRadius; dz++) {
-                    mutable.set(playerPos.getX() + dx, playerPos.getY() + dy, playerPos.getZ() + dz);
-                    BlockState state = client.level.getBlockState(mutable);
-                    boolean matches = selection != null ? selection.matches(state) : state.is(block);
-                    if (matches && isBlockVisible(client, mutable, false)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean isBlockVisible(Minecraft client, BlockPos pos) {
-        return isBlockVisible(client, pos, true);
+        return BlockVisibilityQuery.isAnyVisible(client, selectionsFor(block, selection), false);
     }
 
     private boolean isBlockVisible(Minecraft client, Block block) {
@@ -312,97 +286,21 @@ final class NodeVisibilitySensorEvaluator {
             BlockPos hitPos = blockHit.getBlockPos();
             BlockState state = client.level.getBlockState(hitPos);
             boolean matches = selection != null ? selection.matches(state) : state.is(block);
-            if (matches && isBlockVisible(client, hitPos, true)) {
+            if (matches && BlockVisibilityQuery.isBlockVisible(client, hitPos, true)) {
                 return true;
             }
         }
 
-        BlockPos playerPos = client.player.blockPosition();
-        int viewDistance = client.options.renderDistance().get();
-        int horizontalRadius = Mth.clamp(viewDistance * 4, 8, 48);
-        int verticalRadius = Mth.clamp(viewDistance * 2, 6, 32);
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-
-        for (int dx = -horizontalRadius; dx <= horizontalRadius; dx++) {
-            for (int dy = -verticalRadius; dy <= verticalRadius; dy++) {
-                for (int dz = -horizontalRadius; dz <= horizontalRadius; dz++) {
-                    mutable.set(playerPos.getX() + dx, playerPos.getY() + dy, playerPos.getZ() + dz);
-                    BlockState state = client.level.getBlockState(mutable);
-                    boolean matches = selection != null ? selection.matches(state) : state.is(block);
-                    if (matches && isBlockVisible(client, mutable, true)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return BlockVisibilityQuery.isAnyVisible(client, selectionsFor(block, selection), true);
     }
 
-    private boolean isBlockVisible(Minecraft client, BlockPos pos, boolean requireInFieldOfView) {
-        if (client == null || client.player == null || client.level == null) {
-            return false;
-        }
-        for (Vec3 target : getBlockVisibilitySamplePoints(pos)) {
-            if (isBlockSampleVisible(client, pos, target, requireInFieldOfView)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean isBlockSampleVisible(Minecraft client, BlockPos pos, Vec3 target, boolean requireInFieldOfView) {
-        if (client == null || client.player == null || client.level == null || pos == null || target == null) {
-            return false;
-        }
-        if (requireInFieldOfView && !isPointInPlayerFieldOfView(client, target)) {
-            return false;
+    private static List<BlockSelection> selectionsFor(Block block, BlockSelection selection) {
+        if (selection != null) {
+            return List.of(selection);
         }
-        Vec3 cameraPos = CameraCompatibilityBridge.getPos(client.gameRenderer.getMainCamera());
-        ClipContext context = new ClipContext(
-            cameraPos,
-            target,
-            ClipContext.Block.COLLIDER,
-            ClipContext.Fluid.NONE,
-            client.player
-        );
-        BlockHitResult hit = client.level.clip(context);
-        if (hit == null) {
-            return false;
-        }
-        if (hit.getType() == HitResult.Type.MISS) {
-            return true;
-        }
-        return hit.getType() == HitResult.Type.BLOCK && hit.getBlockPos().equals(pos);
-    }
-
-    private List<Vec3> getBlockVisibilitySamplePoints(BlockPos pos) {
-        double minX = pos.getX() + BLOCK_SAMPLE_INSET;
-        double minY = pos.getY() + BLOCK_SAMPLE_INSET;
-        double minZ = pos.getZ() + BLOCK_SAMPLE_INSET;
-        double maxX = pos.getX() + 1.0D - BLOCK_SAMPLE_INSET;
-        double maxY = pos.getY() + 1.0D - BLOCK_SAMPLE_INSET;
-        double maxZ = pos.getZ() + 1.0D - BLOCK_SAMPLE_INSET;
-        double midX = (minX + maxX) * 0.5D;
-        double midY = (minY + maxY) * 0.5D;
-        double midZ = (minZ + maxZ) * 0.5D;
-
-        return List.of(
-            new Vec3(midX, midY, midZ),
-            new Vec3(midX, maxY, midZ),
-            new Vec3(midX, minY, midZ),
-            new Vec3(minX, midY, midZ),
-            new Vec3(maxX, midY, midZ),
-            new Vec3(midX, midY, minZ),
-            new Vec3(midX, midY, maxZ),
-            new Vec3(minX, maxY, minZ),
-            new Vec3(minX, maxY, maxZ),
-            new Vec3(maxX, maxY, minZ),
-            new Vec3(maxX, maxY, maxZ),
-            new Vec3(minX, minY, minZ),
-            new Vec3(minX, minY, maxZ),
-            new Vec3(maxX, minY, minZ),
-            new Vec3(maxX, minY, maxZ)
-        );
+        return BlockSelection.parse(BuiltInRegistries.BLOCK.getKey(block).toString())
+            .map(List::of)
+            .orElse(List.of());
     }
 
     private boolean isItemRendered(Minecraft client, Item item) {
@@ -424,13 +322,13 @@ final class NodeVisibilitySensorEvaluator {
 
         double renderDistance = Math.max(8.0, client.options.renderDistance().get() * 4.0);
         AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-        List<ItemEntity> candidates = client.level.getEntitiesOfClass(
+        return EntitySpatialIndex.anyOfClass(
+            client.level,
             ItemEntity.class,
             searchBox,
             entity -> entity != null && !entity.isRemoved() && !entity.getItem().isEmpty()
                 && entity.getItem().is(item) && client.player.hasLineOfSight(entity)
         );
-        return !candidates.isEmpty();
     }
 
     private boolean isItemVisible(Minecraft client, Item item) {
@@ -439,7 +337,8 @@ final class NodeVisibilitySensorEvaluator {
         }
         double renderDistance = Math.max(8.0, client.options.renderDistance().get() * 4.0);
         AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-        List<ItemEntity> candidates = client.level.getEntitiesOfClass(
+        return EntitySpatialIndex.anyOfClass(
+            client.level,
             ItemEntity.class,
             searchBox,
             entity -> entity != null
@@ -449,7 +348,6 @@ final class NodeVisibilitySensorEvaluator {
                 && client.player.hasLineOfSight(entity)
                 && isEntityInPlayerFieldOfView(client, entity)
         );
-        return !candidates.isEmpty();
     }
 
     private boolean isEntityRendered(Minecraft client, EntityType<?> entityType, String state) {
@@ -467,15 +365,15 @@ final class NodeVisibilitySensorEvaluator {
 
         double renderDistance = Math.max(8.0, client.options.renderDistance().get() * 4.0);
         AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-        List<Entity> matches = client.level.getEntities(
+        return EntitySpatialIndex.anyOfType(
+            client.level,
             client.player,
+            entityType,
             searchBox,
             entity -> entity != null
                 && entity.isAlive()
-                && entity.getType() == entityType
                 && EntityStateOptions.matchesState(entity, state)
         );
-        return !matches.isEmpty();
     }
 
     private boolean isEntityVisible(Minecraft client, EntityType<?> entityType, String state) {
@@ -495,17 +393,17 @@ final class NodeVisibilitySensorEvaluator {
 
         double renderDistance = Math.max(8.0, client.options.renderDistance().get() * 4.0);
         AABB searchBox = client.player.getBoundingBox().inflate(renderDistance);
-        List<Entity> matches = client.level.getEntities(
+        return EntitySpatialIndex.anyOfType(
+            client.level,
             client.player,
+            entityType,
             searchBox,
             entity -> entity != null
                 && entity.isAlive()
-                && entity.getType() == entityType
                 && EntityStateOptions.matchesState(entity, state)
                 && client.player.hasLineOfSight(entity)
                 && isEntityInPlayerFieldOfView(client, entity)
         );
-        return !matches.isEmpty();
     }
 
     private boolean isPlayerRendered(Minecraft client, String playerName) {
@@ -592,46 +490,7 @@ final class NodeVisibilitySensorEvaluator {
     }
 
     private boolean isPointInPlayerFieldOfView(Minecraft client, Vec3 target) {
-        if (client == null || client.player == null || target == null) {
-            return false;
-        }
-        Vec3 eyePos = client.player.getEyePosition();
-        Vec3 toTarget = target.subtract(eyePos);
-        if (toTarget.lengthSqr() <= 1.0E-6D) {
-            return true;
-        }
-        Vec3 forward = client.player.getViewVector(1.0F);
-        if (forward.lengthSqr() <= 1.0E-6D) {
-            return false;
-        }
-        Vec3 forwardNorm = forward.normalize();
-        Vec3 worldUp = new Vec3(0.0, 1.0, 0.0);
-        Vec3 right = forwardNorm.cross(worldUp);
-        if (right.lengthSqr() <= 1.0E-6D) {
-            right = new Vec3(1.0, 0.0, 0.0);
-        } else {
-            right = right.normalize();
-        }
-        Vec3 up = right.cross(forwardNorm).normalize();
-
-        Vec3 targetNorm = toTarget.normalize();
-        double z = targetNorm.dot(forwardNorm);
-        if (z <= 0.0) {
-            return false;
-        }
-        double x = targetNorm.dot(right);
-        double y = targetNorm.dot(up);
-
-        int width = client.getWindow() != null ? client.getWindow().getWidth() : 0;
-        int height = client.getWindow() != null ? client.getWindow().getHeight() : 0;
-        double aspect = (width > 0 && height > 0) ? (double) width / (double) height : (16.0 / 9.0);
-
-        double verticalFovDegrees = Mth.clamp(client.options.fov().get(), 30.0, 170.0);
-        double verticalHalfRadians = Math.toRadians(verticalFovDegrees / 2.0);
-        double horizontalHalfRadians = Math.atan(Math.tan(verticalHalfRadians) * aspect);
-
-        double horizontalAngle = Math.atan2(Math.abs(x), z);
-        double verticalAngle = Math.atan2(Math.abs(y), z);
-        return horizontalAngle <= horizontalHalfRadians && verticalAngle <= verticalHalfRadians;
+        PlayerViewCone view = PlayerViewCone.of(client);
+        return view != null && view.contains(target);
     }
 }
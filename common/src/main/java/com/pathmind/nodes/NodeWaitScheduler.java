@@ -0,0 +1,146 @@
+package com.pathmind.nodes;
+
+import com.pathmind.execution.ExecutionManager;
+import net.minecraft.client.Minecraft;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Completes Wait and Wait Until nodes from the client tick instead of one polling thread per node.
+ * Durations sit in a hashed timer wheel keyed by tick; conditions are re-evaluated once per tick.
+ */
+public final class NodeWaitScheduler {
+    private static final NodeWaitScheduler INSTANCE = new NodeWaitScheduler();
+    private static final long TICK_MS = 50L;
+    private static final int WHEEL_SLOTS = 256;
+    private static final Executor COMPLETION_EXECUTOR = ForkJoinPool.commonPool();
+
+    private final ConcurrentLinkedQueue<PendingWait> incoming = new ConcurrentLinkedQueue<>();
+    private final List<PendingWait> pending = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final List<PendingWait>[] wheel = new List[WHEEL_SLOTS];
+    private long currentTick;
+
+    private NodeWaitScheduler() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+    }
+
+    public static NodeWaitScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    void scheduleDuration(Node owner, Integer executionId, long waitMs, CompletableFuture<Void> future) {
+        incoming.add(new PendingWait(owner, executionId, waitMs, false, future));
+    }
+
+    void scheduleCondition(Node owner, Integer executionId, CompletableFuture<Void> future) {
+        incoming.add(new PendingWait(owner, executionId, 0L, true, future));
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size() + incoming.size();
+    }
+
+    public synchronized void tick(Minecraft client) {
+        ExecutionManager manager = ExecutionManager.getInstance();
+        currentTick++;
+        PendingWait added;
+        while ((added = incoming.poll()) != null) {
+            pending.add(added);
+            if (!added.condition) {
+                schedule(added, added.waitMs - manager.getExecutionNodeDuration(added.executionId));
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        boolean paused = manager.isExecutionPaused();
+        Iterator<PendingWait> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            PendingWait wait = iterator.next();
+            if (wait.future.isDone()) {
+                iterator.remove();
+                continue;
+            }
+            try {
+                if (wait.owner.shouldAbortForRepeatUntilGuard()
+                    || !manager.isExecutionActiveOnNode(wait.executionId, wait.owner.getId())) {
+                    complete(wait);
+                    iterator.remove();
+                } else if (!paused && wait.condition && wait.owner.evaluateConditionFromParameters()) {
+                    wait.owner.setNextOutputSocket(0);
+                    complete(wait);
+                    iterator.remove();
+                }
+            } catch (RuntimeException e) {
+                COMPLETION_EXECUTOR.execute(() -> wait.future.completeExceptionally(e));
+                iterator.remove();
+            }
+        }
+
+        List<PendingWait> slot = wheel[(int) (currentTick % WHEEL_SLOTS)];
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<PendingWait> due = new ArrayList<>(slot);
+        slot.clear();
+        for (PendingWait wait : due) {
+            if (wait.future.isDone()) {
+                continue;
+            }
+            if (wait.rounds > 0) {
+                wait.rounds--;
+                slot.add(wait);
+                continue;
+            }
+            if (paused) {
+                schedule(wait, TICK_MS);
+                continue;
+            }
+            long remainingMs = wait.waitMs - manager.getExecutionNodeDuration(wait.executionId);
+            if (remainingMs <= 0L) {
+                complete(wait);
+                pending.remove(wait);
+            } else {
+                schedule(wait, remainingMs);
+            }
+        }
+    }
+
+    private void schedule(PendingWait wait, long remainingMs) {
+        long ticks = Math.max(1L, (remainingMs + TICK_MS - 1L) / TICK_MS);
+        long targetTick = currentTick + ticks;
+        wait.rounds = (ticks - 1L) / WHEEL_SLOTS;
+        wheel[(int) (targetTick % WHEEL_SLOTS)].add(wait);
+    }
+
+    private static void complete(PendingWait wait) {
+        COMPLETION_EXECUTOR.execute(() -> wait.future.complete(null));
+    }
+
+    private static final class PendingWait {
+        final Node owner;
+        final Integer executionId;
+        final long waitMs;
+        final boolean condition;
+        final CompletableFuture<Void> future;
+        long rounds;
+
+        PendingWait(Node owner, Integer executionId, long waitMs, boolean condition, CompletableFuture<Void> future) {
+            this.owner = owner;
+            this.executionId = executionId;
+            this.waitMs = waitMs;
+            this.condition = condition;
+            this.future = future;
+        }
+    }
+}
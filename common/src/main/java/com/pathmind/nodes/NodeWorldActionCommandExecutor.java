@@ -85,7 +85,7 @@ final class NodeWorldActionCommandExecutor {
 
         final int maxIterations = configuredCount == 0 ? Integer.MAX_VALUE : configuredCount;
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Use", () -> {
             try {
                 boolean previousSneak = false;
 
@@ -172,7 +172,7 @@ final class NodeWorldActionCommandExecutor {
                 Thread.currentThread().interrupt();
                 future.completeExceptionally(e);
             }
-        }, "Pathmind-Use").start();
+        });
     }
 
     private boolean shouldTryBlockInteractionForUse(ItemStack stack, boolean allowBlock) {
@@ -269,7 +269,7 @@ final class NodeWorldActionCommandExecutor {
     }
 
     private void startTransientEntityTracking(net.minecraft.client.Minecraft client, String entityId) {
-        Thread tracker = new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-TrackTransientEntity", () -> {
             long deadline = System.currentTimeMillis() + TRANSIENT_ENTITY_TRACK_DURATION_MS;
             while (System.currentTimeMillis() < deadline) {
                 try {
@@ -285,9 +285,7 @@ final class NodeWorldActionCommandExecutor {
                     return;
                 }
             }
-        }, "Pathmind-TrackTransientEntity");
-        tracker.setDaemon(true);
-        tracker.start();
+        });
     }
 
     private boolean prepareSelectedItemForUse(net.minecraft.client.Minecraft client,
@@ -574,7 +572,7 @@ final class NodeWorldActionCommandExecutor {
         final boolean shouldSneak = sneakWhilePlacing;
         final boolean shouldRestoreSneak = restoreSneak;
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-PlaceHand", () -> {
             try {
                 BlockHitResult placementHitResult = NodeClientRuntimeSupport.supplyFromClient(client, () ->
                     owner.preparePlacementHitResult(client, placementPos, resolvedBlockId, resolvedHand, reachSquared)
@@ -617,7 +615,7 @@ final class NodeWorldActionCommandExecutor {
                 owner.sendNodeErrorMessage(client, tr("pathmind.error.placeFailed", resolvedBlockId, e.getMessage()));
                 future.complete(null);
             }
-        }, "Pathmind-PlaceHand").start();
+        });
     }
 
     void ensureBlockInHand(net.minecraft.client.Minecraft client, String blockId, InteractionHand hand) {
@@ -1192,7 +1190,7 @@ final class NodeWorldActionCommandExecutor {
         final InteractionHand resolvedHand = hand;
         final double resolvedReachSquared = reachSquared;
 
-        new Thread(() -> {
+        NodeCommandRuntime.submit("Pathmind-Place", () -> {
             try {
                 BlockHitResult placementHitResult = NodeClientRuntimeSupport.supplyFromClient(client, () ->
                     preparePlacementHitResult(client, placementPos, resolvedBlockId, resolvedHand, resolvedReachSquared)
@@ -1225,7 +1223,7 @@ final class NodeWorldActionCommandExecutor {
                 owner.sendNodeErrorMessage(client, tr("pathmind.error.placeFailed", resolvedBlockId, e.getMessage()));
                 future.complete(null);
             }
-        }, "Pathmind-Place").start();
+        });
     }
 
     boolean parameterProvidesCoordinates(Node parameterNode) {
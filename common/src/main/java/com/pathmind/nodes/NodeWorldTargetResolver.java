@@ -16,14 +16,13 @@ import java.util.regex.Pattern;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.Identifier;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.player.AbstractClientPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
@@ -289,46 +288,35 @@ final class NodeWorldTargetResolver {
         }
         int radius = Math.max(1, Math.min((int) Math.ceil(range), 64));
         BlockPos playerPos = client.player.blockPosition();
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        BlockPos bestPos = null;
-        double bestDistance = Double.MAX_VALUE;
         double maxDistanceSq = range * range;
-
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dy = -radius; dy <= radius; dy++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    double offsetDistanceSq = dx * dx + dy * dy + dz * dz;
-                    if (offsetDistanceSq > maxDistanceSq) {
-                        continue;
-                    }
-                    mutable.set(playerPos.getX() + dx, playerPos.getY() + dy, playerPos.getZ() + dz);
-                    if (!client.level.hasChunk(Math.floorDiv(mutable.getX(), 16), Math.floorDiv(mutable.getZ(), 16))) {
-                        continue;
-                    }
-                    BlockState state = client.level.getBlockState(mutable);
-                    if (state.isAir()) {
-                        continue;
-                    }
-                    boolean matches = false;
-                    for (BlockSelection selection : selections) {
-                        if (selection.matches(state)) {
-                            matches = true;
-                            break;
-                        }
-                    }
-                    if (!matches) {
-                        continue;
-                    }
-                    double distance = mutable.distSqr(playerPos);
-                    if (distance < bestDistance) {
-                        bestDistance = distance;
-                        bestPos = mutable.immutable();
-                    }
+        int[] best = new int[3];
+        double[] bestDistance = {Double.MAX_VALUE};
+        BlockPositionIndex.getInstance().forEachMatch(client.level, selections,
+            playerPos.getX() - radius, playerPos.getY() - radius, playerPos.getZ() - radius,
+            playerPos.getX() + radius, playerPos.getY() + radius, playerPos.getZ() + radius,
+            sectionsWithinRange(playerPos, maxDistanceSq),
+            (x, y, z) -> {
+                double dx = x - playerPos.getX();
+                double dy = y - playerPos.getY();
+                double dz = z - playerPos.getZ();
+                double distance = dx * dx + dy * dy + dz * dz;
+                if (distance > maxDistanceSq || distance > bestDistance[0]) {
+                    return;
                 }
-            }
+                // Equal distances resolve to the lowest x, then y, then z, the order the cube scan used to visit them.
+                if (distance == bestDistance[0]
+                    && (x > best[0] || (x == best[0] && (y > best[1] || (y == best[1] && z >= best[2]))))) {
+                    return;
+                }
+                bestDistance[0] = distance;
+                best[0] = x;
+                best[1] = y;
+                best[2] = z;
+            });
+        if (bestDistance[0] == Double.MAX_VALUE) {
+            return Optional.empty();
         }
-
-        return Optional.ofNullable(bestPos);
+        return Optional.of(new BlockPos(best[0], best[1], best[2]));
     }
 
     List<BlockPos> findBlocksWithinRange(net.minecraft.client.Minecraft client, List<BlockSelection> selections, double range) {
@@ -343,157 +331,82 @@ final class NodeWorldTargetResolver {
         int radius = Math.max(1, (int) Math.ceil(range));
         BlockPos playerPos = client.player.blockPosition();
         List<BlockPos> matches = new ArrayList<>();
-        int minChunkX = Math.floorDiv(playerPos.getX() - radius, 16);
-        int maxChunkX = Math.floorDiv(playerPos.getX() + radius, 16);
-        int minChunkZ = Math.floorDiv(playerPos.getZ() - radius, 16);
-        int maxChunkZ = Math.floorDiv(playerPos.getZ() + radius, 16);
-        int worldMinY = client.level.getMinY();
-        int worldMaxY = worldMinY + client.level.getHeight() - 1;
-        int minY = Math.max(worldMinY, playerPos.getY() - radius);
-        int maxY = Math.min(worldMaxY, playerPos.getY() + radius);
         double maxDistanceSq = range * range;
-
-        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
-            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
-                if (!client.level.hasChunk(chunkX, chunkZ)) {
-                    continue;
-                }
-                LevelChunk chunk = client.level.getChunk(chunkX, chunkZ);
-                if (chunk == null || chunk.isEmpty()) {
-                    continue;
+        BlockPositionIndex.getInstance().forEachMatch(client.level, selections,
+            playerPos.getX() - radius, playerPos.getY() - radius, playerPos.getZ() - radius,
+            playerPos.getX() + radius, playerPos.getY() + radius, playerPos.getZ() + radius,
+            sectionsWithinRange(playerPos, maxDistanceSq),
+            (x, y, z) -> {
+                BlockPos pos = new BlockPos(x, y, z);
+                if (pos.distSqr(playerPos) <= maxDistanceSq) {
+                    matches.add(pos);
                 }
-                LevelChunkSection[] sections = chunk.getSections();
-                if (sections == null || sections.length == 0) {
-                    continue;
-                }
-                int startX = chunkX << 4;
-                int startZ = chunkZ << 4;
-                int bottomSectionCoord = client.level.getMinSectionY();
-                BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-                for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++) {
-                    LevelChunkSection section = sections[sectionIndex];
-                    if (section == null || section.hasOnlyAir()) {
-                        continue;
-                    }
-                    if (!section.maybeHas(state -> !state.isAir() && owner.matchesAnyBlock(selections, state))) {
-                        continue;
-                    }
-
-                    int sectionMinY = (bottomSectionCoord + sectionIndex) << 4;
-                    int yStart = Math.max(minY, sectionMinY);
-                    int yEnd = Math.min(maxY, sectionMinY + 15);
-                    if (yStart > yEnd) {
-                        continue;
-                    }
-
-                    for (int localX = 0; localX < 16; localX++) {
-                        int worldX = startX + localX;
-                        for (int localZ = 0; localZ < 16; localZ++) {
-                            int worldZ = startZ + localZ;
-                            for (int y = yStart; y <= yEnd; y++) {
-                                int localY = y - sectionMinY;
-                                BlockState state = section.getBlockState(localX, localY, localZ);
-                                if (state.isAir() || !owner.matchesAnyBlock(selections, state)) {
-                                    continue;
-                                }
-                                mutable.set(worldX, y, worldZ);
-                                if (mutable.distSqr(playerPos) > maxDistanceSq) {
-                                    continue;
-                                }
-                                matches.add(mutable.immutable());
-                                if (resultLimit > 0 && matches.size() >= resultLimit) {
-                                    matches.sort(Comparator.comparingDouble(pos -> pos.distSqr(playerPos)));
-                                    return matches;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
+            });
 
         matches.sort(Comparator.comparingDouble(pos -> pos.distSqr(playerPos)));
+        if (resultLimit > 0 && matches.size() > resultLimit) {
+            return new ArrayList<>(matches.subList(0, resultLimit));
+        }
         return matches;
     }
 
+    /**
+     * Rejects sections whose nearest block is farther from the origin than the range, so the corners of the search
+     * cube outside the sphere are never scanned.
+     */
+    static BlockPositionIndex.SectionFilter sectionsWithinRange(BlockPos origin, double maxDistanceSq) {
+        return (sectionX, sectionY, sectionZ) -> {
+            long dx = sectionGap(origin.getX(), sectionX << 4);
+            long dy = sectionGap(origin.getY(), sectionY << 4);
+            long dz = sectionGap(origin.getZ(), sectionZ << 4);
+            return dx * dx + dy * dy + dz * dz <= maxDistanceSq;
+        };
+    }
+
+    private static long sectionGap(int origin, int sectionMin) {
+        if (origin < sectionMin) {
+            return (long) sectionMin - origin;
+        }
+        return origin > sectionMin + 15 ? (long) origin - (sectionMin + 15) : 0L;
+    }
+
     Optional<BlockPos> findNearestAnyBlock(net.minecraft.client.Minecraft client, double range) {
         if (client == null || client.player == null || client.level == null) {
             return Optional.empty();
         }
-        int radius = Math.max(1, Math.min((int) Math.ceil(range), 64));
-        BlockPos playerPos = client.player.blockPosition();
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        BlockPos bestPos = null;
-        double bestDistance = Double.MAX_VALUE;
-        double maxDistanceSq = range * range;
-
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dy = -radius; dy <= radius; dy++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    double offsetDistanceSq = dx * dx + dy * dy + dz * dz;
-                    if (offsetDistanceSq > maxDistanceSq) {
-                        continue;
-                    }
-                    mutable.set(playerPos.getX() + dx, playerPos.getY() + dy, playerPos.getZ() + dz);
-                    if (!client.level.hasChunk(Math.floorDiv(mutable.getX(), 16), Math.floorDiv(mutable.getZ(), 16))) {
-                        continue;
-                    }
-                    BlockState state = client.level.getBlockState(mutable);
-                    if (state.isAir()) {
-                        continue;
-                    }
-                    double distance = mutable.distSqr(playerPos);
-                    if (distance < bestDistance) {
-                        bestDistance = distance;
-                        bestPos = mutable.immutable();
-                    }
+        ClientLevel level = client.level;
+        int radius = Math.max(1, Math.min((int) Math.ceil(range), NearestVoxelSearch.MAX_RADIUS));
+        long maxDistanceSq = (long) Math.floor(range * range);
+        return Optional.ofNullable(NearestVoxelSearch.findNearest(client.player.blockPosition(), radius, maxDistanceSq,
+            (sectionX, sectionY, sectionZ) -> {
+                if (sectionY < level.getMinSectionY() || sectionY > level.getMaxSectionY()
+                    || !level.hasChunk(sectionX, sectionZ)) {
+                    return false;
                 }
-            }
-        }
-
-        return Optional.ofNullable(bestPos);
+                LevelChunkSection section = level.getChunk(sectionX, sectionZ).getSections()[sectionY - level.getMinSectionY()];
+                return section != null && !section.hasOnlyAir();
+            },
+            pos -> !level.getBlockState(pos).isAir()));
     }
 
     Optional<BlockPos> findNearestOpenBlock(net.minecraft.client.Minecraft client, int range) {
         if (client == null || client.player == null || client.level == null) {
             return Optional.empty();
         }
+        ClientLevel level = client.level;
         int radius = Math.max(1, Math.min(range, 32));
-        BlockPos playerPos = client.player.blockPosition();
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        BlockPos bestPos = null;
-        double bestDistance = Double.MAX_VALUE;
-
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dy = -radius; dy <= radius; dy++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    mutable.set(playerPos.getX() + dx, playerPos.getY() + dy, playerPos.getZ() + dz);
-                    if (!client.level.hasChunk(Math.floorDiv(mutable.getX(), 16), Math.floorDiv(mutable.getZ(), 16))) {
-                        continue;
-                    }
-                    if (!client.level.getWorldBorder().isWithinBounds(mutable)) {
-                        continue;
-                    }
-                    if (!owner.isBlockReplaceable(client.level, mutable)) {
-                        continue;
-                    }
-                    if (!owner.hasPlacementSupport(client.level, mutable)) {
-                        continue;
-                    }
-                    AABB blockBox = new AABB(mutable.getX(), mutable.getY(), mutable.getZ(), mutable.getX() + 1, mutable.getY() + 1, mutable.getZ() + 1);
-                    if (!client.level.getEntities(null, blockBox).isEmpty()) {
-                        continue;
-                    }
-                    double distance = mutable.distSqr(playerPos);
-                    if (distance < bestDistance) {
-                        bestDistance = distance;
-                        bestPos = mutable.immutable();
-                    }
+        return Optional.ofNullable(NearestVoxelSearch.findNearest(client.player.blockPosition(), radius, Long.MAX_VALUE,
+            (sectionX, sectionY, sectionZ) -> level.hasChunk(sectionX, sectionZ),
+            pos -> {
+                if (!level.getWorldBorder().isWithinBounds(pos)
+                    || !owner.isBlockReplaceable(level, pos)
+                    || !owner.hasPlacementSupport(level, pos)) {
+                    return false;
                 }
-            }
-        }
-
-        return Optional.ofNullable(bestPos);
+                AABB blockBox = new AABB(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1);
+                // Placement occupancy must reflect entities that moved since the last capture.
+                return level.getEntities(null, blockBox).isEmpty();
+            }));
     }
 
     Optional<BlockPos> findNearestDroppedItem(net.minecraft.client.Minecraft client, Item item, double range) {
@@ -506,12 +419,9 @@ final class NodeWorldTargetResolver {
         }
         double searchRadius = Math.max(1.0, range);
         AABB searchBox = client.player.getBoundingBox().inflate(searchRadius);
-        List<ItemEntity> entities = client.level.getEntitiesOfClass(ItemEntity.class, searchBox,
+        List<ItemEntity> entities = EntitySpatialIndex.entitiesOfClass(client.level, ItemEntity.class, searchBox,
             entity -> entity != null && !entity.isRemoved() && !entity.getItem().isEmpty() && entity.getItem().is(item));
-        if (entities.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(Collections.min(entities, Comparator.comparingDouble(entity -> entity.distanceToSqr(client.player))));
+        return entities.isEmpty() ? Optional.empty() : Optional.of(entities.getFirst());
     }
 
     Optional<Entity> findNearestEntity(net.minecraft.client.Minecraft client, EntityType<?> entityType, double range) {
@@ -524,22 +434,12 @@ final class NodeWorldTargetResolver {
         }
         double searchRadius = Math.max(1.0, range);
         AABB searchBox = client.player.getBoundingBox().inflate(searchRadius);
-        Identifier targetTypeId = BuiltInRegistries.ENTITY_TYPE.getKey(entityType);
-        List<Entity> matches = client.level.getEntities(
+        List<Entity> matches = EntitySpatialIndex.entitiesOfType(
+            client.level,
             client.player,
+            entityType,
             searchBox,
-            entity -> {
-                if (entity == null) {
-                    return false;
-                }
-                EntityType<?> candidateType = entity.getType();
-                boolean sameType = candidateType == entityType;
-                if (!sameType) {
-                    Identifier candidateId = BuiltInRegistries.ENTITY_TYPE.getKey(candidateType);
-                    sameType = targetTypeId.equals(candidateId);
-                }
-                return sameType && EntityStateOptions.matchesState(entity, state);
-            }
+            entity -> EntityStateOptions.matchesState(entity, state)
         );
         if (matches.isEmpty()) {
             return Optional.empty();
@@ -547,8 +447,7 @@ final class NodeWorldTargetResolver {
         for (Entity match : matches) {
             TransientEntityPositionTracker.remember(match);
         }
-        Entity nearest = Collections.min(matches, Comparator.comparingDouble(entity -> entity.distanceToSqr(client.player)));
-        return Optional.of(nearest);
+        return Optional.of(matches.getFirst());
     }
 
     Entity resolveEntityByUuid(net.minecraft.client.Minecraft client, java.util.UUID uuid) {
@@ -583,7 +482,8 @@ final class NodeWorldTargetResolver {
         AABB searchBox = client.player != null
             ? client.player.getBoundingBox().inflate(searchRadius)
             : new AABB(-searchRadius, -searchRadius, -searchRadius, searchRadius, searchRadius, searchRadius);
-        List<Entity> matches = client.level.getEntities(
+        List<Entity> matches = EntitySpatialIndex.entities(
+            client.level,
             client.player,
             searchBox,
             entity -> entity != null && uuid.equals(entity.getUUID())
@@ -597,10 +497,12 @@ final class NodeWorldTargetResolver {
         }
         double searchRadius = Math.max(1.0, range);
         AABB searchBox = client.player.getBoundingBox().inflate(searchRadius);
-        return client.level.getEntities(
+        return EntitySpatialIndex.entitiesOfType(
+            client.level,
             client.player,
+            entityType,
             searchBox,
-            entity -> entity.getType() == entityType && EntityStateOptions.matchesState(entity, state)
+            entity -> EntityStateOptions.matchesState(entity, state)
         );
     }
 
@@ -610,7 +512,8 @@ final class NodeWorldTargetResolver {
         }
         double searchRadius = Math.max(1.0, range);
         AABB searchBox = client.player.getBoundingBox().inflate(searchRadius);
-        return client.level.getEntitiesOfClass(
+        return EntitySpatialIndex.entitiesOfClass(
+            client.level,
             ItemEntity.class,
             searchBox,
             entity -> entity != null
@@ -639,7 +542,8 @@ final class NodeWorldTargetResolver {
         }
 
         ExecutionManager.RuntimeList list = resolveRuntimeList(listNode);
-        if (list == null || list.getEntries().isEmpty()) {
+        List<String> entries = list != null ? list.getEntries() : List.of();
+        if (entries.isEmpty()) {
             owner.sendNodeErrorMessage(client, Node.tr("pathmind.error.listEmptyOrMissing", listName.trim()));
             if (future != null && !future.isDone()) {
                 future.complete(null);
@@ -657,7 +561,7 @@ final class NodeWorldTargetResolver {
         }
 
         int listIndex = index - 1;
-        if (listIndex >= list.getEntries().size()) {
+        if (listIndex >= entries.size()) {
             owner.sendNodeErrorMessage(client, Node.tr("pathmind.error.listNoItem", listName.trim(), index));
             if (future != null && !future.isDone()) {
                 future.complete(null);
@@ -665,7 +569,7 @@ final class NodeWorldTargetResolver {
             return null;
         }
 
-        String entry = list.getEntries().get(listIndex);
+        String entry = entries.get(listIndex);
         if (entry == null || entry.isEmpty()) {
             owner.sendNodeErrorMessage(client, Node.tr("pathmind.error.listNoItem", listName.trim(), index));
             if (future != null && !future.isDone()) {
@@ -823,12 +727,16 @@ final class NodeWorldTargetResolver {
         ExecutionManager.RuntimeList list = resolveRuntimeList(listNode);
         String listName = Node.getParameterString(listNode, "List");
         String safeListName = listName == null ? "" : listName.trim();
-        if (list == null || list.getEntries().isEmpty() || list.getElementType() != NodeType.PARAM_GUI) {
+        if (list == null || list.getElementType() != NodeType.PARAM_GUI) {
+            return null;
+        }
+        List<String> entries = list.getEntries();
+        if (entries.isEmpty()) {
             return null;
         }
 
         int index = Node.parseNodeInt(listNode, "Index", 1);
-        if (index <= 0 || index > list.getEntries().size()) {
+        if (index <= 0 || index > entries.size()) {
             if (reportErrors && client != null) {
                 owner.sendNodeErrorMessage(client, Node.tr("pathmind.error.listNoItem", safeListName, index));
             }
@@ -837,7 +745,7 @@ final class NodeWorldTargetResolver {
             }
             return null;
         }
-        String entry = list.getEntries().get(index - 1);
+        String entry = entries.get(index - 1);
         ListSlotEntry parsed = parseListSlotEntry(entry);
         if (parsed == null) {
             if (reportErrors && client != null) {
@@ -0,0 +1,308 @@
+package com.pathmind.nodes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arithmetic expression compiled once into a closure tree. Compiled forms are cached by source text, so an edited
+ * parameter simply compiles under its new text. {@code $name} references become variable slots whose values are
+ * supplied at evaluation time instead of being spliced into the text and re-parsed.
+ */
+final class NumericExpression {
+    private static final int MAX_CACHED_EXPRESSIONS = 512;
+    private static final NumericExpression INVALID = new NumericExpression(null, List.of());
+    private static final Map<String, NumericExpression> CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NumericExpression> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        });
+
+    private final Term root;
+    private final List<VariableReference> variables;
+
+    private NumericExpression(Term root, List<VariableReference> variables) {
+        this.root = root;
+        this.variables = variables;
+    }
+
+    /** Returns the compiled form of the text, or null when it is not a valid expression. */
+    static NumericExpression compile(String text) {
+        if (text == null) {
+            return null;
+        }
+        NumericExpression compiled = CACHE.get(text);
+        if (compiled == null) {
+            compiled = new Compiler(text).compile();
+            CACHE.put(text, compiled);
+        }
+        return compiled == INVALID ? null : compiled;
+    }
+
+    /** Evaluates variable-free text, matching the grammar the runtime has always accepted. */
+    static Double evaluate(String text) {
+        if (text == null) {
+            return null;
+        }
+        if (isUnsignedNumber(text)) {
+            return Double.parseDouble(text);
+        }
+        NumericExpression compiled = compile(text);
+        if (compiled == null || compiled.hasVariables()) {
+            return null;
+        }
+        return compiled.evaluate(new double[0]);
+    }
+
+    /** Parses a variable value that can stand in for a number token: an optional minus sign and plain digits. */
+    static Double parseNumberLiteral(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        boolean negative = value.charAt(0) == '-';
+        String digits = negative ? value.substring(1) : value;
+        if (!isUnsignedNumber(digits)) {
+            return null;
+        }
+        double parsed = Double.parseDouble(digits);
+        return negative ? -parsed : parsed;
+    }
+
+    boolean hasVariables() {
+        return !variables.isEmpty();
+    }
+
+    List<VariableReference> variables() {
+        return variables;
+    }
+
+    /** Evaluates with one value per {@link #variables()} entry; null on division by zero. */
+    Double evaluate(double[] variableValues) {
+        try {
+            return root.apply(variableValues);
+        } catch (DivisionByZero e) {
+            return null;
+        }
+    }
+
+    private static boolean isUnsignedNumber(String text) {
+        boolean sawDigit = false;
+        boolean sawDecimal = false;
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (current >= '0' && current <= '9') {
+                sawDigit = true;
+            } else if (current == '.' && !sawDecimal) {
+                sawDecimal = true;
+            } else {
+                return false;
+            }
+        }
+        return sawDigit;
+    }
+
+    record VariableReference(String name, int start, int end) {
+    }
+
+    @FunctionalInterface
+    private interface Term {
+        double apply(double[] variables);
+    }
+
+    private static final class DivisionByZero extends RuntimeException {
+        private static final DivisionByZero INSTANCE = new DivisionByZero();
+
+        private DivisionByZero() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Compiler {
+        private final String input;
+        private final List<VariableReference> variables = new ArrayList<>();
+        private int index;
+
+        private Compiler(String input) {
+            this.input = input;
+        }
+
+        private NumericExpression compile() {
+            skipWhitespace();
+            Term root = parseExpression();
+            if (root == null) {
+                return INVALID;
+            }
+            skipWhitespace();
+            if (index != input.length()) {
+                return INVALID;
+            }
+            return new NumericExpression(root, List.copyOf(variables));
+        }
+
+        private Term parseExpression() {
+            Term value = parseTerm();
+            if (value == null) {
+                return null;
+            }
+            while (true) {
+                skipWhitespace();
+                if (consume('+')) {
+                    Term lhs = value;
+                    Term rhs = parseTerm();
+                    if (rhs == null) {
+                        return null;
+                    }
+                    value = vars -> lhs.apply(vars) + rhs.apply(vars);
+                } else if (consume('-')) {
+                    Term lhs = value;
+                    Term rhs = parseTerm();
+                    if (rhs == null) {
+                        return null;
+                    }
+                    value = vars -> lhs.apply(vars) - rhs.apply(vars);
+                } else {
+                    return value;
+                }
+            }
+        }
+
+        private Term parseTerm() {
+            Term value = parsePower();
+            if (value == null) {
+                return null;
+            }
+            while (true) {
+                skipWhitespace();
+                if (consume('*')) {
+                    Term lhs = value;
+                    Term rhs = parsePower();
+                    if (rhs == null) {
+                        return null;
+                    }
+                    value = vars -> lhs.apply(vars) * rhs.apply(vars);
+                } else if (consume('/')) {
+                    Term lhs = value;
+                    Term rhs = parsePower();
+                    if (rhs == null) {
+                        return null;
+                    }
+                    value = vars -> {
+                        double left = lhs.apply(vars);
+                        double divisor = rhs.apply(vars);
+                        if (divisor == 0.0D) {
+                            throw DivisionByZero.INSTANCE;
+                        }
+                        return left / divisor;
+                    };
+                } else {
+                    return value;
+                }
+            }
+        }
+
+        private Term parsePower() {
+            Term base = parseFactor();
+            if (base == null) {
+                return null;
+            }
+            skipWhitespace();
+            if (!consume('^')) {
+                return base;
+            }
+            Term exponent = parsePower();
+            if (exponent == null) {
+                return null;
+            }
+            return vars -> Math.pow(base.apply(vars), exponent.apply(vars));
+        }
+
+        private Term parseFactor() {
+            skipWhitespace();
+            if (consume('+')) {
+                return parseFactor();
+            }
+            if (consume('-')) {
+                Term value = parseFactor();
+                return value != null ? vars -> -value.apply(vars) : null;
+            }
+            if (index < input.length() && input.charAt(index) == '$') {
+                return parseVariable();
+            }
+            return parseNumber();
+        }
+
+        private Term parseVariable() {
+            int start = index;
+            int nameStart = start + 1;
+            int end = nameStart;
+            while (end < input.length() && isVariableNameCharacter(input.charAt(end))) {
+                end++;
+            }
+            if (end == nameStart) {
+                return null;
+            }
+            index = end;
+            int slot = variables.size();
+            variables.add(new VariableReference(input.substring(nameStart, end), start, end));
+            return vars -> vars[slot];
+        }
+
+        private Term parseNumber() {
+            skipWhitespace();
+            int start = index;
+            boolean sawDigit = false;
+            boolean sawDecimal = false;
+            while (index < input.length()) {
+                char current = input.charAt(index);
+                if (Character.isDigit(current)) {
+                    sawDigit = true;
+                    index++;
+                    continue;
+                }
+                if (current == '.') {
+                    if (sawDecimal) {
+                        break;
+                    }
+                    sawDecimal = true;
+                    index++;
+                    continue;
+                }
+                break;
+            }
+            if (!sawDigit) {
+                index = start;
+                return null;
+            }
+            double value;
+            try {
+                value = Double.parseDouble(input.substring(start, index));
+            } catch (NumberFormatException e) {
+                index = start;
+                return null;
+            }
+            return vars -> value;
+        }
+
+        private static boolean isVariableNameCharacter(char value) {
+            return Character.isLetterOrDigit(value) || value == '_';
+        }
+
+        private void skipWhitespace() {
+            while (index < input.length() && Character.isWhitespace(input.charAt(index))) {
+                index++;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (index >= input.length() || input.charAt(index) != expected) {
+                return false;
+            }
+            index++;
+            return true;
+        }
+    }
+}
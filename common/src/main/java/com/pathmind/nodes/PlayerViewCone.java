@@ -0,0 +1,93 @@
+package com.pathmind.nodes;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * The player's field of view as used by the visibility sensors: a pyramid around the look direction sized from the
+ * FOV option and window aspect. Built once per query so many points can be tested against the same basis.
+ */
+final class PlayerViewCone {
+    private static final double SECTION_BOUNDING_RADIUS = Math.sqrt(3.0D) * 8.0D;
+
+    private final Vec3 eye;
+    private final Vec3 forward;
+    private final Vec3 right;
+    private final Vec3 up;
+    private final double tanHorizontalHalf;
+    private final double tanVerticalHalf;
+    private final double boundingHalfAngle;
+
+    private PlayerViewCone(Vec3 eye, Vec3 forward, Vec3 right, Vec3 up, double tanHorizontalHalf, double tanVerticalHalf) {
+        this.eye = eye;
+        this.forward = forward;
+        this.right = right;
+        this.up = up;
+        this.tanHorizontalHalf = tanHorizontalHalf;
+        this.tanVerticalHalf = tanVerticalHalf;
+        this.boundingHalfAngle = Math.atan(Math.sqrt(tanHorizontalHalf * tanHorizontalHalf + tanVerticalHalf * tanVerticalHalf));
+    }
+
+    /** Returns the current view, or null when there is no player or no usable look direction. */
+    static PlayerViewCone of(Minecraft client) {
+        if (client == null || client.player == null) {
+            return null;
+        }
+        int width = client.getWindow() != null ? client.getWindow().getWidth() : 0;
+        int height = client.getWindow() != null ? client.getWindow().getHeight() : 0;
+        double aspect = (width > 0 && height > 0) ? (double) width / (double) height : (16.0 / 9.0);
+        return of(client.player.getEyePosition(), client.player.getViewVector(1.0F), client.options.fov().get(), aspect);
+    }
+
+    static PlayerViewCone of(Vec3 eye, Vec3 look, double fovDegrees, double aspect) {
+        if (look.lengthSqr() <= 1.0E-6D) {
+            return null;
+        }
+        Vec3 forward = look.normalize();
+        Vec3 right = forward.cross(new Vec3(0.0, 1.0, 0.0));
+        if (right.lengthSqr() <= 1.0E-6D) {
+            right = new Vec3(1.0, 0.0, 0.0);
+        } else {
+            right = right.normalize();
+        }
+        Vec3 up = right.cross(forward).normalize();
+        double verticalFovDegrees = Mth.clamp(fovDegrees, 30.0, 170.0);
+        double tanVerticalHalf = Math.tan(Math.toRadians(verticalFovDegrees / 2.0));
+        return new PlayerViewCone(eye, forward, right, up, tanVerticalHalf * aspect, tanVerticalHalf);
+    }
+
+    boolean contains(Vec3 target) {
+        if (target == null) {
+            return false;
+        }
+        Vec3 toTarget = target.subtract(eye);
+        if (toTarget.lengthSqr() <= 1.0E-6D) {
+            return true;
+        }
+        Vec3 targetNorm = toTarget.normalize();
+        double z = targetNorm.dot(forward);
+        if (z <= 0.0) {
+            return false;
+        }
+        return Math.abs(targetNorm.dot(right)) <= tanHorizontalHalf * z
+            && Math.abs(targetNorm.dot(up)) <= tanVerticalHalf * z;
+    }
+
+    /** Conservative test: false only when no point of the 16x16x16 section can fall inside the view. */
+    boolean mayContainSection(int sectionX, int sectionY, int sectionZ) {
+        double dx = (sectionX << 4) + 8.0D - eye.x;
+        double dy = (sectionY << 4) + 8.0D - eye.y;
+        double dz = (sectionZ << 4) + 8.0D - eye.z;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance <= SECTION_BOUNDING_RADIUS) {
+            return true;
+        }
+        double allowed = boundingHalfAngle + Math.asin(SECTION_BOUNDING_RADIUS / distance);
+        if (allowed >= Math.PI) {
+            return true;
+        }
+        double cosine = (dx * forward.x + dy * forward.y + dz * forward.z) / distance;
+        return Math.acos(Mth.clamp(cosine, -1.0D, 1.0D)) <= allowed;
+    }
+}
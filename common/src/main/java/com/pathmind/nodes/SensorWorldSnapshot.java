@@ -0,0 +1,141 @@
+package com.pathmind.nodes;
+
+import com.pathmind.execution.ExecutionManager;
+import com.pathmind.util.PlayerInventoryBridge;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Player and world state captured once at the end of each client tick while a graph is executing.
+ * Sensors evaluated off the client thread read this instead of racing the live level, so every sensor in a tick
+ * sees the same state and the cost of a read no longer depends on how many sensors a graph contains.
+ * Sensors running on the client thread keep reading live state, which is already coherent there.
+ */
+public final class SensorWorldSnapshot {
+    private static final long MAX_AGE_MS = 100L;
+    private static final AtomicLong EPOCH = new AtomicLong();
+    private static volatile SensorWorldSnapshot current;
+
+    private final ClientLevel level;
+    private final LocalPlayer player;
+    private final long epoch;
+    private final long capturedAtMs;
+    final float health;
+    final int foodLevel;
+    final boolean swimming;
+    final boolean inLava;
+    final boolean underWater;
+    final long dayTime;
+    final boolean raining;
+    final int selectedSlot;
+    final Direction lookDirection;
+    final BlockHitResult targetedBlock;
+    final BlockState targetedBlockState;
+    private final Entity targetedEntity;
+    private final Map<Item, Integer> itemCounts;
+
+    private SensorWorldSnapshot(Minecraft client, ClientLevel level, LocalPlayer player, long epoch) {
+        this.level = level;
+        this.player = player;
+        this.epoch = epoch;
+        this.capturedAtMs = System.currentTimeMillis();
+        this.health = player.getHealth();
+        this.foodLevel = player.getFoodData().getFoodLevel();
+        this.swimming = player.isSwimming();
+        this.inLava = player.isInLava();
+        this.underWater = player.isUnderWater();
+        this.dayTime = level.getDayTime();
+        this.raining = level.isRaining() || level.isRainingAt(player.blockPosition());
+
+        Inventory inventory = player.getInventory();
+        int slot;
+        try {
+            slot = PlayerInventoryBridge.getSelectedSlot(inventory);
+        } catch (IllegalStateException ignored) {
+            slot = -1;
+        }
+        this.selectedSlot = slot;
+        Map<Item, Integer> counts = new IdentityHashMap<>();
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            if (!stack.isEmpty()) {
+                counts.merge(stack.getItem(), stack.getCount(), Integer::sum);
+            }
+        }
+        this.itemCounts = counts;
+
+        Vec3 look = player.getViewVector(1.0F);
+        this.lookDirection = Direction.getApproximateNearest(look.x, look.y, look.z);
+        this.targetedBlock = NodeTargetSensorEvaluator.findBlockHitResult(client).orElse(null);
+        this.targetedBlockState = targetedBlock != null && targetedBlock.getBlockPos() != null
+            ? level.getBlockState(targetedBlock.getBlockPos())
+            : null;
+        HitResult hit = client.hitResult;
+        this.targetedEntity = hit instanceof EntityHitResult entityHit && hit.getType() == HitResult.Type.ENTITY
+            ? entityHit.getEntity()
+            : null;
+    }
+
+    public static void capture(Minecraft client) {
+        if (client == null || client.level == null || client.player == null
+            || !ExecutionManager.getInstance().isExecuting()) {
+            current = null;
+            EntitySpatialIndex.clear();
+            return;
+        }
+        long epoch = EPOCH.get();
+        current = new SensorWorldSnapshot(client, client.level, client.player, epoch);
+        EntitySpatialIndex.capture(client.level, client.player, epoch);
+    }
+
+    /**
+     * Returns the snapshot for the calling sensor, or null when it must read live state: on the client thread,
+     * after a client-thread action has run since capture, once the snapshot is older than a few ticks, or after
+     * the world or player changed.
+     */
+    static SensorWorldSnapshot current() {
+        SensorWorldSnapshot snapshot = current;
+        if (snapshot == null) {
+            return null;
+        }
+        return isReadable(snapshot.level, snapshot.player, snapshot.epoch, snapshot.capturedAtMs) ? snapshot : null;
+    }
+
+    /** Whether state captured for this level and player at that epoch and time may still stand in for live reads. */
+    static boolean isReadable(ClientLevel level, LocalPlayer player, long epoch, long capturedAtMs) {
+        Minecraft client = Minecraft.getInstance();
+        return client != null && !client.isSameThread()
+            && epoch == EPOCH.get()
+            && System.currentTimeMillis() - capturedAtMs <= MAX_AGE_MS
+            && level == client.level
+            && player == client.player;
+    }
+
+    /** Marks the current snapshot stale; called after node work has run on the client thread. */
+    static void invalidate() {
+        EPOCH.incrementAndGet();
+    }
+
+    int countItem(Item item) {
+        Integer count = item != null ? itemCounts.get(item) : null;
+        return count != null ? count : 0;
+    }
+
+    Entity targetedEntity() {
+        return targetedEntity != null && !targetedEntity.isRemoved() ? targetedEntity : null;
+    }
+}
@@ -0,0 +1,119 @@
+package com.pathmind.util;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * A list of {@link BlockSelection}s compiled into a bitset over global block-state ids. Each selection only has to be
+ * tested against the states of its own block once, at compile time; afterwards a state matches when its id's bit is
+ * set. Compiled matchers are cached by the selections' canonical strings.
+ */
+public final class BlockStateMatcher {
+    private static final int MAX_CACHED_MATCHERS = 64;
+    private static final Map<String, BlockStateMatcher> CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BlockStateMatcher> eldest) {
+                return size() > MAX_CACHED_MATCHERS;
+            }
+        });
+    private static volatile LastCompiled lastCompiled;
+
+    private final String key;
+    private final BitSet stateIds;
+
+    private BlockStateMatcher(String key, BitSet stateIds) {
+        this.key = key;
+        this.stateIds = stateIds;
+    }
+
+    /**
+     * Returns the matcher for the selections. Scans call this once per voxel with the same selections, so the ones
+     * compiled last are recognised element by element before any key is built. Selections are immutable, and the
+     * comparison runs against a private copy, so a list mutated in place is never matched stale.
+     */
+    public static BlockStateMatcher compile(List<BlockSelection> selections) {
+        LastCompiled last = lastCompiled;
+        if (last != null && last.sameSelections(selections)) {
+            return last.matcher;
+        }
+        String key = keyOf(selections);
+        BlockStateMatcher matcher = CACHE.get(key);
+        if (matcher == null) {
+            matcher = new BlockStateMatcher(key, collectStateIds(selections));
+            CACHE.put(key, matcher);
+        }
+        BlockSelection[] copy = selections != null ? selections.toArray(new BlockSelection[0]) : new BlockSelection[0];
+        lastCompiled = new LastCompiled(copy, matcher);
+        return matcher;
+    }
+
+    /** Canonical key for the selections; equal keys compile to equal matchers. */
+    public String key() {
+        return key;
+    }
+
+    public boolean matches(BlockState state) {
+        if (state == null) {
+            return false;
+        }
+        int id = Block.getId(state);
+        return id >= 0 && stateIds.get(id);
+    }
+
+    public boolean isEmpty() {
+        return stateIds.isEmpty();
+    }
+
+    private static String keyOf(List<BlockSelection> selections) {
+        if (selections == null || selections.isEmpty()) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder();
+        for (BlockSelection selection : selections) {
+            key.append(selection != null ? selection.asString() : "").append(';');
+        }
+        return key.toString();
+    }
+
+    private static BitSet collectStateIds(List<BlockSelection> selections) {
+        BitSet ids = new BitSet();
+        if (selections == null) {
+            return ids;
+        }
+        for (BlockSelection selection : selections) {
+            if (selection == null || selection.getBlock() == null) {
+                continue;
+            }
+            for (BlockState state : selection.getBlock().getStateDefinition().getPossibleStates()) {
+                if (selection.matches(state)) {
+                    int id = Block.getId(state);
+                    if (id >= 0) {
+                        ids.set(id);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private record LastCompiled(BlockSelection[] selections, BlockStateMatcher matcher) {
+        boolean sameSelections(List<BlockSelection> candidate) {
+            int size = candidate != null ? candidate.size() : 0;
+            if (size != selections.length) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (candidate.get(i) != selections[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
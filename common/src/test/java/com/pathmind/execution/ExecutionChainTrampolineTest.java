@@ -0,0 +1,217 @@
+package com.pathmind.execution;
+
+import com.pathmind.data.SettingsManager;
+import com.pathmind.nodes.Node;
+import com.pathmind.nodes.NodeConnection;
+import com.pathmind.nodes.NodeType;
+import com.pathmind.nodes.RuntimeValueScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoublePredicate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionChainTrampolineTest {
+    private final ExecutionManager manager = ExecutionManager.getInstance();
+    private final List<Node> nodes = new ArrayList<>();
+    private final List<NodeConnection> connections = new ArrayList<>();
+    private Integer originalNodeDelay;
+    private Node start;
+    private Node tail;
+
+    @BeforeEach
+    void setUp() {
+        originalNodeDelay = SettingsManager.getCurrent().nodeDelayMs;
+        SettingsManager.getCurrent().nodeDelayMs = 0;
+        start = new Node(NodeType.START, 0, 0);
+        start.setStartNodeNumber(1);
+        nodes.add(start);
+        tail = start;
+    }
+
+    @AfterEach
+    void cleanUp() {
+        manager.setSingleplayerPaused(false);
+        manager.requestStopAll();
+        manager.setWorkspaceGraph(List.of(), List.of(), List.of());
+        SettingsManager.getCurrent().nodeDelayMs = originalNodeDelay;
+    }
+
+    @Test
+    void longUnpacedChainPassesStepBudgetWithoutOverflowingTheStack() {
+        append(calculate("count = 0"));
+        for (int i = 0; i < 1500; i++) {
+            append(calculate("count = $count+1"));
+        }
+        publishCount();
+
+        assertDoesNotThrow(() -> run().get(10, TimeUnit.SECONDS));
+
+        assertEquals(1500.0, publishedCount());
+    }
+
+    @Test
+    void nodeDelayIsOnlyPaidByPacedNodes() {
+        SettingsManager.getCurrent().nodeDelayMs = 40;
+        append(calculate("count = 0"));
+        for (int i = 0; i < 30; i++) {
+            append(calculate("count = $count+1"));
+        }
+        publishCount();
+
+        long unpacedMs = timeRun();
+        assertEquals(30.0, publishedCount());
+        // Only the start node is paced; thirty delayed data nodes would take well over a second.
+        assertTrue(unpacedMs < 600L, "unpaced chain took " + unpacedMs + "ms");
+
+        resetGraph();
+        append(calculate("count = 0"));
+        for (int i = 0; i < 6; i++) {
+            append(new Node(NodeType.WAIT, 0, 0));
+            append(calculate("count = $count+1"));
+        }
+        publishCount();
+
+        long pacedMs = timeRun();
+        assertEquals(6.0, publishedCount());
+        // Start plus six zero-length waits each pay the 40ms node delay.
+        assertTrue(pacedMs >= 7L * 40L - 20L, "paced chain took " + pacedMs + "ms");
+    }
+
+    @Test
+    void synchronousLoopBodyPaysOneDelayPerPass() {
+        SettingsManager.getCurrent().nodeDelayMs = 40;
+        append(calculate("count = 0"));
+        Node repeat = new Node(NodeType.CONTROL_REPEAT, 0, 0);
+        repeat.getParameter("Count").setStringValue("5");
+        Node body = calculate("count = $count+1");
+        assertTrue(repeat.attachActionNode(body));
+        nodes.add(body);
+        append(repeat);
+        publishCount();
+
+        long elapsedMs = timeRun();
+
+        assertEquals(5.0, publishedCount());
+        // Start plus one delay after each of the five synchronous passes.
+        assertTrue(elapsedMs >= 6L * 40L - 20L, "loop took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void pauseAndStopInterruptASynchronousLoop() {
+        append(calculate("count = 0"));
+        Node forever = new Node(NodeType.CONTROL_FOREVER, 0, 0);
+        Node body = calculate("count = $count+1");
+        assertTrue(forever.attachActionNode(body));
+        nodes.add(body);
+        append(forever);
+
+        CompletableFuture<Void> future = run();
+        // Well past the synchronous step budget, so the loop has left the calling thread at least once.
+        awaitChainCount(count -> count >= 2000.0);
+
+        manager.setSingleplayerPaused(true);
+        sleep(50L);
+        double paused = chainCount();
+        sleep(100L);
+        assertEquals(paused, chainCount(), "loop advanced while paused");
+        assertFalse(future.isDone());
+
+        manager.setSingleplayerPaused(false);
+        awaitChainCount(count -> count > paused);
+
+        manager.requestStopAll();
+        assertDoesNotThrow(() -> future.get(5, TimeUnit.SECONDS));
+        double stopped = chainCount();
+        sleep(50L);
+        assertEquals(stopped, chainCount(), "loop advanced after stop");
+    }
+
+    private Node calculate(String line) {
+        Node node = new Node(NodeType.CALCULATE, 0, 0);
+        node.setMessageLine(0, line);
+        return node;
+    }
+
+    private void append(Node node) {
+        nodes.add(node);
+        connections.add(new NodeConnection(tail, node, 0, 0));
+        tail = node;
+    }
+
+    private void publishCount() {
+        Node set = new Node(NodeType.SET_VARIABLE, 0, 0);
+        Node target = new Node(NodeType.VARIABLE, 0, 0);
+        target.getParameter("Variable").setStringValue("trampoline_count");
+        target.setRuntimeValueScope(RuntimeValueScope.GLOBAL);
+        Node value = new Node(NodeType.PARAM_AMOUNT, 0, 0);
+        value.getParameter("Amount").setStringValue("$count");
+        assertTrue(set.attachParameter(target, 0));
+        assertTrue(set.attachParameter(value, 1));
+        nodes.add(target);
+        nodes.add(value);
+        append(set);
+    }
+
+    private void resetGraph() {
+        manager.setWorkspaceGraph(List.of(), List.of(), List.of());
+        nodes.clear();
+        connections.clear();
+        start = new Node(NodeType.START, 0, 0);
+        start.setStartNodeNumber(1);
+        nodes.add(start);
+        tail = start;
+    }
+
+    private CompletableFuture<Void> run() {
+        manager.setWorkspaceGraph(nodes, connections, List.of());
+        CompletableFuture<Void> future = manager.executeExternalBranchAndWait(start, nodes, connections, "TrampolineTest");
+        assertNotNull(future);
+        return future;
+    }
+
+    private long timeRun() {
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> future = run();
+        assertDoesNotThrow(() -> future.get(10, TimeUnit.SECONDS));
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private double publishedCount() {
+        ExecutionManager.RuntimeVariable value = manager.getGlobalRuntimeVariable("trampoline_count");
+        assertNotNull(value);
+        return Double.parseDouble(value.getValues().get("Amount"));
+    }
+
+    private double chainCount() {
+        ExecutionManager.RuntimeVariable value = manager.getRuntimeVariable(start, "count", RuntimeValueScope.CHAIN);
+        String amount = value == null ? null : value.getValues().get("Amount");
+        return amount == null ? -1.0 : Double.parseDouble(amount);
+    }
+
+    private void awaitChainCount(DoublePredicate condition) {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.test(chainCount()) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(condition.test(chainCount()), "loop stopped at " + chainCount());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
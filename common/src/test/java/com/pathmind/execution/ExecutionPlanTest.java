@@ -0,0 +1,52 @@
+package com.pathmind.execution;
+
+import com.pathmind.nodes.Node;
+import com.pathmind.nodes.NodeConnection;
+import com.pathmind.nodes.NodeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionPlanTest {
+    @Test
+    void routesMatchLinearConnectionScan() {
+        Node fork = new Node(NodeType.CONTROL_FORK, 0, 0);
+        Node first = new Node(NodeType.WAIT, 0, 0);
+        Node second = new Node(NodeType.WAIT, 0, 0);
+        Node duplicate = new Node(NodeType.WAIT, 0, 0);
+        NodeConnection toSecond = new NodeConnection(fork, second, 1, 0);
+        NodeConnection toFirst = new NodeConnection(fork, first, 0, 0);
+        NodeConnection shadowed = new NodeConnection(fork, duplicate, 0, 0);
+        List<NodeConnection> connections = List.of(toSecond, toFirst, shadowed);
+
+        ExecutionPlan plan = ExecutionPlan.compile(List.of(fork, first, second, duplicate), connections);
+
+        for (int socket = 0; socket < 3; socket++) {
+            assertSame(ExecutionGraphSnapshotSupport.getNextConnectedConnection(fork, connections, socket), plan.next(fork, socket));
+        }
+        assertEquals(ExecutionGraphSnapshotSupport.getOutgoingConnections(fork, connections), plan.outgoing(fork));
+        assertNull(plan.next(first, 0));
+        assertTrue(plan.outgoing(first).isEmpty());
+    }
+
+    @Test
+    void precomputesJoinArity() {
+        Node entry = new Node(NodeType.ROUTINE_ENTRY, 0, 0);
+        Node join = new Node(NodeType.CONTROL_JOIN_ALL, 0, 0);
+
+        ExecutionPlan plan = ExecutionPlan.compile(List.of(join, entry), List.of(new NodeConnection(entry, join, 0, 0)));
+
+        assertEquals(join.getInputSocketCount(), plan.joinArity(join));
+    }
+
+    @Test
+    void planWithoutConnectionsIsEmpty() {
+        assertTrue(ExecutionPlan.compile(List.of(new Node(NodeType.START, 0, 0)), List.of()).isEmpty());
+        assertTrue(ExecutionPlan.compile(null, null).isEmpty());
+    }
+}
@@ -0,0 +1,121 @@
+package com.pathmind.execution;
+
+import com.pathmind.execution.ExecutionGraphSnapshotSupport.EventHandlerLaunchData;
+import com.pathmind.execution.ExecutionGraphSnapshotSupport.HandlerInstance;
+import com.pathmind.execution.ExecutionGraphSnapshotSupport.HandlerTemplate;
+import com.pathmind.nodes.Node;
+import com.pathmind.nodes.NodeConnection;
+import com.pathmind.nodes.NodeParameter;
+import com.pathmind.nodes.NodeType;
+import com.pathmind.nodes.RuntimeValueScope;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandlerTemplatePoolTest {
+
+    @Test
+    void reusedInstanceMatchesAFreshOne() {
+        HandlerTemplate template = template();
+        HandlerInstance used = template.acquire();
+        assertNotNull(used);
+        List<String> usedIds = runtimeIds(used);
+
+        Node start = new Node(NodeType.START, 0, 0);
+        for (Node node : nodes(used)) {
+            for (NodeParameter parameter : node.getParameters()) {
+                parameter.setStringValue("resolved");
+            }
+            node.setOwningStartNode(start);
+            node.setActiveRepeatUntilGuard(start);
+            node.setNextOutputSocket(1);
+        }
+        new EventHandlerLaunchData(used).finish(null, false);
+
+        HandlerInstance reused = template.acquire();
+        HandlerInstance fresh = template.acquire();
+        assertSame(used, reused);
+        assertNotSame(reused, fresh);
+
+        assertEquals(parameterValues(fresh), parameterValues(reused));
+        assertEquals(sourceIds(fresh), sourceIds(reused));
+        for (Node node : nodes(reused)) {
+            assertNull(node.getOwningStartNode());
+            assertFalse(node.shouldExecuteRepeatAttachedAction());
+        }
+        Set<String> seen = new HashSet<>(usedIds);
+        seen.addAll(sourceIds(fresh));
+        seen.addAll(runtimeIds(fresh));
+        for (String id : runtimeIds(reused)) {
+            assertTrue(seen.add(id), "runtime id reused: " + id);
+        }
+    }
+
+    @Test
+    void failedOrCancelledRunsAreNotPooled() {
+        HandlerTemplate template = template();
+
+        HandlerInstance failed = template.acquire();
+        new EventHandlerLaunchData(failed).finish(new IllegalStateException("boom"), false);
+        assertNotSame(failed, template.acquire());
+
+        HandlerInstance cancelled = template.acquire();
+        new EventHandlerLaunchData(cancelled).finish(null, true);
+        assertNotSame(cancelled, template.acquire());
+
+        HandlerInstance clean = template.acquire();
+        new EventHandlerLaunchData(clean).finish(null, false);
+        assertSame(clean, template.acquire());
+    }
+
+    private static HandlerTemplate template() {
+        Node handler = new Node(NodeType.EVENT_FUNCTION, 0, 0);
+        handler.getParameter("Name").setStringValue("pooled");
+        Node set = new Node(NodeType.SET_VARIABLE, 100, 0);
+        Node target = new Node(NodeType.VARIABLE, 0, 0);
+        target.getParameter("Variable").setStringValue("pooled_value");
+        target.setRuntimeValueScope(RuntimeValueScope.GLOBAL);
+        Node value = new Node(NodeType.PARAM_AMOUNT, 0, 0);
+        value.getParameter("Amount").setStringValue("$input");
+        assertTrue(set.attachParameter(target, 0));
+        assertTrue(set.attachParameter(value, 1));
+        List<Node> nodes = List.of(handler, set, target, value);
+        List<NodeConnection> connections = List.of(new NodeConnection(handler, set, 0, 0));
+        return new HandlerTemplate(ExecutionGraphSnapshotSupport.createGraphSnapshot(nodes, connections), handler.getId());
+    }
+
+    private static List<Node> nodes(HandlerInstance instance) {
+        return instance.launchData.branchData.nodes;
+    }
+
+    private static List<List<String>> parameterValues(HandlerInstance instance) {
+        List<List<String>> values = new ArrayList<>();
+        for (Node node : nodes(instance)) {
+            List<String> nodeValues = new ArrayList<>();
+            for (NodeParameter parameter : node.getParameters()) {
+                nodeValues.add(parameter.getStringValue());
+            }
+            values.add(nodeValues);
+        }
+        return values;
+    }
+
+    private static List<String> sourceIds(HandlerInstance instance) {
+        return nodes(instance).stream().map(Node::getRuntimeSourceNodeId).toList();
+    }
+
+    private static List<String> runtimeIds(HandlerInstance instance) {
+        return nodes(instance).stream().map(Node::getId).toList();
+    }
+}
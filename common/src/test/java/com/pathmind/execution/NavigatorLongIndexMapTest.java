@@ -0,0 +1,58 @@
+package com.pathmind.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NavigatorLongIndexMapTest {
+    @Test
+    void storesAndOverwritesPackedKeys() {
+        NavigatorLongIndexMap map = new NavigatorLongIndexMap(4);
+        map.put(42L, 1);
+        map.put(-7L, 2);
+        map.put(42L, 3);
+
+        assertEquals(3, map.get(42L));
+        assertEquals(2, map.get(-7L));
+        assertEquals(NavigatorLongIndexMap.MISSING, map.get(0L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void rehashesPastInitialCapacity() {
+        NavigatorLongIndexMap map = new NavigatorLongIndexMap(2);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i * 4096L + 17L, i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i * 4096L + 17L));
+        }
+    }
+
+    @Test
+    void clearForgetsEntriesWithoutReallocating() {
+        NavigatorLongIndexMap map = new NavigatorLongIndexMap(8);
+        map.put(5L, 9);
+        map.clear();
+
+        assertEquals(NavigatorLongIndexMap.MISSING, map.get(5L));
+        assertEquals(0, map.size());
+        map.put(5L, 4);
+        assertEquals(4, map.get(5L));
+    }
+
+    @Test
+    void removeKeepsCollidingKeysReachable() {
+        NavigatorLongIndexMap map = new NavigatorLongIndexMap(16);
+        for (int i = 0; i < 200; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 200; i += 3) {
+            assertEquals(i, map.remove(i));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 3 == 0 ? NavigatorLongIndexMap.MISSING : i, map.get(i));
+        }
+        assertEquals(NavigatorLongIndexMap.MISSING, map.remove(0L));
+    }
+}
@@ -0,0 +1,52 @@
+package com.pathmind.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NavigatorNodeHeapTest {
+    @Test
+    void pollsNodesInPriorityOrder() {
+        NavigatorNodeHeap heap = new NavigatorNodeHeap(4);
+        heap.insertOrDecrease(0, 5.0D);
+        heap.insertOrDecrease(1, 1.0D);
+        heap.insertOrDecrease(2, 3.0D);
+        heap.insertOrDecrease(3, 4.0D);
+
+        assertEquals(1, heap.poll());
+        assertEquals(2, heap.poll());
+        assertEquals(3, heap.poll());
+        assertEquals(0, heap.poll());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void decreaseKeyReordersWithoutDuplicatingNode() {
+        NavigatorNodeHeap heap = new NavigatorNodeHeap(4);
+        heap.insertOrDecrease(0, 5.0D);
+        heap.insertOrDecrease(1, 2.0D);
+        heap.insertOrDecrease(0, 1.0D);
+        heap.insertOrDecrease(1, 9.0D);
+
+        assertEquals(2, heap.size());
+        assertEquals(0, heap.poll());
+        assertEquals(1, heap.poll());
+        assertEquals(2.0D, heap.priority(1));
+    }
+
+    @Test
+    void growsBeyondInitialCapacityAndClears() {
+        NavigatorNodeHeap heap = new NavigatorNodeHeap(2);
+        for (int node = 0; node < 100; node++) {
+            heap.insertOrDecrease(node, 100 - node);
+        }
+        assertEquals(99, heap.poll());
+        assertTrue(heap.contains(0));
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(0));
+    }
+}
@@ -0,0 +1,33 @@
+package com.pathmind.execution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NavigatorRegionGraphTest {
+    @Test
+    void repeatedChangesToOneColumnAreQueuedOnce() {
+        NavigatorRegionGraph graph = new NavigatorRegionGraph();
+        for (int i = 0; i < 100; i++) {
+            graph.onChunkChanged(3, -7);
+            graph.onBlockChanged(50, 64, -110);
+        }
+
+        // Two sections around y=64 for the block, plus the column in the invalidated and loaded sets.
+        assertEquals(4, graph.pendingChangeCount());
+    }
+
+    @Test
+    void pendingChangesStayBoundedWhileIdle() {
+        NavigatorRegionGraph graph = new NavigatorRegionGraph();
+        for (int chunkX = 0; chunkX < 200; chunkX++) {
+            for (int chunkZ = 0; chunkZ < 200; chunkZ++) {
+                graph.onChunkChanged(chunkX, chunkZ);
+                graph.onBlockChanged(chunkX << 4, 70, chunkZ << 4);
+            }
+        }
+
+        assertTrue(graph.pendingChangeCount() <= 3 * 4097, "pending=" + graph.pendingChangeCount());
+    }
+}
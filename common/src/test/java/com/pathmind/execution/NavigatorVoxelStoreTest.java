@@ -0,0 +1,52 @@
+package com.pathmind.execution;
+
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NavigatorVoxelStoreTest {
+    private static final BlockPos POS = new BlockPos(5, 70, -3);
+    private static final BlockPos NEIGHBOR = POS.east();
+
+    @Test
+    void forkStartsFromParentFlags() {
+        NavigatorVoxelStore parent = new NavigatorVoxelStore();
+        parent.setFlag(POS, NavigatorVoxelStore.NAVIGABLE, true);
+
+        NavigatorVoxelStore fork = parent.fork();
+
+        assertEquals(NavigatorVoxelStore.YES, fork.flag(POS, NavigatorVoxelStore.NAVIGABLE));
+    }
+
+    @Test
+    void writesOnEitherSideStayOnThatSide() {
+        NavigatorVoxelStore parent = new NavigatorVoxelStore();
+        parent.setFlag(POS, NavigatorVoxelStore.NAVIGABLE, true);
+        NavigatorVoxelStore fork = parent.fork();
+
+        fork.setFlag(NEIGHBOR, NavigatorVoxelStore.STANDABLE, true);
+        parent.setFlag(POS, NavigatorVoxelStore.NAVIGABLE, false);
+
+        assertEquals(NavigatorVoxelStore.UNKNOWN, parent.flag(NEIGHBOR, NavigatorVoxelStore.STANDABLE));
+        assertEquals(NavigatorVoxelStore.NO, parent.flag(POS, NavigatorVoxelStore.NAVIGABLE));
+        assertEquals(NavigatorVoxelStore.YES, fork.flag(POS, NavigatorVoxelStore.NAVIGABLE));
+        assertEquals(NavigatorVoxelStore.YES, fork.flag(NEIGHBOR, NavigatorVoxelStore.STANDABLE));
+    }
+
+    @Test
+    void parentInvalidationLeavesForkIntact() {
+        NavigatorVoxelStore parent = new NavigatorVoxelStore();
+        parent.setFlag(POS, NavigatorVoxelStore.NAVIGABLE, true);
+        parent.setFlag(POS.offset(16, 0, 0), NavigatorVoxelStore.NAVIGABLE, true);
+        NavigatorVoxelStore fork = parent.fork();
+
+        parent.invalidateBlock(POS.getX(), POS.getY(), POS.getZ());
+        parent.invalidateChunkColumn((POS.getX() >> 4) + 1, POS.getZ() >> 4);
+
+        assertEquals(NavigatorVoxelStore.UNKNOWN, parent.flag(POS, NavigatorVoxelStore.NAVIGABLE));
+        assertEquals(NavigatorVoxelStore.UNKNOWN, parent.flag(POS.offset(16, 0, 0), NavigatorVoxelStore.NAVIGABLE));
+        assertEquals(NavigatorVoxelStore.YES, fork.flag(POS, NavigatorVoxelStore.NAVIGABLE));
+        assertEquals(NavigatorVoxelStore.YES, fork.flag(POS.offset(16, 0, 0), NavigatorVoxelStore.NAVIGABLE));
+    }
+}
@@ -0,0 +1,64 @@
+package com.pathmind.execution;
+
+import com.pathmind.nodes.NodeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RuntimeListTest {
+    @Test
+    void behavesAsDequeAcrossSegments() {
+        ExecutionManager.RuntimeList list = new ExecutionManager.RuntimeList(NodeType.PARAM_COORDINATE, List.of());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            list.addEntry(" " + i + " ");
+            expected.add(Integer.toString(i));
+        }
+        for (int i = 0; i < 300; i++) {
+            assertEquals(expected.remove(0), list.removeFirstEntry());
+        }
+        assertEquals(expected.remove(expected.size() - 1), list.removeLastEntry());
+        list.addEntry("tail");
+        expected.add("tail");
+        assertEquals(expected.remove(50), list.removeEntry(50));
+
+        assertEquals(expected, list.getEntries());
+        assertEquals(expected.get(10), list.getEntry(10));
+        assertNull(list.getEntry(expected.size()));
+        assertNull(list.removeEntry(-1));
+    }
+
+    @Test
+    void snapshotsIgnoreLaterChanges() {
+        ExecutionManager.RuntimeList list = new ExecutionManager.RuntimeList(NodeType.PARAM_ITEM, List.of("a", "b", "c"));
+        List<String> before = list.getEntries();
+
+        list.removeLastEntry();
+        list.addEntry("d");
+        list.removeFirstEntry();
+
+        assertEquals(List.of("a", "b", "c"), before);
+        assertEquals(List.of("b", "d"), list.getEntries());
+        assertThrows(UnsupportedOperationException.class, () -> list.getEntries().add("e"));
+        assertNull(new ExecutionManager.RuntimeList(NodeType.PARAM_ITEM, null).removeFirstEntry());
+    }
+
+    @Test
+    void removesValuesInOnePass() {
+        ExecutionManager.RuntimeList list = new ExecutionManager.RuntimeList(NodeType.PARAM_ITEM,
+            List.of("stone", "dirt", "stone", "sand"));
+
+        list.removeFirstEntry();
+        list.addEntry("gravel");
+
+        assertEquals(1, list.removeEntries(Set.of("stone")));
+        assertEquals(List.of("dirt", "sand", "gravel"), list.getEntries());
+        assertEquals(0, list.removeEntries(Set.of("stone")));
+    }
+}
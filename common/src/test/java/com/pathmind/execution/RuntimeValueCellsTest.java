@@ -0,0 +1,71 @@
+package com.pathmind.execution;
+
+import com.pathmind.nodes.NodeType;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RuntimeValueCellsTest {
+    @Test
+    void resolvesTextByExactLowerAndNormalizedKey() {
+        Map<String, String> values = new HashMap<>();
+        values.put("Amount", " 12 ");
+        values.put("sourceslot", "3");
+        values.put("Block_Id", "minecraft:stone");
+        values.put("Empty", "  ");
+        RuntimeValueCells cells = new RuntimeValueCells(values);
+
+        assertEquals("12", cells.text("Amount"));
+        assertEquals("12", cells.text("amount"));
+        assertEquals("3", cells.text("SourceSlot"));
+        assertEquals("minecraft:stone", cells.text("blockid"));
+        assertEquals("", cells.text("Empty"));
+        assertEquals("", cells.text("missing"));
+    }
+
+    @Test
+    void parsesNumericCellsOnlyFromPlainDecimals() {
+        Map<String, String> values = new HashMap<>();
+        values.put("amount", "-2.5");
+        values.put("count", "1e3");
+        values.put("value", "stone");
+        RuntimeValueCells cells = new RuntimeValueCells(values);
+
+        assertEquals(-2.5, cells.number("amount"));
+        assertNull(cells.number("count"));
+        assertNull(cells.number("value"));
+        assertNull(cells.number("missing"));
+    }
+
+    @Test
+    void decodesCoordinateCellsOnceFromNumericAxes() {
+        RuntimeValueCells cells = new RuntimeValueCells(Map.of("X", "10.5", "Y", "-3.25", "Z", "7"));
+
+        assertEquals(new Vec3(10.5, -3.25, 7.0), cells.position());
+        assertSame(cells.position(), cells.position());
+        assertEquals(new BlockPos(10, -4, 7), cells.blockPosition());
+        assertSame(cells.blockPosition(), cells.blockPosition());
+
+        RuntimeValueCells relative = new RuntimeValueCells(Map.of("X", "~2", "Y", "64", "Z", "0"));
+        assertNull(relative.position());
+        assertNull(relative.blockPosition());
+    }
+
+    @Test
+    void variableDecodesCellsOnceAndKeepsValuesImmutable() {
+        ExecutionManager.RuntimeVariable variable = new ExecutionManager.RuntimeVariable(
+            NodeType.PARAM_AMOUNT, Map.of("Amount", "4"));
+
+        assertSame(variable.getCells(), variable.getCells());
+        assertEquals(4.0, variable.getCells().number("amount"));
+        assertThrows(UnsupportedOperationException.class, () -> variable.getValues().put("Amount", "5"));
+    }
+}
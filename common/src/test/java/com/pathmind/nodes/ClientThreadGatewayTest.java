@@ -0,0 +1,62 @@
+package com.pathmind.nodes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClientThreadGatewayTest {
+    @Test
+    void coalescesQueuedRequestsIntoOneDrain() throws Exception {
+        ClientThreadGateway gateway = new ClientThreadGateway();
+        List<Runnable> posted = new ArrayList<>();
+
+        CompletableFuture<Integer> first = gateway.submit(posted::add, () -> 1);
+        CompletableFuture<String> second = gateway.submit(posted::add, () -> "two");
+        CompletableFuture<Integer> third = gateway.submit(posted::add, () -> 3);
+
+        assertEquals(1, posted.size());
+        assertFalse(first.isDone());
+        posted.get(0).run();
+
+        assertEquals(1, first.get());
+        assertEquals("two", second.get());
+        assertEquals(3, third.get());
+        assertEquals(0, gateway.pendingCount());
+    }
+
+    @Test
+    void postsNewDrainAfterPreviousOneRan() {
+        ClientThreadGateway gateway = new ClientThreadGateway();
+        List<Runnable> posted = new ArrayList<>();
+
+        gateway.submit(posted::add, () -> null);
+        posted.get(0).run();
+        gateway.submit(posted::add, () -> null);
+
+        assertEquals(2, posted.size());
+    }
+
+    @Test
+    void failingRequestDoesNotStopTheDrain() throws Exception {
+        ClientThreadGateway gateway = new ClientThreadGateway();
+        List<Runnable> posted = new ArrayList<>();
+
+        CompletableFuture<Object> failing = gateway.submit(posted::add, () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Integer> after = gateway.submit(posted::add, () -> 7);
+        posted.get(0).run();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, failing::get);
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        assertEquals(7, after.get());
+    }
+}
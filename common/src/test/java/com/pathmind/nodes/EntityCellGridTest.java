@@ -0,0 +1,98 @@
+package com.pathmind.nodes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import net.minecraft.world.phys.AABB;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityCellGridTest {
+    private static final String[] TYPES = {"zombie", "item", "boat", "dragon_part"};
+
+    @Test
+    void cellLookupAgreesWithBruteForceScan() {
+        Random random = new Random(7L);
+        for (int trial = 0; trial < 30; trial++) {
+            AABB[] boxes = randomBoxes(random, 1 + random.nextInt(200));
+            EntityCellGrid<String> grid = new EntityCellGrid<>(boxes, randomTypes(random, boxes.length));
+
+            for (int query = 0; query < 20; query++) {
+                AABB box = randomBox(random, 1.0D + random.nextDouble() * 40.0D);
+                int[] candidates = grid.candidatesIn(box);
+                assertAscending(candidates);
+
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < boxes.length; i++) {
+                    if (boxes[i].intersects(box)) {
+                        expected.add(i);
+                    }
+                }
+                List<Integer> actual = new ArrayList<>();
+                for (int i : candidates) {
+                    if (grid.box(i).intersects(box)) {
+                        actual.add(i);
+                    }
+                }
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void wideBoxesAreFoundFromNeighbouringCells() {
+        AABB[] boxes = {new AABB(-20.0D, 64.0D, 0.0D, 20.0D, 70.0D, 2.0D), new AABB(100.0D, 64.0D, 100.0D, 101.0D, 65.0D, 101.0D)};
+        EntityCellGrid<String> grid = new EntityCellGrid<>(boxes, new String[]{"dragon_part", "item"});
+
+        int[] candidates = grid.candidatesIn(new AABB(17.0D, 64.0D, 0.0D, 18.0D, 65.0D, 1.0D));
+
+        assertTrue(candidates.length > 0 && candidates[0] == 0);
+    }
+
+    @Test
+    void typeLookupAgreesWithBruteForceScan() {
+        Random random = new Random(11L);
+        AABB[] boxes = randomBoxes(random, 300);
+        String[] types = randomTypes(random, boxes.length);
+        EntityCellGrid<String> grid = new EntityCellGrid<>(boxes, types);
+
+        for (String type : TYPES) {
+            int[] expected = IntStream.range(0, types.length).filter(i -> types[i].equals(type)).toArray();
+            assertArrayEquals(expected, grid.ofType(type));
+        }
+        assertArrayEquals(new int[0], grid.ofType("player"));
+    }
+
+    private static AABB[] randomBoxes(Random random, int count) {
+        AABB[] boxes = new AABB[count];
+        for (int i = 0; i < count; i++) {
+            boxes[i] = randomBox(random, 0.25D + random.nextDouble() * (random.nextInt(10) == 0 ? 12.0D : 1.5D));
+        }
+        return boxes;
+    }
+
+    private static AABB randomBox(Random random, double width) {
+        double x = random.nextDouble() * 256.0D - 128.0D;
+        double y = 40.0D + random.nextDouble() * 60.0D;
+        double z = random.nextDouble() * 256.0D - 128.0D;
+        return new AABB(x, y, z, x + width, y + width, z + width);
+    }
+
+    private static String[] randomTypes(Random random, int count) {
+        String[] types = new String[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = TYPES[random.nextInt(TYPES.length)];
+        }
+        return types;
+    }
+
+    private static void assertAscending(int[] indices) {
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(indices[i - 1] < indices[i]);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.pathmind.nodes;
+
+import java.util.Random;
+import java.util.Set;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NearestVoxelSearchTest {
+    private static final BlockPos ORIGIN = new BlockPos(5, 70, -9);
+
+    @Test
+    void agreesWithCubeScan() {
+        Random random = new Random(42L);
+        for (int trial = 0; trial < 40; trial++) {
+            int radius = 1 + random.nextInt(12);
+            long maxDistanceSq = random.nextBoolean() ? Long.MAX_VALUE : random.nextInt(radius * radius * 3 + 1);
+            long seed = random.nextLong();
+            NearestVoxelSearch.SectionFilter sections = (sectionX, sectionY, sectionZ) -> ((sectionX + sectionY + sectionZ) & 1) == 0;
+
+            BlockPos expected = null;
+            long bestDistance = Long.MAX_VALUE;
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dy = -radius; dy <= radius; dy++) {
+                    for (int dz = -radius; dz <= radius; dz++) {
+                        long distance = (long) dx * dx + (long) dy * dy + (long) dz * dz;
+                        int x = ORIGIN.getX() + dx;
+                        int y = ORIGIN.getY() + dy;
+                        int z = ORIGIN.getZ() + dz;
+                        if (distance > maxDistanceSq || distance >= bestDistance
+                            || !sections.mayContain(x >> 4, y >> 4, z >> 4) || !accepted(seed, x, y, z)) {
+                            continue;
+                        }
+                        bestDistance = distance;
+                        expected = new BlockPos(x, y, z);
+                    }
+                }
+            }
+
+            BlockPos actual = NearestVoxelSearch.findNearest(ORIGIN, radius, maxDistanceSq, sections,
+                pos -> accepted(seed, pos.getX(), pos.getY(), pos.getZ()));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void equalDistancesResolveToLowestCoordinates() {
+        Set<BlockPos> targets = Set.of(ORIGIN.offset(1, 0, 0), ORIGIN.offset(0, -1, 0), ORIGIN.offset(0, 0, 1));
+
+        BlockPos nearest = NearestVoxelSearch.findNearest(ORIGIN, 4, Long.MAX_VALUE, null,
+            pos -> targets.contains(pos.immutable()));
+
+        assertEquals(ORIGIN.offset(0, -1, 0), nearest);
+    }
+
+    @Test
+    void skippedSectionsAndDistanceLimitAreRespected() {
+        BlockPos target = ORIGIN.offset(3, 0, 0);
+
+        assertEquals(target, NearestVoxelSearch.findNearest(ORIGIN, 8, 9L, null, pos -> pos.equals(target)));
+        assertNull(NearestVoxelSearch.findNearest(ORIGIN, 8, 8L, null, pos -> pos.equals(target)));
+        assertNull(NearestVoxelSearch.findNearest(ORIGIN, 8, Long.MAX_VALUE,
+            (sectionX, sectionY, sectionZ) -> sectionX != target.getX() >> 4, pos -> pos.equals(target)));
+    }
+
+    private static boolean accepted(long seed, int x, int y, int z) {
+        long hash = seed ^ (x * 73856093L) ^ (y * 19349663L) ^ (z * 83492791L);
+        hash *= 0x9E3779B97F4A7C15L;
+        return (hash >>> 58) == 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.pathmind.nodes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class NodeParameterSchemaTest {
+
+    @Test
+    void indexedLookupMatchesNameAndIdScan() {
+        for (NodeType type : List.of(NodeType.HOTBAR, NodeType.GOTO, NodeType.COLLECT, NodeType.WAIT)) {
+            Node node = new Node(type, 0, 0);
+            for (NodeParameter parameter : node.getParameters()) {
+                assertSame(scan(node, parameter.getName()), node.getParameter(parameter.getName()));
+                assertSame(scan(node, parameter.getId()), node.getParameter(parameter.getId()));
+            }
+            assertNull(node.getParameter("NoSuchParameter"));
+        }
+    }
+
+    @Test
+    void lookupFollowsParameterListChanges() {
+        Node hotbar = new Node(NodeType.HOTBAR, 0, 0);
+        NodeParameter original = hotbar.getParameter("Slot");
+
+        NodeParameter replacement = new NodeParameter("hotbarslot", "Slot", ParameterType.INTEGER, "4");
+        hotbar.getParameters().set(0, replacement);
+        assertSame(replacement, hotbar.getParameter("Slot"));
+
+        hotbar.getParameters().remove(replacement);
+        assertNull(hotbar.getParameter("Slot"));
+
+        hotbar.getParameters().add(0, original);
+        assertSame(original, hotbar.getParameter("hotbarslot"));
+    }
+
+    @Test
+    void lookupFollowsModeChanges() {
+        Node collect = new Node(NodeType.COLLECT, 0, 0);
+        collect.getParameter("Amount");
+
+        collect.setMode(NodeMode.COLLECT_MULTIPLE);
+
+        assertSame(scan(collect, "Amount"), collect.getParameter("Amount"));
+        assertEquals("amount", NodeParameter.createDefaultId("Amount"));
+        assertEquals("hotbarslot", NodeParameter.createDefaultId("Hotbar Slot!"));
+    }
+
+    private static NodeParameter scan(Node node, String name) {
+        String normalizedId = NodeParameter.createDefaultId(name);
+        for (NodeParameter parameter : node.getParameters()) {
+            if (parameter.getName().equals(name) || parameter.getId().equals(normalizedId)) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.pathmind.nodes;
 
+import com.pathmind.execution.ExecutionManager;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -54,6 +56,21 @@ class NodeRuntimeStateTest {
         assertEquals(0, runtimeState.nextOutputSocket);
     }
 
+    @Test
+    void resetRuntimeStateClearsRuntimeValueCells() {
+        Node snapshot = new Node(NodeType.PARAM_AMOUNT, 0, 0);
+        ExecutionManager.RuntimeVariable variable = new ExecutionManager.RuntimeVariable(
+            NodeType.PARAM_AMOUNT, Map.of("Amount", "4"));
+        snapshot.setRuntimeValueCells(variable.getCells());
+        snapshot.setOwningStartNode(new Node(NodeType.START, 0, 0));
+        assertNotNull(snapshot.getRuntimeValueCells());
+
+        snapshot.resetRuntimeState();
+
+        assertNull(snapshot.getRuntimeValueCells());
+        assertNull(snapshot.getOwningStartNode());
+    }
+
     @Test
     void runtimeReadingFollowsRepeatUntilGuardSensor() {
         Node repeatUntil = new Node(NodeType.CONTROL_REPEAT_UNTIL, 0, 0);
@@ -0,0 +1,40 @@
+package com.pathmind.nodes;
+
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NodeWorldTargetResolverTest {
+
+    @Test
+    void rangeFilterKeepsExactlyTheSectionsHoldingBlocksInRange() {
+        BlockPos origin = new BlockPos(37, 70, -5);
+        double range = 21.5D;
+        double maxDistanceSq = range * range;
+        BlockPositionIndex.SectionFilter filter = NodeWorldTargetResolver.sectionsWithinRange(origin, maxDistanceSq);
+        int radius = (int) Math.ceil(range);
+
+        for (int sectionX = (origin.getX() - radius) >> 4; sectionX <= (origin.getX() + radius) >> 4; sectionX++) {
+            for (int sectionY = (origin.getY() - radius) >> 4; sectionY <= (origin.getY() + radius) >> 4; sectionY++) {
+                for (int sectionZ = (origin.getZ() - radius) >> 4; sectionZ <= (origin.getZ() + radius) >> 4; sectionZ++) {
+                    assertEquals(anyBlockInRange(origin, maxDistanceSq, sectionX, sectionY, sectionZ),
+                        filter.test(sectionX, sectionY, sectionZ), sectionX + "," + sectionY + "," + sectionZ);
+                }
+            }
+        }
+    }
+
+    private static boolean anyBlockInRange(BlockPos origin, double maxDistanceSq, int sectionX, int sectionY, int sectionZ) {
+        for (int x = sectionX << 4; x < (sectionX << 4) + 16; x++) {
+            for (int y = sectionY << 4; y < (sectionY << 4) + 16; y++) {
+                for (int z = sectionZ << 4; z < (sectionZ << 4) + 16; z++) {
+                    if (origin.distSqr(new BlockPos(x, y, z)) <= maxDistanceSq) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
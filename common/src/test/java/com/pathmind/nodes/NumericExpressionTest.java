@@ -0,0 +1,59 @@
+package com.pathmind.nodes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumericExpressionTest {
+
+    @Test
+    void evaluatesRuntimeGrammar() {
+        assertEquals(7.0, NumericExpression.evaluate("1 + 2 * 3"));
+        assertEquals(9.0, NumericExpression.evaluate("-3^2"));
+        assertEquals(0.125, NumericExpression.evaluate("2^-3"));
+        assertEquals(512.0, NumericExpression.evaluate("2^3^2"));
+        assertEquals(5.0, NumericExpression.evaluate("2--3"));
+        assertEquals(5.5, NumericExpression.evaluate(" 5. + .5 "));
+        assertEquals(42.0, NumericExpression.evaluate("42"));
+    }
+
+    @Test
+    void rejectsInvalidTextAndDivisionByZero() {
+        assertNull(NumericExpression.evaluate(""));
+        assertNull(NumericExpression.evaluate("1 +"));
+        assertNull(NumericExpression.evaluate("1..2"));
+        assertNull(NumericExpression.evaluate("4 / (2)"));
+        assertNull(NumericExpression.evaluate("4 / 0"));
+        assertNull(NumericExpression.evaluate("$x + 1"));
+    }
+
+    @Test
+    void bindsVariableReferencesToSlots() {
+        NumericExpression expression = NumericExpression.compile("$x * 2 + $count_2");
+
+        assertNotNull(expression);
+        assertTrue(expression.hasVariables());
+        assertEquals("x", expression.variables().get(0).name());
+        assertEquals(0, expression.variables().get(0).start());
+        assertEquals(2, expression.variables().get(0).end());
+        assertEquals("count_2", expression.variables().get(1).name());
+        assertEquals(13.0, expression.evaluate(new double[] {5.0, 3.0}));
+        assertEquals(-1.0, expression.evaluate(new double[] {-2.0, 3.0}));
+        assertSame(expression, NumericExpression.compile("$x * 2 + $count_2"));
+    }
+
+    @Test
+    void numberLiteralsMirrorTextualSubstitution() {
+        assertEquals(-3.0, NumericExpression.parseNumberLiteral("-3"));
+        assertEquals(5.0, NumericExpression.parseNumberLiteral("5."));
+        assertNull(NumericExpression.parseNumberLiteral("1e5"));
+        assertNull(NumericExpression.parseNumberLiteral(" 3"));
+        assertNull(NumericExpression.parseNumberLiteral("stone"));
+        assertFalse(NumericExpression.compile("1 + 1").hasVariables());
+    }
+}
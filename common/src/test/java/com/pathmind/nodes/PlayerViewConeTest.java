@@ -0,0 +1,44 @@
+package com.pathmind.nodes;
+
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerViewConeTest {
+    private static final Vec3 EYE = new Vec3(0.5, 64.0, 0.5);
+
+    @Test
+    void containsPointsWithinBothHalfAngles() {
+        PlayerViewCone view = PlayerViewCone.of(EYE, new Vec3(0.0, 0.0, 1.0), 70.0, 16.0 / 9.0);
+
+        assertTrue(view.contains(EYE.add(0.0, 0.0, 10.0)));
+        assertTrue(view.contains(EYE.add(10.0, 0.0, 10.0)));
+        assertFalse(view.contains(EYE.add(0.0, 10.0, 10.0)));
+        assertFalse(view.contains(EYE.add(0.0, 0.0, -10.0)));
+        assertTrue(view.contains(EYE));
+    }
+
+    @Test
+    void sectionTestNeverRejectsAVisiblePoint() {
+        PlayerViewCone view = PlayerViewCone.of(EYE, new Vec3(1.0, -0.3, 0.4), 90.0, 1.5);
+
+        for (int x = -80; x <= 80; x += 3) {
+            for (int y = -16; y <= 144; y += 5) {
+                for (int z = -80; z <= 80; z += 3) {
+                    if (view.contains(new Vec3(x + 0.5, y + 0.5, z + 0.5))) {
+                        assertTrue(view.mayContainSection(x >> 4, y >> 4, z >> 4));
+                    }
+                }
+            }
+        }
+        assertFalse(view.mayContainSection(-5, 4, 0));
+    }
+
+    @Test
+    void rejectsDegenerateLookDirection() {
+        assertNull(PlayerViewCone.of(EYE, Vec3.ZERO, 70.0, 1.0));
+    }
+}
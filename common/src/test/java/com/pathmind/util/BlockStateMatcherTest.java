@@ -0,0 +1,73 @@
+package com.pathmind.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockStateMatcherTest {
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    void bitsetAgreesWithSelectionMatching() {
+        List<BlockSelection> selections = List.of(
+            BlockSelection.parse("minecraft:wheat[age=7]").orElseThrow(),
+            BlockSelection.parse("oak_log").orElseThrow());
+        BlockStateMatcher matcher = BlockStateMatcher.compile(selections);
+
+        for (Block block : List.of(Blocks.WHEAT, Blocks.OAK_LOG, Blocks.STONE, Blocks.CARROTS)) {
+            for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                boolean expected = selections.stream().anyMatch(selection -> selection.matches(state));
+                assertEquals(expected, matcher.matches(state), state.toString());
+            }
+        }
+        assertFalse(matcher.matches(null));
+        assertFalse(matcher.isEmpty());
+    }
+
+    @Test
+    void cachesBySelectionText() {
+        List<BlockSelection> first = new ArrayList<>(List.of(BlockSelection.parse("stone").orElseThrow()));
+        List<BlockSelection> second = List.of(BlockSelection.parse("minecraft:stone").orElseThrow());
+
+        BlockStateMatcher matcher = BlockStateMatcher.compile(first);
+        assertSame(matcher, BlockStateMatcher.compile(second));
+        assertTrue(matcher.matches(Blocks.STONE.defaultBlockState()));
+
+        first.add(BlockSelection.parse("dirt").orElseThrow());
+        assertTrue(BlockStateMatcher.compile(first).matches(Blocks.DIRT.defaultBlockState()));
+        assertTrue(BlockStateMatcher.compile(List.of()).isEmpty());
+    }
+
+    @Test
+    void listMutatedInPlaceIsRecompiled() {
+        BlockSelection stone = BlockSelection.parse("stone").orElseThrow();
+        BlockSelection dirt = BlockSelection.parse("dirt").orElseThrow();
+        List<BlockSelection> selections = new ArrayList<>(List.of(stone));
+        assertTrue(BlockStateMatcher.compile(selections).matches(Blocks.STONE.defaultBlockState()));
+
+        selections.set(0, dirt);
+        BlockStateMatcher replaced = BlockStateMatcher.compile(selections);
+        assertTrue(replaced.matches(Blocks.DIRT.defaultBlockState()));
+        assertFalse(replaced.matches(Blocks.STONE.defaultBlockState()));
+
+        selections.clear();
+        assertTrue(BlockStateMatcher.compile(selections).isEmpty());
+        selections.add(stone);
+        assertSame(BlockStateMatcher.compile(List.of(stone)), BlockStateMatcher.compile(selections));
+    }
+}
@@ -9,6 +9,8 @@ import com.pathmind.execution.PathmindNavigator;
 import com.pathmind.marketplace.MarketplaceAuthManager;
 import com.pathmind.nodes.Node;
 import com.pathmind.nodes.NodeType;
+import com.pathmind.nodes.NodeWaitScheduler;
+import com.pathmind.nodes.SensorWorldSnapshot;
 import com.pathmind.nodes.StartLaunchMode;
 import com.pathmind.screen.PathmindMainMenuIntegration;
 import com.pathmind.screen.PathmindScreens;
@@ -183,6 +185,8 @@ public class PathmindClientMod implements ClientModInitializer {
             handleRecipeCacheWarmup(client);
             NavigatorChatSuggestions.getInstance().tick(client);
             PathmindNavigator.getInstance().tick(client);
+            SensorWorldSnapshot.capture(client);
+            NodeWaitScheduler.getInstance().tick(client);
             handlePendingClientLaunch(client);
             handlePendingWorldJoinLaunch(client);
             ServerJoinTracker.tick(client);
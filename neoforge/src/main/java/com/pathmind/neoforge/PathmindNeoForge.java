@@ -113,6 +113,9 @@ public class PathmindNeoForge {
     private Method isVisualEditorScreenMethod;
     private Object navigatorChatSuggestions;
     private Method navigatorChatSuggestionsTickMethod;
+    private Object nodeWaitScheduler;
+    private Method nodeWaitSchedulerTickMethod;
+    private Method sensorWorldSnapshotCaptureMethod;
     private Object navigatorDebugOverlay;
     private Method navigatorDebugOverlayToggleMethod;
     private Object pathmindNavigator;
@@ -264,6 +267,12 @@ public class PathmindNeoForge {
         navigatorChatSuggestions = suggestionsClass.getMethod("getInstance").invoke(null);
         navigatorChatSuggestionsTickMethod = suggestionsClass.getMethod("tick", Minecraft.class);
 
+        Class<?> waitSchedulerClass = Class.forName("com.pathmind.nodes.NodeWaitScheduler");
+        nodeWaitScheduler = waitSchedulerClass.getMethod("getInstance").invoke(null);
+        nodeWaitSchedulerTickMethod = waitSchedulerClass.getMethod("tick", Minecraft.class);
+        sensorWorldSnapshotCaptureMethod = Class.forName("com.pathmind.nodes.SensorWorldSnapshot")
+            .getMethod("capture", Minecraft.class);
+
         Class<?> navigatorClass = Class.forName("com.pathmind.execution.PathmindNavigator");
         pathmindNavigator = navigatorClass.getMethod("getInstance").invoke(null);
         pathmindNavigatorIsActiveMethod = navigatorClass.getMethod("isActive");
@@ -335,6 +344,8 @@ public class PathmindNeoForge {
         }
         invokeBridge("tick Pathmind systems", () -> {
             navigatorChatSuggestionsTickMethod.invoke(navigatorChatSuggestions, client);
+            sensorWorldSnapshotCaptureMethod.invoke(null, client);
+            nodeWaitSchedulerTickMethod.invoke(nodeWaitScheduler, client);
             serverJoinTrackerTickMethod.invoke(null, client);
         });
         handleRecipeCacheWarmup(client);